@@ -1,10 +1,30 @@
 package org.aub.payzenapi.base;
 
+import org.aub.payzenapi.pagination.PageSlice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 public class BaseController {
 
+//    conditional GET: sets ETag/Last-Modified and, when the client's copy is current, a 304
+//    the handler then returns null; single resources check before loading, lists after reading the page but before
+//    serializing it; a missing resource (null) falls through to the usual 404
+    protected boolean notModified(WebRequest request, ResourceVersion version) {
+        if (version == null) {
+            return false;
+        }
+        // Clients may keep the response but must revalidate; otherwise Spring Security sends no-store
+        if (request instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            servletRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        }
+        return request.checkNotModified(version.etag(), version.lastModifiedMillis());
+    }
+
 //    this is for no payload
     protected ResponseEntity<ApiResponse<Object>> response(String message) {
         return ResponseEntity.ok(ApiResponse.builder()
@@ -36,6 +56,18 @@ public class BaseController {
         return ResponseEntity.ok(apiResponse);
     }
 
+//    this is for list endpoints: only the page content plus PaginationResponse, not Spring's Page/Pageable/Sort structure
+    protected <T> ResponseEntity<ApiResponse<List<T>>> response(String message, PageSlice<T> page) {
+        ApiResponse<List<T>> apiResponse = ApiResponse.<List<T>>builder()
+                .success(true)
+                .status(HttpStatus.OK.value())
+                .message(message)
+                .payload(page.content())
+                .paginationResponse(PaginationResponse.of(page))
+                .build();
+        return ResponseEntity.ok(apiResponse);
+    }
+
     protected <T> ResponseEntity<ApiResponse<T>> response(String message, T payload, Integer page, Integer size, Integer totalCount) {
         ApiResponse<T> apiResponse = ApiResponse.<T>builder()
                 .success(true)
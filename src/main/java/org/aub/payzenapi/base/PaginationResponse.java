@@ -1,30 +1,46 @@
 package org.aub.payzenapi.base;
 
 import lombok.Data;
+import org.aub.payzenapi.pagination.PageSlice;
 
+/**
+ * Page numbers are 0-based, the same as the {@code page} request parameter, so
+ * nextPage/previousPage can be sent back as they are. Fields that are not known for the
+ * request are null: no nextPage on the last page, no previousPage on the first, and no
+ * total or lastPage unless the client asked for a count (or this is the last page).
+ */
 @Data
 public class PaginationResponse {
     private Integer page;
-    private Integer offset;
+    private Long offset;
     private Integer limit;
     private Integer nextPage;
     private Integer previousPage;
     private Integer firstPage;
     private Integer lastPage;
-    private Integer totalCount;
-
-    public PaginationResponse(int page, int size, int totalCount) {
-        int totalPage = (totalCount / size) + (totalCount % size > 0 ? 1 : 0);
-        int nextPage = page < totalPage ? page + 1 : page;
-        int offset = (page - 1) * size;
+    private Long totalCount;
+    private Boolean totalCountEstimated;
 
+    public PaginationResponse(int page, int size, boolean hasNext, Long totalCount, boolean estimated) {
         this.page = page;
-        this.offset = offset;
+        this.offset = (long) page * size;
         this.limit = size;
-        this.nextPage = nextPage;
-        this.previousPage = Math.max(page - 1, page);
-        this.firstPage = 1;
-        this.lastPage = totalPage;
-        this.totalCount = totalCount;
+        this.nextPage = hasNext ? page + 1 : null;
+        this.previousPage = page > 0 ? page - 1 : null;
+        this.firstPage = 0;
+        if (totalCount != null) {
+            this.lastPage = totalCount == 0 ? 0 : (int) ((totalCount - 1) / size);
+            this.totalCount = totalCount;
+            this.totalCountEstimated = estimated;
+        }
+    }
+
+    public PaginationResponse(int page, int size, long totalCount) {
+        this(page, size, (long) (page + 1) * size < totalCount, totalCount, false);
+    }
+
+    public static PaginationResponse of(PageSlice<?> slice) {
+        return new PaginationResponse(slice.page(), slice.size(), slice.hasNext(),
+                slice.totalCount(), slice.totalEstimated());
     }
 }
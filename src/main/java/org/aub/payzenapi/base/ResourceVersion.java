@@ -0,0 +1,21 @@
+package org.aub.payzenapi.base;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Validators for a conditional GET: a strong entity tag and, where the resource has a real
+ * modification time, its Last-Modified value (-1 when it has none).
+ */
+public record ResourceVersion(String etag, long lastModifiedMillis) {
+
+    public static ResourceVersion of(String etag) {
+        return new ResourceVersion(etag, -1);
+    }
+
+    public static ResourceVersion of(String etag, LocalDateTime lastModified) {
+        return new ResourceVersion(etag, lastModified != null
+                ? lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1);
+    }
+}
@@ -0,0 +1,17 @@
+package org.aub.payzenapi.cache;
+
+/**
+ * Names of the caches declared under {@code payzen.cache.specs.*}. A cache that is not
+ * declared there does not exist.
+ */
+public final class CacheNames {
+
+    public static final String OTP = "otp";
+    public static final String PRINCIPALS = "principals";
+    public static final String EMPLOYEES = "employees";
+    public static final String SUMMARIES = "summaries";
+    public static final String IDEMPOTENCY = "idempotency";
+
+    private CacheNames() {
+    }
+}
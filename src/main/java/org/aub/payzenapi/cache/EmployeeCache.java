@@ -0,0 +1,125 @@
+package org.aub.payzenapi.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aub.payzenapi.exception.ResourceNotFoundException;
+import org.aub.payzenapi.repository.EmployeeRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Employee lookups for other services: the {@code employees} cache as a near cache per
+ * replica, in front of an optional {@link SharedEmployeeCache} (Redis when
+ * {@code payzen.cache.employee.redis.enabled}), in front of the database.
+ * <p>
+ * {@link #invalidate} drops this replica's copy and the shared entry after the updating
+ * transaction commits. With the shared tier, {@link EmployeeInvalidationBroadcaster} then
+ * tells every replica to drop its copy, from the outbox. Without the shared tier the
+ * near-cache TTL bounds how stale another replica can be, so multi-replica deployments
+ * should enable Redis.
+ */
+@Slf4j
+@Component
+public class EmployeeCache {
+
+    private final EmployeeRepository employeeRepository;
+    private final ObjectProvider<SharedEmployeeCache> sharedCache;
+    private final Cache near;
+    // Bumped on every invalidation; a load that raced with one does not populate the caches
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Counter sharedHits;
+    private final Counter databaseLoads;
+
+    public EmployeeCache(EmployeeRepository employeeRepository,
+                         ObjectProvider<SharedEmployeeCache> sharedCache,
+                         CacheManager cacheManager,
+                         MeterRegistry meterRegistry) {
+        this.employeeRepository = employeeRepository;
+        this.sharedCache = sharedCache;
+        this.near = Objects.requireNonNull(cacheManager.getCache(CacheNames.EMPLOYEES),
+                "Cache '" + CacheNames.EMPLOYEES + "' is not declared under payzen.cache.specs");
+        this.sharedHits = lookups(meterRegistry, "shared");
+        this.databaseLoads = lookups(meterRegistry, "database");
+    }
+
+    /**
+     * @throws ResourceNotFoundException when there is no such employee
+     */
+    public EmployeeSnapshot get(UUID employeeId) {
+        EmployeeSnapshot cached = near.get(employeeId, EmployeeSnapshot.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = invalidations.get();
+        SharedEmployeeCache shared = sharedCache.getIfAvailable();
+        EmployeeSnapshot snapshot = shared != null ? shared.get(employeeId) : null;
+        if (snapshot != null) {
+            sharedHits.increment();
+        } else {
+            databaseLoads.increment();
+            snapshot = employeeRepository.findById(employeeId)
+                    .map(EmployeeSnapshot::of)
+                    .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + employeeId));
+            if (shared != null && invalidations.get() == generation) {
+                shared.put(snapshot);
+            }
+        }
+        if (invalidations.get() == generation) {
+            near.put(employeeId, snapshot);
+        }
+        return snapshot;
+    }
+
+    /** Drops the employee everywhere once the current transaction (if any) has committed. */
+    public void invalidate(UUID employeeId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(employeeId);
+                }
+            });
+        } else {
+            invalidateNow(employeeId);
+        }
+    }
+
+    /**
+     * Handles an invalidation from any replica, including this one. The shared entry is
+     * deleted again in case this replica wrote a copy it loaded before the update committed.
+     */
+    public void onInvalidation(UUID employeeId) {
+        invalidations.incrementAndGet();
+        near.evict(employeeId);
+        SharedEmployeeCache shared = sharedCache.getIfAvailable();
+        if (shared != null) {
+            shared.evict(employeeId);
+        }
+    }
+
+    private void invalidateNow(UUID employeeId) {
+        invalidations.incrementAndGet();
+        near.evict(employeeId);
+        SharedEmployeeCache shared = sharedCache.getIfAvailable();
+        if (shared != null) {
+            shared.evict(employeeId);
+        }
+    }
+
+    private static Counter lookups(MeterRegistry registry, String source) {
+        return Counter.builder("payzen.cache.employee.lookups")
+                .description("Employee near-cache misses by the tier that answered them")
+                .tag("source", source)
+                .register(registry);
+    }
+}
@@ -0,0 +1,32 @@
+package org.aub.payzenapi.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.aub.payzenapi.event.DomainEvent;
+import org.aub.payzenapi.event.DomainEventListener;
+import org.aub.payzenapi.model.enums.DomainEventType;
+
+/**
+ * Tells every replica to drop an updated employee, driven by the outbox so the broadcast
+ * happens at least once after the update commits, even if the updating replica dies
+ * right after the commit. A failed publish is retried by the outbox.
+ */
+@RequiredArgsConstructor
+public class EmployeeInvalidationBroadcaster implements DomainEventListener {
+
+    private final SharedEmployeeCache sharedCache;
+
+    @Override
+    public String name() {
+        return "employee-cache-invalidation";
+    }
+
+    @Override
+    public boolean supports(DomainEventType type) {
+        return type == DomainEventType.EMPLOYEE_UPDATED || type == DomainEventType.EMPLOYEE_STATUS_CHANGED;
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        sharedCache.evictAndBroadcast(event.aggregateId());
+    }
+}
@@ -0,0 +1,24 @@
+package org.aub.payzenapi.cache;
+
+import org.aub.payzenapi.model.entity.Employee;
+import org.aub.payzenapi.model.enums.EmployeeStatus;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * The employee fields other services read when recording attendance and generating
+ * payslips. Immutable, so the same instance can be shared across threads and replicas.
+ */
+public record EmployeeSnapshot(UUID employeeId, String firstName, String lastName, String department,
+                               BigDecimal baseSalary, EmployeeStatus status) {
+
+    public static EmployeeSnapshot of(Employee employee) {
+        return new EmployeeSnapshot(employee.getEmployeeId(), employee.getFirstName(), employee.getLastName(),
+                employee.getDepartment(), employee.getBaseSalary(), employee.getStatus());
+    }
+
+    public String fullName() {
+        return firstName + " " + lastName;
+    }
+}
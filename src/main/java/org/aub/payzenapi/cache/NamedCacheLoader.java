@@ -0,0 +1,13 @@
+package org.aub.payzenapi.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+
+/**
+ * Loader for a declared cache: a read that misses loads through it, and a null result is
+ * not stored. With {@code refresh-after-write}, entries are also reloaded in the background
+ * on the first read after that interval, while the old value keeps being served.
+ */
+public interface NamedCacheLoader extends CacheLoader<Object, Object> {
+
+    String cacheName();
+}
@@ -0,0 +1,23 @@
+package org.aub.payzenapi.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.aub.payzenapi.repository.AuthRepository;
+import org.springframework.stereotype.Component;
+
+/** Reloads cached principals by email; a user that no longer exists drops out of the cache. */
+@Component
+@RequiredArgsConstructor
+public class PrincipalCacheLoader implements NamedCacheLoader {
+
+    private final AuthRepository authRepository;
+
+    @Override
+    public String cacheName() {
+        return CacheNames.PRINCIPALS;
+    }
+
+    @Override
+    public Object load(Object email) {
+        return authRepository.getUserByEmail((String) email);
+    }
+}
@@ -0,0 +1,67 @@
+package org.aub.payzenapi.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Snapshots stored as JSON under {@code payzen:employee:<id>}; invalidations are published
+ * on {@link #INVALIDATION_CHANNEL} with the employee id as the message body.
+ */
+@Slf4j
+public class RedisSharedEmployeeCache implements SharedEmployeeCache {
+
+    public static final String INVALIDATION_CHANNEL = "payzen:employee:invalidations";
+    private static final String KEY_PREFIX = "payzen:employee:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public RedisSharedEmployeeCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public EmployeeSnapshot get(UUID employeeId) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + employeeId);
+            return json != null ? objectMapper.readValue(json, EmployeeSnapshot.class) : null;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Shared employee cache read failed for {}: {}", employeeId, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void put(EmployeeSnapshot snapshot) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + snapshot.employeeId(),
+                    objectMapper.writeValueAsString(snapshot), ttl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Shared employee cache write failed for {}: {}", snapshot.employeeId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(UUID employeeId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + employeeId);
+        } catch (DataAccessException e) {
+            log.warn("Shared employee cache evict failed for {}: {}", employeeId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evictAndBroadcast(UUID employeeId) {
+        redisTemplate.delete(KEY_PREFIX + employeeId);
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, employeeId.toString());
+    }
+}
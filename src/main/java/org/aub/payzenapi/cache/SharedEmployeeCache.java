@@ -0,0 +1,22 @@
+package org.aub.payzenapi.cache;
+
+import java.util.UUID;
+
+/**
+ * The tier behind {@link EmployeeCache}'s near cache that every replica shares. Failures
+ * should be logged and treated as a miss; the database is always the fallback.
+ */
+public interface SharedEmployeeCache {
+
+    EmployeeSnapshot get(UUID employeeId);
+
+    void put(EmployeeSnapshot snapshot);
+
+    void evict(UUID employeeId);
+
+    /**
+     * Removes the entry and tells every replica to drop its near-cache copy. Unlike the other
+     * methods this one throws on failure, so the outbox can retry the broadcast.
+     */
+    void evictAndBroadcast(UUID employeeId);
+}
@@ -0,0 +1,109 @@
+package org.aub.payzenapi.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aub.payzenapi.cache.CacheNames;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical concurrent reads. The first caller for a key runs the loader; callers
+ * arriving while it runs wait for the same result, and callers after it finished reuse it
+ * from the {@code summaries} cache until that expires. Failures are not cached, the next
+ * caller runs the loader again.
+ * <p>
+ * Callers are counted in {@code payzen.coalescing.calls{name, outcome}} with outcome
+ * {@code loaded}, {@code coalesced} (joined an in-flight load) or {@code cached}.
+ */
+@Component
+public class SingleFlight {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counters> counters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Cache results;
+
+    public SingleFlight(MeterRegistry meterRegistry, CacheManager cacheManager) {
+        this.meterRegistry = meterRegistry;
+        this.results = Objects.requireNonNull(cacheManager.getCache(CacheNames.SUMMARIES),
+                "Cache '" + CacheNames.SUMMARIES + "' is not declared under payzen.cache.specs");
+    }
+
+    /**
+     * @param name   what is being loaded, used as the metric tag
+     * @param key    the normalized parameters; equal keys share one load
+     * @param loader runs at most once per in-flight key
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, String key, Supplier<T> loader) {
+        String flightKey = name + '|' + key;
+        Counters counter = counters.computeIfAbsent(name, this::register);
+
+        Cache.ValueWrapper cached = results.get(flightKey);
+        if (cached != null) {
+            counter.cached.increment();
+            return (T) cached.get();
+        }
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, created);
+        if (existing != null) {
+            counter.coalesced.increment();
+            return (T) await(existing);
+        }
+        counter.loaded.increment();
+        return load(flightKey, created, loader);
+    }
+
+    private <T> T load(String flightKey, CompletableFuture<Object> flight, Supplier<T> loader) {
+        T value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(flightKey, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        // Cache before leaving the in-flight map, so a new caller always finds one of the two
+        results.put(flightKey, value);
+        inFlight.remove(flightKey, flight);
+        flight.complete(value);
+        return value;
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            // Waiters see the same exception the loading caller got
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Counters register(String name) {
+        return new Counters(counter(name, "loaded"), counter(name, "coalesced"), counter(name, "cached"));
+    }
+
+    private Counter counter(String name, String outcome) {
+        return Counter.builder("payzen.coalescing.calls")
+                .description("Callers of coalesced reads by whether they ran the load")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record Counters(Counter loaded, Counter coalesced, Counter cached) {
+    }
+}
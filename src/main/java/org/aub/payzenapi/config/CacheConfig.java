@@ -1,21 +1,67 @@
 package org.aub.payzenapi.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.aub.payzenapi.cache.NamedCacheLoader;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
-import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/**
+ * One Caffeine cache per entry under {@code payzen.cache.specs}. Every cache records stats,
+ * so actuator publishes cache.gets{result=hit|miss}, cache.evictions and cache.load.duration
+ * for each of them. A cache with a {@link NamedCacheLoader} loads misses through it.
+ * Asking for an undeclared cache returns null.
+ */
 @Configuration
+@EnableConfigurationProperties(CacheSpecProperties.class)
 public class CacheConfig {
 
     @Bean
-    public CacheManager cacheManager() {
-        SimpleCacheManager cacheManager = new SimpleCacheManager();
-        ConcurrentMapCache otpCache = new ConcurrentMapCache("otpCache");
-        cacheManager.setCaches(Collections.singletonList(otpCache));
+    public CacheManager cacheManager(CacheSpecProperties properties, List<NamedCacheLoader> loaders) {
+        Map<String, NamedCacheLoader> loadersByCache = loaders.stream()
+                .collect(Collectors.toMap(NamedCacheLoader::cacheName, Function.identity()));
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // Static mode: only the declared caches, each with its own limits
+        cacheManager.setCacheNames(properties.getSpecs().keySet());
+        properties.getSpecs().forEach((name, spec) -> {
+            Caffeine<Object, Object> builder = builder(name, spec);
+            NamedCacheLoader loader = loadersByCache.get(name);
+            if (loader != null) {
+                cacheManager.registerCustomCache(name, builder.build(loader));
+            } else if (spec.getRefreshAfterWrite() != null) {
+                throw new IllegalStateException("Cache '" + name + "' sets refresh-after-write but has no NamedCacheLoader");
+            } else {
+                cacheManager.registerCustomCache(name, builder.build());
+            }
+        });
         return cacheManager;
     }
-}
\ No newline at end of file
+
+    private static Caffeine<Object, Object> builder(String name, CacheSpecProperties.Spec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (spec.getEviction() == CacheSpecProperties.Eviction.TINY_LFU) {
+            if (spec.getMaximumSize() == null) {
+                throw new IllegalStateException("Cache '" + name + "' needs maximum-size for tiny-lfu eviction");
+            }
+            builder.maximumSize(spec.getMaximumSize());
+        }
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(spec.getExpireAfterAccess());
+        }
+        if (spec.getRefreshAfterWrite() != null) {
+            builder.refreshAfterWrite(spec.getRefreshAfterWrite());
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,36 @@
+package org.aub.payzenapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-cache limits, e.g. {@code payzen.cache.specs.otp.maximum-size=10000} and
+ * {@code payzen.cache.specs.otp.expire-after-write=5m}.
+ */
+@Data
+@ConfigurationProperties(prefix = "payzen.cache")
+public class CacheSpecProperties {
+
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    @Data
+    public static class Spec {
+        /** TINY_LFU bounds the cache at maximum-size with Caffeine's W-TinyLFU policy. */
+        private Eviction eviction = Eviction.TINY_LFU;
+        private Long maximumSize;
+        private Duration expireAfterWrite;
+        private Duration expireAfterAccess;
+        /** Needs a NamedCacheLoader for the cache. */
+        private Duration refreshAfterWrite;
+    }
+
+    public enum Eviction {
+        TINY_LFU,
+        /** No size bound; entries only leave through expiry or eviction by the application. */
+        NONE
+    }
+}
@@ -0,0 +1,21 @@
+package org.aub.payzenapi.config;
+
+import org.aub.payzenapi.datasource.HikariPoolSizingPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@ConditionalOnProperty(name = "payzen.datasource.pool.auto-size", havingValue = "true")
+public class DataSourceTuningConfig {
+
+    // Static so the post processor doesn't force early initialization of this configuration
+    @Bean
+    public static HikariPoolSizingPostProcessor hikariPoolSizingPostProcessor(Environment environment) {
+        return new HikariPoolSizingPostProcessor(
+                environment.getProperty("payzen.datasource.pool.database-cores", Integer.class, 0),
+                environment.getProperty("payzen.datasource.pool.connections-per-core", Integer.class, 2),
+                environment.getProperty("payzen.datasource.pool.max-size", Integer.class, 64));
+    }
+}
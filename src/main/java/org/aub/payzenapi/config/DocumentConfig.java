@@ -0,0 +1,30 @@
+package org.aub.payzenapi.config;
+
+import org.aub.payzenapi.document.PayslipPdfRenderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.thymeleaf.TemplateEngine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Configuration
+public class DocumentConfig {
+
+    @Bean
+    public PayslipPdfRenderer payslipPdfRenderer(
+            TemplateEngine templateEngine,
+            @Value("${payzen.pdf.font-path:}") String fontPath,
+            @Value("${payzen.pdf.max-concurrent-renders:0}") int maxConcurrentRenders) throws IOException {
+        // Load fonts and logo once at startup; every render shares them
+        byte[] font = fontPath.isBlank() ? null : Files.readAllBytes(Path.of(fontPath));
+        int permits = maxConcurrentRenders > 0 ? maxConcurrentRenders : Runtime.getRuntime().availableProcessors();
+        try (InputStream logo = new ClassPathResource("images/payzen-logo.png").getInputStream()) {
+            return new PayslipPdfRenderer(templateEngine, logo, font, permits);
+        }
+    }
+}
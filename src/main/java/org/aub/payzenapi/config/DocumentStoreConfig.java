@@ -0,0 +1,64 @@
+package org.aub.payzenapi.config;
+
+import org.aub.payzenapi.document.FileSystemDocumentStore;
+import org.aub.payzenapi.document.RenderedDocumentStore;
+import org.aub.payzenapi.document.S3DocumentStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+
+/**
+ * Picks the backend for rendered payslip PDFs from {@code payzen.documents.store}:
+ * {@code filesystem} (default), {@code s3}, or {@code none} to render on every download.
+ */
+@Configuration
+public class DocumentStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "payzen.documents.store", havingValue = "filesystem", matchIfMissing = true)
+    public RenderedDocumentStore fileSystemDocumentStore(
+            @Value("${payzen.documents.filesystem.root:${java.io.tmpdir}/payzen/documents}") String root) throws IOException {
+        return new FileSystemDocumentStore(Path.of(root));
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "payzen.documents.store", havingValue = "s3")
+    public S3Client documentS3Client(@Value("${payzen.documents.s3.region:us-east-1}") String region,
+                                     @Value("${payzen.documents.s3.endpoint:}") String endpoint,
+                                     @Value("${payzen.documents.s3.path-style-access:false}") boolean pathStyleAccess,
+                                     @Value("${payzen.documents.s3.access-key:}") String accessKey,
+                                     @Value("${payzen.documents.s3.secret-key:}") String secretKey) {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .forcePathStyle(pathStyleAccess);
+        // An endpoint override points the client at MinIO or another S3-compatible store
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        if (!accessKey.isBlank()) {
+            builder.credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)));
+        } else {
+            builder.credentialsProvider(DefaultCredentialsProvider.create());
+        }
+        return builder.build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "payzen.documents.store", havingValue = "s3")
+    public RenderedDocumentStore s3DocumentStore(S3Client documentS3Client,
+                                                 @Value("${payzen.documents.s3.bucket}") String bucket,
+                                                 @Value("${payzen.documents.s3.prefix:payslips/}") String prefix) {
+        return new S3DocumentStore(documentS3Client, bucket, prefix);
+    }
+}
@@ -0,0 +1,72 @@
+package org.aub.payzenapi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.aub.payzenapi.cache.EmployeeCache;
+import org.aub.payzenapi.cache.EmployeeInvalidationBroadcaster;
+import org.aub.payzenapi.cache.RedisSharedEmployeeCache;
+import org.aub.payzenapi.cache.SharedEmployeeCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Shared Redis tier and invalidation channel for {@link EmployeeCache}, enabled with
+ * {@code payzen.cache.employee.redis.enabled=true}. Invalidations are published from the
+ * outbox by {@link EmployeeInvalidationBroadcaster}. Redis auto-configuration stays excluded,
+ * so the connection is built here from the usual spring.data.redis.* settings.
+ */
+@Configuration
+@ConditionalOnProperty(name = "payzen.cache.employee.redis.enabled", havingValue = "true")
+public class EmployeeCacheConfig {
+
+    @Bean
+    public LettuceConnectionFactory employeeCacheConnectionFactory(
+            @Value("${spring.data.redis.host:localhost}") String host,
+            @Value("${spring.data.redis.port:6379}") int port,
+            @Value("${spring.data.redis.password:}") String password) {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(host, port);
+        if (!password.isBlank()) {
+            configuration.setPassword(password);
+        }
+        return new LettuceConnectionFactory(configuration);
+    }
+
+    @Bean
+    public StringRedisTemplate employeeCacheRedisTemplate(LettuceConnectionFactory employeeCacheConnectionFactory) {
+        return new StringRedisTemplate(employeeCacheConnectionFactory);
+    }
+
+    @Bean
+    public SharedEmployeeCache redisSharedEmployeeCache(StringRedisTemplate employeeCacheRedisTemplate,
+                                                        ObjectMapper objectMapper,
+                                                        @Value("${payzen.cache.employee.redis.ttl-ms:600000}") long ttlMs) {
+        return new RedisSharedEmployeeCache(employeeCacheRedisTemplate, objectMapper, Duration.ofMillis(ttlMs));
+    }
+
+    @Bean
+    public EmployeeInvalidationBroadcaster employeeInvalidationBroadcaster(SharedEmployeeCache redisSharedEmployeeCache) {
+        return new EmployeeInvalidationBroadcaster(redisSharedEmployeeCache);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer employeeInvalidationListener(LettuceConnectionFactory employeeCacheConnectionFactory,
+                                                                      EmployeeCache employeeCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(employeeCacheConnectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> employeeCache.onInvalidation(
+                        UUID.fromString(new String(message.getBody(), StandardCharsets.UTF_8))),
+                new ChannelTopic(RedisSharedEmployeeCache.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,40 @@
+package org.aub.payzenapi.config;
+
+import org.aub.payzenapi.monitoring.SampledSqlLogger;
+import org.aub.payzenapi.monitoring.SqlTimingInterceptor;
+import org.aub.payzenapi.monitoring.SqlTimingSessionListener;
+import org.aub.payzenapi.monitoring.SqlTimingStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MonitoringConfig {
+
+    @Bean
+    public SampledSqlLogger sampledSqlLogger(@Value("${payzen.logging.sql.sample-rate:100}") long sqlSampleRate) {
+        return new SampledSqlLogger(sqlSampleRate);
+    }
+
+    // Hooks Hibernate so the slow request detector can see each statement and its duration,
+    // and so SQL can be sampled to the debug log instead of printed by show-sql
+    @Bean
+    public HibernatePropertiesCustomizer sqlTimingCustomizer(
+            @Value("${payzen.monitoring.slow-request.enabled:true}") boolean slowRequestEnabled,
+            SampledSqlLogger sampledSqlLogger) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlTimingStatementInspector(sampledSqlLogger));
+            if (slowRequestEnabled) {
+                properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingSessionListener.class.getName());
+            }
+        };
+    }
+
+    // Same for the MyBatis read projections; the MyBatis starter registers Interceptor beans
+    @Bean
+    public SqlTimingInterceptor sqlTimingInterceptor(SampledSqlLogger sampledSqlLogger) {
+        return new SqlTimingInterceptor(sampledSqlLogger);
+    }
+}
@@ -0,0 +1,9 @@
+package org.aub.payzenapi.config;
+
+import org.mybatis.spring.annotation.MapperScan;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@MapperScan(basePackages = {"org.aub.payzenapi.repository.mybatis"})
+public class MyBatisConfig {
+}
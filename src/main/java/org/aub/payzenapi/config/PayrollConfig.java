@@ -0,0 +1,30 @@
+package org.aub.payzenapi.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.aub.payzenapi.payroll.PayrollRuleCatalog;
+import org.aub.payzenapi.payroll.PayrollRuleSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+@Configuration
+public class PayrollConfig {
+
+    @Bean
+    public PayrollRuleCatalog payrollRuleCatalog(
+            ObjectMapper objectMapper,
+            @Value("${payzen.payroll.rules-location:classpath:payroll/rules.json}") Resource rules) throws IOException {
+        // Compiled once at startup; a bad rule file fails the boot rather than the first payslip
+        try (InputStream in = rules.getInputStream()) {
+            List<PayrollRuleSet> ruleSets = objectMapper.readValue(in, new TypeReference<>() {
+            });
+            return new PayrollRuleCatalog(ruleSets);
+        }
+    }
+}
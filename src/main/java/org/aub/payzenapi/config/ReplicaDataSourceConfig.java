@@ -0,0 +1,93 @@
+package org.aub.payzenapi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aub.payzenapi.datasource.DataSourceRole;
+import org.aub.payzenapi.datasource.ReadReplicaRoutingDataSource;
+import org.aub.payzenapi.datasource.ReadYourWritesTracker;
+import org.aub.payzenapi.datasource.ReplicaHealthMonitor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Replaces the single auto-configured pool with a primary and a replica pool when
+ * {@code payzen.datasource.replica.enabled=true}. Read-only transactions are routed to
+ * the replica, everything else to the primary. Both pools pick up the usual Hikari
+ * metrics (hikaricp.connections{pool=...}) through actuator.
+ */
+@Configuration
+@ConditionalOnProperty(name = "payzen.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("payzen-primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("payzen.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${payzen.datasource.replica.url}") String url,
+                                              @Value("${payzen.datasource.replica.username:${spring.datasource.username}}") String username,
+                                              @Value("${payzen.datasource.replica.password:${spring.datasource.password}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("payzen-replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${payzen.datasource.replica.sticky-window-ms:5000}") long stickyWindowMs,
+            @Value("${payzen.datasource.replica.max-sticky-sessions:10000}") int maxSessions) {
+        return new ReadYourWritesTracker(stickyWindowMs, maxSessions);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaHealthMonitor replicaHealthMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${payzen.datasource.replica.health-check-interval-ms:5000}") long checkIntervalMs,
+            @Value("${payzen.datasource.replica.validation-timeout-seconds:2}") int validationTimeoutSeconds) {
+        return new ReplicaHealthMonitor(replicaDataSource, checkIntervalMs, validationTimeoutSeconds);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 ReplicaHealthMonitor replicaHealthMonitor,
+                                 MeterRegistry meterRegistry) {
+        ReadReplicaRoutingDataSource routingDataSource =
+                new ReadReplicaRoutingDataSource(readYourWritesTracker, replicaHealthMonitor, meterRegistry);
+        routingDataSource.setTargetDataSources(Map.<Object, Object>of(
+                DataSourceRole.PRIMARY, primaryDataSource,
+                DataSourceRole.REPLICA, replicaDataSource
+        ));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        // Defer fetching the physical connection until the transaction's read-only flag is set
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
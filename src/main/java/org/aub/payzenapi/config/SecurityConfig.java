@@ -35,8 +35,12 @@ public class SecurityConfig {
                                 "/configuration/ui",
                                 "/configuration/security",
                                 "/webjars/**",
-                                "/swagger-ui.html"
+                                "/swagger-ui.html",
+                                "/ws/**" // WebSocket handshake; STOMP CONNECT carries the JWT
                         ).permitAll()
+                        // Health for load balancers; other actuator endpoints expose captured SQL and can clear caches
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // User management - ADMIN only
                         .requestMatchers("/api/v1/users/**").hasRole("ADMIN")
                         // Other API endpoints - ADMIN or USER
@@ -0,0 +1,76 @@
+package org.aub.payzenapi.config;
+
+import org.aub.payzenapi.realtime.StompAuthChannelInterceptor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+/**
+ * STOMP over WebSocket at {@code /ws} for live dashboard updates. Each session gets a
+ * bounded send buffer and send time limit: a dashboard that cannot keep up is
+ * disconnected (and reconnects) instead of holding messages in memory for everyone.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final TaskScheduler taskScheduler;
+
+    public WebSocketConfig(StompAuthChannelInterceptor stompAuthChannelInterceptor,
+                           @Qualifier("taskScheduler") TaskScheduler taskScheduler) {
+        this.stompAuthChannelInterceptor = stompAuthChannelInterceptor;
+        this.taskScheduler = taskScheduler;
+    }
+
+    // The handshake carries no credentials of its own, so only the frontend may open it
+    @Value("${payzen.realtime.allowed-origins:${payzen.frontend.origin}}")
+    private String[] allowedOrigins;
+
+    @Value("${payzen.realtime.send-buffer-size-bytes:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${payzen.realtime.send-time-limit-ms:10000}")
+    private int sendTimeLimit;
+
+    @Value("${payzen.realtime.heartbeat-ms:20000}")
+    private long heartbeatMs;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws").setAllowedOriginPatterns(allowedOrigins);
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic")
+                .setHeartbeatValue(new long[]{heartbeatMs, heartbeatMs})
+                .setTaskScheduler(taskScheduler);
+        registry.setApplicationDestinationPrefixes("/app");
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimit)
+                .setMessageSizeLimit(64 * 1024);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        int threads = Runtime.getRuntime().availableProcessors() * 2;
+        registration.taskExecutor().corePoolSize(threads).maxPoolSize(threads);
+    }
+}
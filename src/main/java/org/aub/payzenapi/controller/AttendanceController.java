@@ -10,8 +10,11 @@ import org.aub.payzenapi.base.BaseController;
 import org.aub.payzenapi.model.dto.request.AttendanceRequest;
 import org.aub.payzenapi.model.dto.response.AttendanceResponse;
 import org.aub.payzenapi.model.enums.AttendanceStatus;
+import org.aub.payzenapi.pagination.CountMode;
+import org.aub.payzenapi.pagination.PageSlice;
 import org.aub.payzenapi.service.AttendanceService;
-import org.springframework.data.domain.Page;
+import org.aub.payzenapi.service.ResourceVersionService;
+import org.aub.payzenapi.utils.WorkedTime;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -19,9 +22,10 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -32,6 +36,7 @@ import java.util.UUID;
 public class AttendanceController extends BaseController {
 
     private final AttendanceService attendanceService;
+    private final ResourceVersionService resourceVersionService;
 
     @PostMapping
     @Operation(summary = "Record attendance", description = "Records attendance for an employee")
@@ -44,7 +49,11 @@ public class AttendanceController extends BaseController {
     @GetMapping("/{attendanceId}")
     @Operation(summary = "Get attendance by ID", description = "Retrieves attendance record by its unique identifier")
     public ResponseEntity<ApiResponse<AttendanceResponse>> getAttendanceById(
-            @Parameter(description = "Attendance unique identifier") @PathVariable UUID attendanceId) {
+            @Parameter(description = "Attendance unique identifier") @PathVariable UUID attendanceId,
+            WebRequest webRequest) {
+        if (notModified(webRequest, resourceVersionService.getAttendanceVersion(attendanceId))) {
+            return null;
+        }
         AttendanceResponse attendance = attendanceService.getAttendanceById(attendanceId);
         return response("Attendance retrieved successfully", attendance);
     }
@@ -59,25 +68,35 @@ public class AttendanceController extends BaseController {
     }
 
     @GetMapping
-    @Operation(summary = "Get attendance records", description = "Retrieves attendance records with optional filtering and pagination")
-    public ResponseEntity<ApiResponse<Page<AttendanceResponse>>> getAttendanceRecords(
+    @Operation(summary = "Get attendance records", description = "Retrieves attendance records with optional filtering and pagination. " +
+            "Without dates, only the 12 months up to the end of next month are returned " +
+            "(payzen.attendance.query.default-range-months); pass startDate for older records")
+    public ResponseEntity<ApiResponse<List<AttendanceResponse>>> getAttendanceRecords(
             @Parameter(description = "Filter by employee ID") @RequestParam(required = false) UUID employeeId,
-            @Parameter(description = "Filter by start date") @RequestParam(required = false)
+            @Parameter(description = "Filter by start date; defaults to 12 months before the end date")
+            @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @Parameter(description = "Filter by end date") @RequestParam(required = false)
+            @Parameter(description = "Filter by end date; defaults to the end of next month")
+            @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @Parameter(description = "Filter by attendance status") @RequestParam(required = false) AttendanceStatus status,
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Sort field") @RequestParam(defaultValue = "attendanceDate") String sortBy,
-            @Parameter(description = "Sort direction (asc/desc)") @RequestParam(defaultValue = "desc") String sortDir) {
+            @Parameter(description = "Sort direction (asc/desc)") @RequestParam(defaultValue = "desc") String sortDir,
+            @Parameter(description = "Total count: none, estimate or exact") @RequestParam(defaultValue = "none") String count,
+            WebRequest webRequest) {
 
+        CountMode countMode = CountMode.from(count);
         Sort sort = sortDir.equalsIgnoreCase("desc") ?
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<AttendanceResponse> attendances = attendanceService.getAttendanceRecords(
-                employeeId, startDate, endDate, status, pageable);
+        PageSlice<AttendanceResponse> attendances = attendanceService.getAttendanceRecords(
+                employeeId, startDate, endDate, status, pageable, countMode);
+        if (notModified(webRequest, resourceVersionService.getAttendancesVersion(attendances, pageable))) {
+            return null;
+        }
         return response("Attendance records retrieved successfully", attendances);
     }
 
@@ -106,28 +125,31 @@ public class AttendanceController extends BaseController {
             @Parameter(description = "End date") @RequestParam
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
 
-        BigDecimal totalHours = attendanceService.getTotalHoursWorkedByEmployee(employeeId, startDate, endDate);
+        long totalMinutes = attendanceService.getTotalMinutesWorkedByEmployee(employeeId, startDate, endDate);
         var result = Map.of(
                 "employeeId", employeeId,
                 "startDate", startDate,
                 "endDate", endDate,
-                "totalHours", totalHours
+                "totalHours", WorkedTime.toHours(totalMinutes),
+                "totalMinutes", totalMinutes
         );
         return response("Total hours calculated successfully", result);
     }
 
     @GetMapping("/today")
     @Operation(summary = "Get today's attendance", description = "Retrieves attendance records for today")
-    public ResponseEntity<ApiResponse<Page<AttendanceResponse>>> getTodayAttendance(
+    public ResponseEntity<ApiResponse<List<AttendanceResponse>>> getTodayAttendance(
             @Parameter(description = "Filter by attendance status") @RequestParam(required = false) AttendanceStatus status,
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Total count: none, estimate or exact") @RequestParam(defaultValue = "none") String count) {
 
+        CountMode countMode = CountMode.from(count);
         LocalDate today = LocalDate.now();
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
 
-        Page<AttendanceResponse> attendances = attendanceService.getAttendanceRecords(
-                null, today, today, status, pageable);
+        PageSlice<AttendanceResponse> attendances = attendanceService.getAttendanceRecords(
+                null, today, today, status, pageable, countMode);
         return response("Today's attendance retrieved successfully", attendances);
     }
 }
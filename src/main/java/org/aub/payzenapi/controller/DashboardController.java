@@ -6,6 +6,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.aub.payzenapi.base.ApiResponse;
 import org.aub.payzenapi.base.BaseController;
+import org.aub.payzenapi.coalescing.SingleFlight;
 import org.aub.payzenapi.model.enums.AttendanceStatus;
 import org.aub.payzenapi.model.enums.EmployeeStatus;
 import org.aub.payzenapi.service.AttendanceService;
@@ -28,18 +29,25 @@ public class DashboardController extends BaseController {
     private final EmployeeService employeeService;
     private final AttendanceService attendanceService;
     private final PayslipService payslipService;
+    private final SingleFlight singleFlight;
 
     @GetMapping("/stats")
     @Operation(summary = "Get dashboard statistics", description = "Retrieves comprehensive dashboard statistics")
     public ResponseEntity<ApiResponse<Object>> getDashboardStats() {
-        var stats = Map.of(
+        Object stats = singleFlight.execute("dashboard.stats", "", this::dashboardStats);
+        return response("Dashboard statistics retrieved successfully", stats);
+    }
+
+    private Map<String, Object> dashboardStats() {
+        long active = employeeService.getEmployeeCountByStatus(EmployeeStatus.ACTIVE);
+        long inactive = employeeService.getEmployeeCountByStatus(EmployeeStatus.INACTIVE);
+        long onLeave = employeeService.getEmployeeCountByStatus(EmployeeStatus.ON_LEAVE);
+        return Map.of(
                 "employees", Map.of(
-                        "total", employeeService.getEmployeeCountByStatus(EmployeeStatus.ACTIVE) +
-                                 employeeService.getEmployeeCountByStatus(EmployeeStatus.INACTIVE) +
-                                 employeeService.getEmployeeCountByStatus(EmployeeStatus.ON_LEAVE),
-                        "active", employeeService.getEmployeeCountByStatus(EmployeeStatus.ACTIVE),
-                        "inactive", employeeService.getEmployeeCountByStatus(EmployeeStatus.INACTIVE),
-                        "onLeave", employeeService.getEmployeeCountByStatus(EmployeeStatus.ON_LEAVE),
+                        "total", active + inactive + onLeave,
+                        "active", active,
+                        "inactive", inactive,
+                        "onLeave", onLeave,
                         "terminated", employeeService.getEmployeeCountByStatus(EmployeeStatus.TERMINATED)
                 ),
                 "attendance", Map.of(
@@ -51,23 +59,27 @@ public class DashboardController extends BaseController {
                         "message", "Payroll statistics for current month"
                 )
         );
-        return response("Dashboard statistics retrieved successfully", stats);
     }
 
     @GetMapping("/employee-stats")
     @Operation(summary = "Get employee statistics", description = "Retrieves detailed employee statistics")
     public ResponseEntity<ApiResponse<Object>> getEmployeeStats() {
-        var stats = Map.of(
-                "totalEmployees", employeeService.getEmployeeCountByStatus(EmployeeStatus.ACTIVE) +
-                                  employeeService.getEmployeeCountByStatus(EmployeeStatus.INACTIVE) +
-                                  employeeService.getEmployeeCountByStatus(EmployeeStatus.ON_LEAVE),
-                "activeEmployees", employeeService.getEmployeeCountByStatus(EmployeeStatus.ACTIVE),
-                "inactiveEmployees", employeeService.getEmployeeCountByStatus(EmployeeStatus.INACTIVE),
-                "employeesOnLeave", employeeService.getEmployeeCountByStatus(EmployeeStatus.ON_LEAVE),
+        Object stats = singleFlight.execute("dashboard.employee-stats", "", this::employeeStats);
+        return response("Employee statistics retrieved successfully", stats);
+    }
+
+    private Map<String, Object> employeeStats() {
+        long active = employeeService.getEmployeeCountByStatus(EmployeeStatus.ACTIVE);
+        long inactive = employeeService.getEmployeeCountByStatus(EmployeeStatus.INACTIVE);
+        long onLeave = employeeService.getEmployeeCountByStatus(EmployeeStatus.ON_LEAVE);
+        return Map.of(
+                "totalEmployees", active + inactive + onLeave,
+                "activeEmployees", active,
+                "inactiveEmployees", inactive,
+                "employeesOnLeave", onLeave,
                 "terminatedEmployees", employeeService.getEmployeeCountByStatus(EmployeeStatus.TERMINATED),
                 "lastUpdated", LocalDateTime.now()
         );
-        return response("Employee statistics retrieved successfully", stats);
     }
 
     @GetMapping("/attendance-stats")
@@ -10,14 +10,17 @@ import org.aub.payzenapi.base.BaseController;
 import org.aub.payzenapi.model.dto.request.EmployeeRequest;
 import org.aub.payzenapi.model.dto.response.EmployeeResponse;
 import org.aub.payzenapi.model.enums.EmployeeStatus;
+import org.aub.payzenapi.pagination.CountMode;
+import org.aub.payzenapi.pagination.PageSlice;
 import org.aub.payzenapi.service.EmployeeService;
-import org.springframework.data.domain.Page;
+import org.aub.payzenapi.service.ResourceVersionService;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -30,6 +33,7 @@ import java.util.UUID;
 public class EmployeeController extends BaseController {
 
     private final EmployeeService employeeService;
+    private final ResourceVersionService resourceVersionService;
 
     @PostMapping
     @Operation(summary = "Create a new employee", description = "Creates a new employee record in the system")
@@ -42,7 +46,11 @@ public class EmployeeController extends BaseController {
     @GetMapping("/{employeeId}")
     @Operation(summary = "Get employee by ID", description = "Retrieves an employee by their unique identifier")
     public ResponseEntity<ApiResponse<EmployeeResponse>> getEmployeeById(
-            @Parameter(description = "Employee unique identifier") @PathVariable UUID employeeId) {
+            @Parameter(description = "Employee unique identifier") @PathVariable UUID employeeId,
+            WebRequest webRequest) {
+        if (notModified(webRequest, resourceVersionService.getEmployeeVersion(employeeId))) {
+            return null;
+        }
         EmployeeResponse employee = employeeService.getEmployeeById(employeeId);
         return response("Employee retrieved successfully", employee);
     }
@@ -66,20 +74,22 @@ public class EmployeeController extends BaseController {
 
     @GetMapping
     @Operation(summary = "Get all employees", description = "Retrieves all employees with optional filtering and pagination")
-    public ResponseEntity<ApiResponse<Page<EmployeeResponse>>> getAllEmployees(
+    public ResponseEntity<ApiResponse<List<EmployeeResponse>>> getAllEmployees(
             @Parameter(description = "Filter by employee name") @RequestParam(required = false) String name,
             @Parameter(description = "Filter by department") @RequestParam(required = false) String department,
             @Parameter(description = "Filter by employee status") @RequestParam(required = false) EmployeeStatus status,
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Sort field") @RequestParam(defaultValue = "createdAt") String sortBy,
-            @Parameter(description = "Sort direction (asc/desc)") @RequestParam(defaultValue = "desc") String sortDir) {
+            @Parameter(description = "Sort direction (asc/desc)") @RequestParam(defaultValue = "desc") String sortDir,
+            @Parameter(description = "Total count: none, estimate or exact") @RequestParam(defaultValue = "none") String count) {
 
+        CountMode countMode = CountMode.from(count);
         Sort sort = sortDir.equalsIgnoreCase("desc") ?
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<EmployeeResponse> employees = employeeService.getAllEmployees(name, department, status, pageable);
+        PageSlice<EmployeeResponse> employees = employeeService.getAllEmployees(name, department, status, pageable, countMode);
         return response("Employees retrieved successfully", employees);
     }
 
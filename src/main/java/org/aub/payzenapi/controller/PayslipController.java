@@ -3,20 +3,38 @@ package org.aub.payzenapi.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.aub.payzenapi.base.ApiResponse;
 import org.aub.payzenapi.base.BaseController;
+import org.aub.payzenapi.coalescing.SingleFlight;
+import org.aub.payzenapi.config.AsyncRequestTimeoutConfig;
+import org.aub.payzenapi.model.dto.request.PayrollSimulationRequest;
+import org.aub.payzenapi.model.dto.response.PayrollSimulationResponse;
 import org.aub.payzenapi.model.dto.response.PayslipResponse;
+import org.aub.payzenapi.model.dto.response.PayslipSummaryResponse;
 import org.aub.payzenapi.model.enums.PayslipStatus;
+import org.aub.payzenapi.pagination.CountMode;
+import org.aub.payzenapi.pagination.PageSlice;
+import org.aub.payzenapi.service.PayrollSimulationService;
+import org.aub.payzenapi.service.PayslipArchiveService;
+import org.aub.payzenapi.service.PayslipDocumentService;
 import org.aub.payzenapi.service.PayslipService;
-import org.springframework.data.domain.Page;
+import org.aub.payzenapi.service.ResourceVersionService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -30,6 +48,14 @@ import java.util.UUID;
 public class PayslipController extends BaseController {
 
     private final PayslipService payslipService;
+    private final PayslipDocumentService payslipDocumentService;
+    private final PayslipArchiveService payslipArchiveService;
+    private final PayrollSimulationService payrollSimulationService;
+    private final ResourceVersionService resourceVersionService;
+    private final SingleFlight singleFlight;
+
+    @Value("${payzen.pdf.archive.request-timeout-ms:600000}")
+    private long archiveRequestTimeoutMs;
 
     @PostMapping("/generate/{employeeId}")
     @Operation(summary = "Generate payslip", description = "Generates a payslip for an employee for a specific period")
@@ -47,14 +73,60 @@ public class PayslipController extends BaseController {
     @GetMapping("/{payslipId}")
     @Operation(summary = "Get payslip by ID", description = "Retrieves a payslip by its unique identifier")
     public ResponseEntity<ApiResponse<PayslipResponse>> getPayslipById(
-            @Parameter(description = "Payslip unique identifier") @PathVariable UUID payslipId) {
+            @Parameter(description = "Payslip unique identifier") @PathVariable UUID payslipId,
+            WebRequest webRequest) {
+        if (notModified(webRequest, resourceVersionService.getPayslipVersion(payslipId))) {
+            return null;
+        }
         PayslipResponse payslip = payslipService.getPayslipById(payslipId);
         return response("Payslip retrieved successfully", payslip);
     }
 
+    @GetMapping(value = "/{payslipId}/pdf", produces = MediaType.APPLICATION_PDF_VALUE)
+    @Operation(summary = "Download payslip PDF", description = "Renders a payslip as a PDF document")
+    public ResponseEntity<StreamingResponseBody> getPayslipPdf(
+            @Parameter(description = "Payslip unique identifier") @PathVariable UUID payslipId) {
+        // Look the payslip up first so a missing one is a 404, not a broken download
+        PayslipResponse payslip = payslipService.getPayslipById(payslipId);
+        StreamingResponseBody body = out -> payslipDocumentService.writePayslipPdf(payslip, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("payslip-" + payslipId + ".pdf")
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @GetMapping(value = "/archive", produces = "application/zip")
+    @Operation(summary = "Download payslip archive", description = "Streams a ZIP of payslip PDFs for a period, optionally for one department")
+    public ResponseEntity<StreamingResponseBody> getPayslipArchive(
+            @Parameter(description = "Pay period start date and time") @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime payPeriodStart,
+            @Parameter(description = "Pay period end date and time") @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime payPeriodEnd,
+            @Parameter(description = "Department filter (optional)") @RequestParam(required = false) String department,
+            WebRequest webRequest) {
+
+        webRequest.setAttribute(AsyncRequestTimeoutConfig.TIMEOUT_ATTRIBUTE, archiveRequestTimeoutMs, RequestAttributes.SCOPE_REQUEST);
+        StreamingResponseBody body = out ->
+                payslipArchiveService.writePayslipArchive(payPeriodStart, payPeriodEnd, department, out);
+        String filename = "payslips-" + payPeriodStart.toLocalDate()
+                + (department != null ? "-" + department.replaceAll("[^A-Za-z0-9]+", "_") : "") + ".zip";
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(filename)
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @GetMapping
     @Operation(summary = "Get payslips", description = "Retrieves payslips with optional filtering and pagination")
-    public ResponseEntity<ApiResponse<Page<PayslipResponse>>> getPayslips(
+    public ResponseEntity<ApiResponse<List<PayslipResponse>>> getPayslips(
             @Parameter(description = "Filter by employee ID") @RequestParam(required = false) UUID employeeId,
             @Parameter(description = "Filter by start date") @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
@@ -64,21 +136,31 @@ public class PayslipController extends BaseController {
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Sort field") @RequestParam(defaultValue = "createdAt") String sortBy,
-            @Parameter(description = "Sort direction (asc/desc)") @RequestParam(defaultValue = "desc") String sortDir) {
+            @Parameter(description = "Sort direction (asc/desc)") @RequestParam(defaultValue = "desc") String sortDir,
+            @Parameter(description = "Total count: none, estimate or exact") @RequestParam(defaultValue = "none") String count,
+            WebRequest webRequest) {
 
+        CountMode countMode = CountMode.from(count);
         Sort sort = sortDir.equalsIgnoreCase("desc") ?
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<PayslipResponse> payslips = payslipService.getPayslips(employeeId, startDate, endDate, status, pageable);
+        PageSlice<PayslipResponse> payslips = payslipService.getPayslips(employeeId, startDate, endDate, status, pageable, countMode);
+        if (notModified(webRequest, resourceVersionService.getPayslipsVersion(payslips, pageable))) {
+            return null;
+        }
         return response("Payslips retrieved successfully", payslips);
     }
 
     @GetMapping("/employee/{employeeId}")
     @Operation(summary = "Get employee payslips", description = "Retrieves all payslips for a specific employee")
     public ResponseEntity<ApiResponse<List<PayslipResponse>>> getEmployeePayslips(
-            @Parameter(description = "Employee unique identifier") @PathVariable UUID employeeId) {
+            @Parameter(description = "Employee unique identifier") @PathVariable UUID employeeId,
+            WebRequest webRequest) {
         List<PayslipResponse> payslips = payslipService.getPayslipsByEmployee(employeeId);
+        if (notModified(webRequest, resourceVersionService.getEmployeePayslipsVersion(payslips))) {
+            return null;
+        }
         return response("Employee payslips retrieved successfully", payslips);
     }
 
@@ -110,22 +192,24 @@ public class PayslipController extends BaseController {
         return response("Bulk payslip generation initiated successfully", result);
     }
 
+    @PostMapping("/simulate")
+    @Operation(summary = "Simulate payroll scenarios", description = "Evaluates alternative payroll rules against the current ones for a period without generating payslips")
+    public ResponseEntity<ApiResponse<PayrollSimulationResponse>> simulatePayroll(
+            @Valid @RequestBody PayrollSimulationRequest request) {
+        PayrollSimulationResponse simulation = payrollSimulationService.simulate(request);
+        return response("Payroll simulation completed successfully", simulation);
+    }
+
     @GetMapping("/summary")
     @Operation(summary = "Get payslip summary", description = "Retrieves payslip summary statistics")
-    public ResponseEntity<ApiResponse<Object>> getPayslipSummary(
+    public ResponseEntity<ApiResponse<PayslipSummaryResponse>> getPayslipSummary(
             @Parameter(description = "Filter by start date") @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @Parameter(description = "Filter by end date") @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
 
-        // This would be implemented in the service layer
-        var summary = Map.of(
-                "totalPayslips", 0,
-                "totalGrossSalary", 0.0,
-                "totalNetSalary", 0.0,
-                "totalTaxDeductions", 0.0,
-                "averageSalary", 0.0
-        );
+        PayslipSummaryResponse summary = singleFlight.execute("payslips.summary", startDate + "|" + endDate,
+                () -> payslipService.getPayslipSummary(startDate, endDate));
         return response("Payslip summary retrieved successfully", summary);
     }
 }
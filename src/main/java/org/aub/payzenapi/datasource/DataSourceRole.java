@@ -0,0 +1,6 @@
+package org.aub.payzenapi.datasource;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,54 @@
+package org.aub.payzenapi.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+/**
+ * Sizes Hikari pools that have no explicit {@code maximum-pool-size} from the database
+ * server's cores instead of Hikari's fixed default of 10, using the usual
+ * (cores * connectionsPerCore) + 1 rule. Pools configured through
+ * {@code spring.datasource.hikari.*} or {@code payzen.datasource.replica.hikari.*} are
+ * left alone, and so is {@code minimum-idle}. Runs after the pool's properties have been
+ * bound, and before the pool is started.
+ */
+@Slf4j
+public class HikariPoolSizingPostProcessor implements BeanPostProcessor, Ordered {
+
+    private final int databaseCores;
+    private final int connectionsPerCore;
+    private final int maxPoolSize;
+
+    /**
+     * @param databaseCores cores of the database server; 0 falls back to this host's cores,
+     *                      which is only right when the database runs on a similar machine
+     */
+    public HikariPoolSizingPostProcessor(int databaseCores, int connectionsPerCore, int maxPoolSize) {
+        this.databaseCores = databaseCores;
+        this.connectionsPerCore = connectionsPerCore;
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        // Hikari keeps -1 until the pool starts when no size was configured
+        if (bean instanceof HikariDataSource dataSource && dataSource.getMaximumPoolSize() < 1) {
+            int cores = databaseCores > 0 ? databaseCores : Runtime.getRuntime().availableProcessors();
+            int size = Math.min(maxPoolSize, cores * connectionsPerCore + 1);
+            dataSource.setMaximumPoolSize(size);
+            if (databaseCores > 0) {
+                log.info("Sized connection pool {} to {} connections for {} database cores", beanName, size, cores);
+            } else {
+                log.warn("Sized connection pool {} to {} connections from this host's {} cores; "
+                        + "set payzen.datasource.pool.database-cores to size it for the database", beanName, size, cores);
+            }
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,91 @@
+package org.aub.payzenapi.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to the replica pool and everything else to the primary.
+ * <p>
+ * Must sit behind a {@code LazyConnectionDataSourceProxy} so the connection is only
+ * fetched once the transaction's read-only flag is known. After a session writes, its
+ * reads stay on the primary for the configured window (read-your-writes), and all reads
+ * go to the primary while {@link ReplicaHealthMonitor} reports the replica as down.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadYourWritesTracker tracker;
+    private final ReplicaHealthMonitor healthMonitor;
+    private final Counter writes;
+    private final Counter replicaReads;
+    private final Counter stickyReads;
+    private final Counter fallbackReads;
+
+    public ReadReplicaRoutingDataSource(ReadYourWritesTracker tracker,
+                                        ReplicaHealthMonitor healthMonitor,
+                                        MeterRegistry meterRegistry) {
+        this.tracker = tracker;
+        this.healthMonitor = healthMonitor;
+        this.writes = routeCounter(meterRegistry, DataSourceRole.PRIMARY, "write");
+        this.replicaReads = routeCounter(meterRegistry, DataSourceRole.REPLICA, "read");
+        this.stickyReads = routeCounter(meterRegistry, DataSourceRole.PRIMARY, "sticky-read");
+        this.fallbackReads = routeCounter(meterRegistry, DataSourceRole.PRIMARY, "replica-unavailable");
+        meterRegistry.gauge("payzen.datasource.replica.healthy", healthMonitor, monitor -> monitor.isHealthy() ? 1 : 0);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String session = currentSession();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                recordWrite(session);
+            }
+            writes.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        if (!healthMonitor.isHealthy()) {
+            fallbackReads.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        if (tracker.isSticky(session)) {
+            stickyReads.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        replicaReads.increment();
+        return DataSourceRole.REPLICA;
+    }
+
+    private void recordWrite(String session) {
+        if (session == null) {
+            return;
+        }
+        tracker.recordWrite(session);
+        // Restart the window at commit so long transactions don't outlive it
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tracker.recordWrite(session);
+                }
+            });
+        }
+    }
+
+    private static String currentSession() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+
+    private static Counter routeCounter(MeterRegistry registry, DataSourceRole role, String reason) {
+        return Counter.builder("payzen.datasource.routing")
+                .description("Connections routed per pool")
+                .tag("pool", role.name().toLowerCase())
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
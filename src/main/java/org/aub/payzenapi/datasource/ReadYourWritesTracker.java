@@ -0,0 +1,47 @@
+package org.aub.payzenapi.datasource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers which sessions wrote recently so their reads can stay on the primary until
+ * the replica has had time to catch up.
+ */
+public class ReadYourWritesTracker {
+
+    private final long stickyWindowNanos;
+    private final int maxSessions;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(long stickyWindowMs, int maxSessions) {
+        this.stickyWindowNanos = TimeUnit.MILLISECONDS.toNanos(stickyWindowMs);
+        this.maxSessions = maxSessions;
+    }
+
+    public void recordWrite(String session) {
+        if (session == null || stickyWindowNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        lastWrites.put(session, now);
+        if (lastWrites.size() > maxSessions) {
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt > stickyWindowNanos);
+        }
+    }
+
+    public boolean isSticky(String session) {
+        if (session == null) {
+            return false;
+        }
+        Long writtenAt = lastWrites.get(session);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt > stickyWindowNanos) {
+            lastWrites.remove(session, writtenAt);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,58 @@
+package org.aub.payzenapi.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically validates a replica connection. While the replica is down, read-only
+ * transactions fall back to the primary.
+ */
+@Slf4j
+public class ReplicaHealthMonitor implements AutoCloseable {
+
+    private final DataSource replica;
+    private final int validationTimeoutSeconds;
+    private final ScheduledExecutorService scheduler;
+    private volatile boolean healthy = true;
+
+    public ReplicaHealthMonitor(DataSource replica, long checkIntervalMs, int validationTimeoutSeconds) {
+        this.replica = replica;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::check, checkIntervalMs, checkIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    void setHealthy(boolean healthy) {
+        if (this.healthy != healthy) {
+            log.warn("Read replica is now {}", healthy ? "healthy" : "unavailable, routing reads to primary");
+        }
+        this.healthy = healthy;
+    }
+
+    private void check() {
+        try (Connection connection = replica.getConnection()) {
+            setHealthy(connection.isValid(validationTimeoutSeconds));
+        } catch (Exception e) {
+            log.debug("Replica health check failed", e);
+            setHealthy(false);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,65 @@
+package org.aub.payzenapi.document;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.*;
+
+/**
+ * Stores documents under {@code root/<first two key chars after the prefix>/<key>.pdf}.
+ * Writes go to a temporary file that is atomically moved into place, so a reader never
+ * sees a partial document. Reads stream the file into the caller's stream through a small
+ * fixed buffer; a servlet OutputStream has no channel the OS could send the file to
+ * directly, so this is not zero-copy, but it never loads a whole PDF onto the heap.
+ */
+public class FileSystemDocumentStore implements RenderedDocumentStore {
+
+    private final Path root;
+
+    public FileSystemDocumentStore(Path root) throws IOException {
+        this.root = Files.createDirectories(root);
+    }
+
+    @Override
+    public boolean copyTo(String key, OutputStream out) throws IOException {
+        Path path = pathOf(key);
+        InputStream in;
+        try {
+            in = Files.newInputStream(path);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+        try (in) {
+            in.transferTo(out);
+            return true;
+        }
+    }
+
+    @Override
+    public void put(String key, byte[] content) throws IOException {
+        Path path = pathOf(key);
+        Files.createDirectories(path.getParent());
+        Path temp = Files.createTempFile(path.getParent(), key, ".tmp");
+        try {
+            Files.write(temp, content);
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void evict(String key) throws IOException {
+        Files.deleteIfExists(pathOf(key));
+    }
+
+    private Path pathOf(String key) {
+        if (key.isEmpty() || key.contains("/") || key.contains("\\") || key.contains("..")) {
+            throw new IllegalArgumentException("Invalid document key: " + key);
+        }
+        int dash = key.lastIndexOf('-');
+        String hash = key.substring(dash + 1);
+        String shard = hash.length() >= 2 ? hash.substring(0, 2) : "00";
+        return root.resolve(shard).resolve(key + ".pdf");
+    }
+}
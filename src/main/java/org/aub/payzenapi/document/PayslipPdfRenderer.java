@@ -0,0 +1,154 @@
+package org.aub.payzenapi.document;
+
+import com.openhtmltopdf.extend.FSStream;
+import com.openhtmltopdf.extend.FSStreamFactory;
+import com.openhtmltopdf.extend.impl.FSDefaultCacheStore;
+import com.openhtmltopdf.outputdevice.helper.BaseRendererBuilder;
+import com.openhtmltopdf.pdfboxout.PDFontSupplier;
+import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
+import org.apache.fontbox.ttf.TTFParser;
+import org.apache.fontbox.ttf.TrueTypeFont;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.aub.payzenapi.model.dto.response.PayslipResponse;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Renders a payslip to PDF: Thymeleaf fills the {@code payslip} template (parsed once and
+ * cached by the engine), openhtmltopdf lays it out and writes straight to the caller's
+ * stream.
+ * <p>
+ * Everything that does not change between payslips is prepared once and shared: the logo
+ * is downscaled at startup and served from memory under {@value #LOGO_URI}, the font is
+ * parsed once per concurrent render rather than once per document, and font metrics are
+ * kept in a shared cache store. A semaphore caps concurrent renders, since each one holds
+ * the whole layout tree on the heap.
+ */
+public class PayslipPdfRenderer {
+
+    public static final String TEMPLATE = "payslip";
+    // Bump when the template or rendering changes so cached PDFs are not served
+    public static final String RENDER_VERSION = "1";
+    public static final String LOGO_URI = "payzen:logo.png";
+    public static final String FONT_FAMILY = "payzen";
+
+    private static final String RESOURCE_SCHEME = "payzen";
+    private static final int LOGO_WIDTH_PX = 240;
+
+    private final TemplateEngine templateEngine;
+    private final byte[] logo;
+    private final byte[] font;
+    // Parsed fonts are not thread-safe (subsetting reads the glyph tables at save time), so
+    // each render borrows one; the semaphore keeps this at most maxConcurrentRenders deep
+    private final Queue<TrueTypeFont> parsedFonts = new ConcurrentLinkedQueue<>();
+    private final FSDefaultCacheStore fontMetricsCache = new FSDefaultCacheStore();
+    private final FSStreamFactory resourceStreams;
+    private final Semaphore renderPermits;
+
+    /**
+     * @param logoSource the logo image, downscaled once here
+     * @param font       TrueType font bytes registered as {@value #FONT_FAMILY}, or null to
+     *                   use the built-in PDF fonts
+     */
+    public PayslipPdfRenderer(TemplateEngine templateEngine, InputStream logoSource, byte[] font, int maxConcurrentRenders) throws IOException {
+        this.templateEngine = templateEngine;
+        this.logo = downscale(logoSource);
+        this.font = font;
+        this.resourceStreams = url -> LOGO_URI.equals(url) ? new InMemoryStream(logo) : null;
+        this.renderPermits = new Semaphore(Math.max(1, maxConcurrentRenders));
+    }
+
+    public void render(PayslipResponse payslip, OutputStream out) throws IOException {
+        Context context = new Context();
+        context.setVariable("payslip", payslip);
+        context.setVariable("logoUri", LOGO_URI);
+        context.setVariable("fontFamily", font != null ? FONT_FAMILY : "Helvetica");
+        String html = templateEngine.process(TEMPLATE, context);
+
+        try {
+            renderPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to render payslip " + payslip.getPayslipId());
+        }
+        TrueTypeFont parsedFont = null;
+        try (PDDocument document = new PDDocument()) {
+            PdfRendererBuilder builder = new PdfRendererBuilder();
+            builder.usePDDocument(document);
+            builder.useCacheStore(BaseRendererBuilder.CacheStore.PDF_FONT_METRICS, fontMetricsCache);
+            builder.useProtocolsStreamImplementation(resourceStreams, RESOURCE_SCHEME);
+            if (font != null) {
+                parsedFont = borrowFont();
+                // Loading from a TrueTypeFont leaves it open, so it can go back to the pool
+                builder.useFont(new PDFontSupplier(PDType0Font.load(document, parsedFont, true)),
+                        FONT_FAMILY, 400, BaseRendererBuilder.FontStyle.NORMAL, true);
+            }
+            builder.withHtmlContent(html, null);
+            builder.toStream(out);
+            builder.run();
+        } finally {
+            if (parsedFont != null) {
+                parsedFonts.offer(parsedFont);
+            }
+            renderPermits.release();
+        }
+    }
+
+    private TrueTypeFont borrowFont() throws IOException {
+        TrueTypeFont parsed = parsedFonts.poll();
+        return parsed != null ? parsed : new TTFParser().parse(new ByteArrayInputStream(font));
+    }
+
+    // The source logo is far larger than it is ever drawn; embedding it as-is would bloat
+    // every PDF and make each render decode the full image
+    private static byte[] downscale(InputStream source) throws IOException {
+        BufferedImage original = ImageIO.read(source);
+        if (original == null) {
+            throw new IOException("Logo is not a readable image");
+        }
+        if (original.getWidth() <= LOGO_WIDTH_PX) {
+            return toPng(original);
+        }
+        int height = Math.max(1, original.getHeight() * LOGO_WIDTH_PX / original.getWidth());
+        BufferedImage scaled = new BufferedImage(LOGO_WIDTH_PX, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(original, 0, 0, LOGO_WIDTH_PX, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return toPng(scaled);
+    }
+
+    private static byte[] toPng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private record InMemoryStream(byte[] bytes) implements FSStream {
+
+        @Override
+        public InputStream getStream() {
+            return new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public Reader getReader() {
+            return new InputStreamReader(getStream(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.aub.payzenapi.document;
+
+import org.aub.payzenapi.model.dto.response.PayslipResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 over every payslip field the PDF template shows, plus the renderer's
+ * {@link PayslipPdfRenderer#RENDER_VERSION}, so a template change also produces new keys.
+ */
+public final class RenderedDocumentKey {
+
+    private static final char SEPARATOR = '\u001f';
+
+    private RenderedDocumentKey() {
+    }
+
+    public static String of(PayslipResponse payslip) {
+        StringBuilder content = new StringBuilder(256)
+                .append(PayslipPdfRenderer.RENDER_VERSION).append(SEPARATOR)
+                .append(payslip.getPayslipId()).append(SEPARATOR)
+                .append(payslip.getEmployeeId()).append(SEPARATOR)
+                .append(payslip.getEmployeeName()).append(SEPARATOR)
+                .append(payslip.getPayPeriodStart()).append(SEPARATOR)
+                .append(payslip.getPayPeriodEnd()).append(SEPARATOR)
+                .append(payslip.getBaseSalary()).append(SEPARATOR)
+                .append(payslip.getOvertimeHours()).append(SEPARATOR)
+                .append(payslip.getOvertimeRate()).append(SEPARATOR)
+                .append(payslip.getOvertimePay()).append(SEPARATOR)
+                .append(payslip.getAllowances()).append(SEPARATOR)
+                .append(payslip.getDeductions()).append(SEPARATOR)
+                .append(payslip.getTaxDeduction()).append(SEPARATOR)
+                .append(payslip.getGrossSalary()).append(SEPARATOR)
+                .append(payslip.getNetSalary()).append(SEPARATOR)
+                .append(payslip.getStatus()).append(SEPARATOR)
+                .append(payslip.getCreatedAt());
+        return "payslip-" + sha256(content.toString());
+    }
+
+    private static String sha256(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
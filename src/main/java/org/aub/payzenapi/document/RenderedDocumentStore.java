@@ -0,0 +1,24 @@
+package org.aub.payzenapi.document;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Rendered documents keyed by a hash of everything that went into rendering them (see
+ * {@link RenderedDocumentKey}). Because the key changes whenever the content would, an
+ * entry never goes stale; {@link #evict} only reclaims space for keys that can no longer
+ * be requested.
+ */
+public interface RenderedDocumentStore {
+
+    /**
+     * Writes the stored document to {@code out}.
+     *
+     * @return false if nothing is stored under {@code key}; nothing is written in that case
+     */
+    boolean copyTo(String key, OutputStream out) throws IOException;
+
+    void put(String key, byte[] content) throws IOException;
+
+    void evict(String key) throws IOException;
+}
@@ -0,0 +1,76 @@
+package org.aub.payzenapi.document;
+
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Stores documents as objects in an S3 bucket, or any S3-compatible store such as MinIO
+ * when the client is built with an endpoint override and path-style access.
+ */
+public class S3DocumentStore implements RenderedDocumentStore {
+
+    private static final String CONTENT_TYPE = "application/pdf";
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String prefix;
+
+    public S3DocumentStore(S3Client s3Client, String bucket, String prefix) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        if (prefix == null || prefix.isEmpty()) {
+            this.prefix = "";
+        } else {
+            this.prefix = prefix.endsWith("/") ? prefix : prefix + "/";
+        }
+    }
+
+    @Override
+    public boolean copyTo(String key, OutputStream out) throws IOException {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(objectKey(key))
+                .build();
+        ResponseInputStream<GetObjectResponse> object;
+        try {
+            object = s3Client.getObject(request);
+        } catch (NoSuchKeyException e) {
+            return false;
+        }
+        try (object) {
+            object.transferTo(out);
+            return true;
+        }
+    }
+
+    @Override
+    public void put(String key, byte[] content) {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(objectKey(key))
+                .contentType(CONTENT_TYPE)
+                .build();
+        s3Client.putObject(request, RequestBody.fromBytes(content));
+    }
+
+    @Override
+    public void evict(String key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder()
+                .bucket(bucket)
+                .key(objectKey(key))
+                .build());
+    }
+
+    private String objectKey(String key) {
+        return prefix + key + ".pdf";
+    }
+}
@@ -0,0 +1,14 @@
+package org.aub.payzenapi.event;
+
+import org.aub.payzenapi.model.enums.DomainEventType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A committed change as delivered to {@link DomainEventListener}s. The payload is the JSON
+ * of the response DTO at the time of the change.
+ */
+public record DomainEvent(long eventId, DomainEventType type, UUID aggregateId,
+                          String payload, LocalDateTime occurredAt) {
+}
@@ -0,0 +1,29 @@
+package org.aub.payzenapi.event;
+
+import org.aub.payzenapi.model.enums.DomainEventType;
+
+/**
+ * Receives committed domain events on the dispatcher thread. Delivery is at least once, so
+ * implementations must tolerate seeing the same event (same {@link DomainEvent#eventId()})
+ * again, and should return quickly since listeners are called one after another. Throwing
+ * marks the event as failed for this listener only; it is retried with backoff and parked
+ * after {@code payzen.outbox.dispatcher.max-attempts}.
+ * <p>
+ * Each event is claimed by one replica, so a listener's effect should be global (Redis,
+ * another service), not local to the replica it happens to run on.
+ */
+public interface DomainEventListener {
+
+    /**
+     * Stable name the outbox records acknowledgements under; renaming a listener makes it
+     * receive pending events again.
+     */
+    String name();
+
+    /**
+     * Events of types no listener supports are not written to the outbox at all.
+     */
+    boolean supports(DomainEventType type);
+
+    void onEvent(DomainEvent event);
+}
@@ -0,0 +1,75 @@
+package org.aub.payzenapi.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.aub.payzenapi.model.entity.OutboxEvent;
+import org.aub.payzenapi.model.enums.DomainEventType;
+import org.aub.payzenapi.repository.OutboxEventRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Writes a domain event to the outbox table as part of the caller's transaction, so the
+ * event exists if and only if the change it describes was committed. Events no
+ * {@link DomainEventListener} subscribes to are skipped, so writes do not pay for an
+ * outbox row nobody will read.
+ */
+@Component
+public class DomainEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<DomainEventListener> listenerProvider;
+    // Resolved on first use; listeners may depend on beans that depend on this publisher
+    private volatile Set<DomainEventType> subscribedTypes;
+
+    public DomainEventPublisher(OutboxEventRepository outboxEventRepository,
+                                ObjectMapper objectMapper,
+                                ObjectProvider<DomainEventListener> listenerProvider) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.listenerProvider = listenerProvider;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEventType type, UUID aggregateId, Object payload) {
+        if (!subscribedTypes().contains(type)) {
+            return;
+        }
+        String json;
+        try {
+            json = payload != null ? objectMapper.writeValueAsString(payload) : null;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + type + " event payload", e);
+        }
+
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(type)
+                .aggregateType(type.getAggregateType())
+                .aggregateId(aggregateId)
+                .payload(json)
+                .build());
+    }
+
+    private Set<DomainEventType> subscribedTypes() {
+        Set<DomainEventType> types = subscribedTypes;
+        if (types == null) {
+            types = EnumSet.noneOf(DomainEventType.class);
+            for (DomainEventListener listener : listenerProvider) {
+                for (DomainEventType type : DomainEventType.values()) {
+                    if (listener.supports(type)) {
+                        types.add(type);
+                    }
+                }
+            }
+            subscribedTypes = types;
+        }
+        return types;
+    }
+}
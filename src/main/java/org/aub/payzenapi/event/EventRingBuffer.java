@@ -0,0 +1,93 @@
+package org.aub.payzenapi.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded single-producer, single-consumer ring buffer. The producer and consumer each
+ * own one sequence and only publish it with release semantics, so neither side takes a
+ * lock or performs a CAS. Each side's sequence and its cached copy of the other side's
+ * sequence share one padded cache line, so the two threads do not false-share. Capacity is rounded up to a power of two.
+ * <p>
+ * Not safe for more than one producer thread or more than one consumer thread.
+ */
+public final class EventRingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final PaddedSequence head = new PaddedSequence(); // next slot to read, consumer-owned
+    private final PaddedSequence tail = new PaddedSequence(); // next slot to write, producer-owned
+
+    public EventRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * @return false if the buffer is full
+     */
+    public boolean offer(T item) {
+        long currentTail = tail.getPlain();
+        if (currentTail - tail.cachedOther > mask) {
+            tail.cachedOther = head.getAcquire();
+            if (currentTail - tail.cachedOther > mask) {
+                return false;
+            }
+        }
+        slots.setPlain((int) currentTail & mask, item);
+        tail.setRelease(currentTail + 1);
+        return true;
+    }
+
+    /**
+     * Hands up to {@code max} items to {@code consumer} in FIFO order.
+     *
+     * @return the number of items drained
+     */
+    public int drain(Consumer<? super T> consumer, int max) {
+        long currentHead = head.getPlain();
+        if (currentHead >= head.cachedOther) {
+            head.cachedOther = tail.getAcquire();
+            if (currentHead >= head.cachedOther) {
+                return 0;
+            }
+        }
+        int count = (int) Math.min(max, head.cachedOther - currentHead);
+        for (int i = 0; i < count; i++) {
+            int index = (int) (currentHead + i) & mask;
+            T item = slots.getPlain(index);
+            slots.setPlain(index, null);
+            consumer.accept(item);
+        }
+        head.setRelease(currentHead + count);
+        return count;
+    }
+
+    public int size() {
+        return (int) (tail.getAcquire() - head.getAcquire());
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * A sequence together with its owner's cached copy of the other side's sequence, so the
+     * cache is only written by the thread that already writes this line. Trailing padding
+     * keeps the next object off the line.
+     */
+    @SuppressWarnings("unused")
+    private static final class PaddedSequence extends AtomicLong {
+        private long cachedOther;
+        private long p1, p2, p3, p4, p5, p6, p7;
+    }
+}
@@ -0,0 +1,312 @@
+package org.aub.payzenapi.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.aub.payzenapi.model.entity.OutboxEvent;
+import org.aub.payzenapi.repository.OutboxEventRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Moves committed outbox events to the {@link DomainEventListener}s.
+ * <p>
+ * A scheduled poller claims a batch of due rows in id order ({@code FOR UPDATE SKIP
+ * LOCKED}, then a lease of {@code claim-ttl-ms} in {@code claimed_by}/{@code claimed_until}),
+ * so with several replicas each event is delivered by one of them. Claimed events are
+ * published into an {@link EventRingBuffer}; a dedicated dispatcher thread drains it, calls
+ * every listener that has not acknowledged the event yet, and marks fully delivered events
+ * as dispatched in one UPDATE. Anything claimed at a crash is picked up again once the
+ * lease runs out (at least once).
+ * <p>
+ * A listener failure is recorded against the event only: listeners that succeeded are
+ * added to {@code acknowledged_by} and are not called again, and the event is retried
+ * with exponential backoff, so it does not hold up the rows behind it. After
+ * {@code max-attempts} failures the event is parked and left for an operator.
+ * <p>
+ * Without listeners the dispatcher neither polls nor starts its thread, and the publisher
+ * writes no rows.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payzen.outbox.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectProvider<DomainEventListener> listenerProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final EventRingBuffer<ClaimedEvent> ringBuffer;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final String nodeId;
+    private final int batchSize;
+    private final long idleParkNanos;
+    private final Duration claimTtl;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final int retentionDays;
+    private final Counter dispatchedCounter;
+    private final Counter failedCounter;
+    private final Counter parkedCounter;
+
+    private List<DomainEventListener> listeners = List.of();
+    private volatile boolean running;
+    private Thread dispatcherThread;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            ObjectProvider<DomainEventListener> listenerProvider,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${payzen.outbox.node-id:}") String nodeId,
+                            @Value("${payzen.outbox.dispatcher.buffer-size:4096}") int bufferSize,
+                            @Value("${payzen.outbox.dispatcher.batch-size:256}") int batchSize,
+                            @Value("${payzen.outbox.dispatcher.idle-park-ms:5}") long idleParkMs,
+                            @Value("${payzen.outbox.dispatcher.claim-ttl-ms:60000}") long claimTtlMs,
+                            @Value("${payzen.outbox.dispatcher.max-attempts:10}") int maxAttempts,
+                            @Value("${payzen.outbox.dispatcher.retry-backoff-ms:1000}") long retryBackoffMs,
+                            @Value("${payzen.outbox.dispatcher.max-retry-backoff-ms:600000}") long maxRetryBackoffMs,
+                            @Value("${payzen.outbox.retention-days:7}") int retentionDays) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.listenerProvider = listenerProvider;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ringBuffer = new EventRingBuffer<>(bufferSize);
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.batchSize = batchSize;
+        this.idleParkNanos = TimeUnit.MILLISECONDS.toNanos(idleParkMs);
+        this.claimTtl = Duration.ofMillis(claimTtlMs);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoff = Duration.ofMillis(retryBackoffMs);
+        this.maxRetryBackoff = Duration.ofMillis(maxRetryBackoffMs);
+        this.retentionDays = retentionDays;
+        this.dispatchedCounter = events(meterRegistry, "dispatched");
+        this.failedCounter = events(meterRegistry, "failed");
+        this.parkedCounter = events(meterRegistry, "parked");
+        Gauge.builder("payzen.outbox.in.flight", inFlight, Set::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        listeners = listenerProvider.orderedStream().toList();
+        if (listeners.isEmpty()) {
+            log.info("No domain event listeners registered, outbox dispatcher idle");
+            return;
+        }
+        running = true;
+        dispatcherThread = new Thread(this::dispatchLoop, "outbox-dispatcher");
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+        log.info("Outbox dispatcher {} started for listeners {}", nodeId,
+                listeners.stream().map(DomainEventListener::name).toList());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (dispatcherThread != null) {
+            LockSupport.unpark(dispatcherThread);
+            dispatcherThread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    // Producer side of the ring buffer: only ever called from this one scheduled method
+    @Scheduled(fixedDelayString = "${payzen.outbox.dispatcher.poll-interval-ms:500}")
+    public void poll() {
+        if (!running) {
+            return;
+        }
+        int free = ringBuffer.capacity() - inFlight.size();
+        if (free <= 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        // Not read-only, so the claim always goes to the primary rather than a lagging replica
+        List<OutboxEvent> claimed = transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = outboxEventRepository.findClaimable(now, PageRequest.of(0, Math.min(free, batchSize)));
+            if (!events.isEmpty()) {
+                outboxEventRepository.claim(events.stream().map(OutboxEvent::getEventId).toList(),
+                        nodeId, now.plus(claimTtl));
+            }
+            return events;
+        });
+        if (claimed == null || claimed.isEmpty()) {
+            return;
+        }
+
+        int offered = 0;
+        for (OutboxEvent event : claimed) {
+            // Still here from an earlier claim whose lease ran out; it is delivered once
+            if (!inFlight.add(event.getEventId())) {
+                continue;
+            }
+            DomainEvent domainEvent = new DomainEvent(event.getEventId(), event.getEventType(),
+                    event.getAggregateId(), event.getPayload(), event.getCreatedAt());
+            if (!ringBuffer.offer(new ClaimedEvent(domainEvent, Set.copyOf(event.getAcknowledgedBy())))) {
+                // Claim lapses and the event is picked up again
+                inFlight.remove(event.getEventId());
+                break;
+            }
+            offered++;
+        }
+        if (offered > 0) {
+            LockSupport.unpark(dispatcherThread);
+        }
+    }
+
+    // Consumer side of the ring buffer
+    private void dispatchLoop() {
+        List<Long> delivered = new ArrayList<>(batchSize);
+        Map<Long, Delivery> failed = new HashMap<>();
+        List<Long> drained = new ArrayList<>(batchSize);
+        while (running) {
+            int count = ringBuffer.drain(claimed -> {
+                drained.add(claimed.event().eventId());
+                Delivery delivery = deliver(claimed);
+                if (delivery.error() == null) {
+                    delivered.add(claimed.event().eventId());
+                } else {
+                    failed.put(claimed.event().eventId(), delivery);
+                }
+            }, batchSize);
+
+            if (count == 0) {
+                LockSupport.parkNanos(this, idleParkNanos);
+                continue;
+            }
+            try {
+                if (!delivered.isEmpty()) {
+                    markDispatched(delivered);
+                }
+                if (!failed.isEmpty()) {
+                    recordFailures(failed);
+                }
+            } catch (RuntimeException e) {
+                // Claims lapse, so the next poll after claim-ttl-ms delivers these again
+                log.error("Failed to record the outcome of {} outbox events", count, e);
+            } finally {
+                drained.forEach(inFlight::remove);
+                drained.clear();
+                delivered.clear();
+                failed.clear();
+            }
+        }
+    }
+
+    private Delivery deliver(ClaimedEvent claimed) {
+        DomainEvent event = claimed.event();
+        List<String> acknowledged = new ArrayList<>(claimed.acknowledged());
+        String error = null;
+        for (DomainEventListener listener : listeners) {
+            if (!listener.supports(event.type()) || claimed.acknowledged().contains(listener.name())) {
+                continue;
+            }
+            try {
+                listener.onEvent(event);
+                acknowledged.add(listener.name());
+            } catch (RuntimeException e) {
+                error = listener.name() + ": " + e;
+                log.warn("Listener {} failed on outbox event {} ({})", listener.name(), event.eventId(), event.type(), e);
+            }
+        }
+        if (error == null) {
+            dispatchedCounter.increment();
+        } else {
+            failedCounter.increment();
+        }
+        return new Delivery(acknowledged, error);
+    }
+
+    private void markDispatched(List<Long> eventIds) {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.markDispatched(eventIds, now));
+    }
+
+    private void recordFailures(Map<Long, Delivery> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (OutboxEvent event : outboxEventRepository.findAllById(failures.keySet())) {
+                if (!nodeId.equals(event.getClaimedBy())) {
+                    // Lease ran out and another replica took the event over; its outcome wins
+                    continue;
+                }
+                Delivery delivery = failures.get(event.getEventId());
+                int attempts = event.getAttempts() + 1;
+                event.setAttempts(attempts);
+                event.setAcknowledgedBy(delivery.acknowledged());
+                event.setLastError(truncate(delivery.error()));
+                event.setClaimedBy(null);
+                event.setClaimedUntil(null);
+                if (attempts >= maxAttempts) {
+                    event.setParkedAt(now);
+                    parkedCounter.increment();
+                    log.error("Parked outbox event {} ({}) after {} attempts: {}",
+                            event.getEventId(), event.getEventType(), attempts, delivery.error());
+                } else {
+                    event.setNextAttemptAt(now.plus(backoff(attempts)));
+                }
+            }
+        });
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : delay;
+    }
+
+    @Scheduled(cron = "${payzen.outbox.cleanup-cron:0 30 3 * * *}")
+    public void deleteDispatched() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deleteDispatchedBefore(before));
+        log.info("Deleted {} dispatched outbox events older than {}", deleted, before);
+    }
+
+    private static String truncate(String error) {
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + ":" + ProcessHandle.current().pid();
+    }
+
+    private static Counter events(MeterRegistry registry, String result) {
+        return Counter.builder("payzen.outbox.events")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private record ClaimedEvent(DomainEvent event, Set<String> acknowledged) {
+    }
+
+    private record Delivery(List<String> acknowledged, String error) {
+    }
+}
@@ -0,0 +1,84 @@
+package org.aub.payzenapi.idempotency;
+
+import org.aub.payzenapi.cache.CacheNames;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Map from idempotency key to the outcome of the first attempt. An entry is created as soon
+ * as an attempt starts, so concurrent duplicates find it and wait on its future rather than
+ * running the request again. Successful attempts move to the {@code idempotency} cache,
+ * which bounds how many are kept and for how long.
+ */
+@Component
+public class IdempotencyStore {
+
+    private final ConcurrentHashMap<String, Entry> inFlight = new ConcurrentHashMap<>();
+    private final Cache completed;
+
+    public IdempotencyStore(CacheManager cacheManager) {
+        this.completed = Objects.requireNonNull(cacheManager.getCache(CacheNames.IDEMPOTENCY),
+                "Cache '" + CacheNames.IDEMPOTENCY + "' is not declared under payzen.cache.specs");
+    }
+
+    /** Claims the key for a new attempt, or returns the attempt already holding it. */
+    public Reservation reserve(String key, String fingerprint) {
+        Entry done = completed.get(key, Entry.class);
+        if (done != null) {
+            return new Reservation(done, false);
+        }
+        Entry created = new Entry(key, fingerprint);
+        Entry existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return new Reservation(existing, false);
+        }
+        // The previous attempt may have finished between the two lookups
+        done = completed.get(key, Entry.class);
+        if (done != null) {
+            inFlight.remove(key, created);
+            return new Reservation(done, false);
+        }
+        return new Reservation(created, true);
+    }
+
+    public void complete(Entry entry, IdempotentResponse response) {
+        entry.result.complete(response);
+        // Cache before leaving the in-flight map, so a retry always finds one of the two
+        completed.put(entry.key, entry);
+        inFlight.remove(entry.key, entry);
+    }
+
+    /** Releases the key after a failed attempt; waiting duplicates see null and try again. */
+    public void abandon(Entry entry) {
+        inFlight.remove(entry.key, entry);
+        entry.result.complete(null);
+    }
+
+    public record Reservation(Entry entry, boolean owner) {
+    }
+
+    public static final class Entry {
+
+        private final String key;
+        private final String fingerprint;
+        private final CompletableFuture<IdempotentResponse> result = new CompletableFuture<>();
+
+        private Entry(String key, String fingerprint) {
+            this.key = key;
+            this.fingerprint = fingerprint;
+        }
+
+        public String fingerprint() {
+            return fingerprint;
+        }
+
+        public CompletableFuture<IdempotentResponse> result() {
+            return result;
+        }
+    }
+}
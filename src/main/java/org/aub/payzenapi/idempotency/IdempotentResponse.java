@@ -0,0 +1,8 @@
+package org.aub.payzenapi.idempotency;
+
+/**
+ * What is replayed to a retry: the first successful attempt's status, body and the
+ * headers a client acts on.
+ */
+public record IdempotentResponse(int status, String contentType, String location, byte[] body) {
+}
@@ -0,0 +1,37 @@
+package org.aub.payzenapi.model.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.aub.payzenapi.payroll.PayrollRuleSet;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Changes to the rules in effect for the period. Anything left null keeps the current value.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollScenarioRequest {
+
+    @NotBlank(message = "Scenario name is required")
+    private String name;
+
+    private BigDecimal standardHoursPerMonth;
+
+    private BigDecimal overtimeMultiplier;
+
+    private Map<String, BigDecimal> departmentOvertimeMultipliers;
+
+    private List<PayrollRuleSet.TaxBracket> taxBrackets;
+
+    private List<PayrollRuleSet.Allowance> allowances;
+
+    private List<PayrollRuleSet.Deduction> deductions;
+}
@@ -0,0 +1,32 @@
+package org.aub.payzenapi.model.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollSimulationRequest {
+
+    @NotNull(message = "Pay period start is required")
+    private LocalDate payPeriodStart;
+
+    @NotNull(message = "Pay period end is required")
+    private LocalDate payPeriodEnd;
+
+    private String department;
+
+    @NotEmpty(message = "At least one scenario is required")
+    @Size(max = 20, message = "At most 20 scenarios can be simulated at once")
+    private List<@Valid PayrollScenarioRequest> scenarios;
+}
@@ -1,5 +1,6 @@
 package org.aub.payzenapi.model.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,7 +28,11 @@ public class AttendanceResponse {
     private LocalTime checkOutTime;
     private Integer breakDurationMinutes;
     private BigDecimal totalHoursWorked;
+    private Integer workedMinutes;
     private AttendanceStatus status;
     private String notes;
     private LocalDateTime createdAt;
+    // Row version and the named employee's updated_at, read by list queries for the list ETag
+    @JsonIgnore
+    private String rowVersion;
 }
@@ -0,0 +1,17 @@
+package org.aub.payzenapi.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollScenarioResponse {
+    private String name;
+    private PayrollTotalsResponse totals;
+    // Scenario minus baseline
+    private PayrollTotalsResponse delta;
+}
@@ -0,0 +1,23 @@
+package org.aub.payzenapi.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollSimulationResponse {
+    private LocalDate payPeriodStart;
+    private LocalDate payPeriodEnd;
+    private String department;
+    private Integer employees;
+    private LocalDate rulesEffectiveFrom;
+    private PayrollTotalsResponse baseline;
+    private List<PayrollScenarioResponse> scenarios;
+}
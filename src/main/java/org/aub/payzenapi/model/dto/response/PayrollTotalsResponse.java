@@ -0,0 +1,21 @@
+package org.aub.payzenapi.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollTotalsResponse {
+    private BigDecimal totalGrossSalary;
+    private BigDecimal totalOvertimePay;
+    private BigDecimal totalAllowances;
+    private BigDecimal totalTaxDeductions;
+    private BigDecimal totalDeductions;
+    private BigDecimal totalNetSalary;
+}
@@ -1,5 +1,6 @@
 package org.aub.payzenapi.model.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -33,4 +34,7 @@ public class PayslipResponse {
     private BigDecimal netSalary;
     private PayslipStatus status;
     private LocalDateTime createdAt;
+    // Row version and the named employee's updated_at, read by list queries for the list ETag
+    @JsonIgnore
+    private String rowVersion;
 }
@@ -0,0 +1,20 @@
+package org.aub.payzenapi.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayslipSummaryResponse {
+    private Long totalPayslips;
+    private BigDecimal totalGrossSalary;
+    private BigDecimal totalNetSalary;
+    private BigDecimal totalTaxDeductions;
+    private BigDecimal averageSalary;
+}
@@ -6,7 +6,9 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.aub.payzenapi.model.enums.AttendanceStatus;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.PartitionKey;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -31,7 +33,10 @@ public class Attendance {
     @JoinColumn(name = "employee_id", nullable = false)
     private Employee employee;
 
-    @Column(name = "attendance_date", nullable = false)
+    // attendances is range-partitioned on this column; Hibernate adds it to the WHERE of
+    // updates and deletes so they only touch the row's own partition
+    @PartitionKey
+    @Column(name = "attendance_date", nullable = false, updatable = false)
     private LocalDate attendanceDate;
 
     @Column(name = "check_in_time")
@@ -44,9 +49,13 @@ public class Attendance {
     @Builder.Default
     private Integer breakDurationMinutes = 0;
 
+    // Derived from workedMinutes and kept for existing readers; sums use worked_minutes
     @Column(name = "total_hours_worked", precision = 4, scale = 2)
     private BigDecimal totalHoursWorked;
 
+    @Column(name = "worked_minutes")
+    private Integer workedMinutes;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status")
     @Builder.Default
@@ -55,6 +64,12 @@ public class Attendance {
     @Column(name = "notes")
     private String notes;
 
+    // Bumped on every update; drives optimistic locking and the resource's ETag
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @CreationTimestamp
     @Column(name = "created_at")
     private LocalDateTime createdAt;
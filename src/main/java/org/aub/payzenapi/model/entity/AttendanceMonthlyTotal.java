@@ -0,0 +1,68 @@
+package org.aub.payzenapi.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Per employee, per calendar month totals of the attendances table, kept current by
+ * AttendanceRollup on every attendance write. {@code month} is the first day of the month.
+ */
+@Entity
+@Table(name = "attendance_monthly_totals")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceMonthlyTotal {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "present_minutes", nullable = false)
+    private long presentMinutes;
+
+    @Column(name = "present_days", nullable = false)
+    private int presentDays;
+
+    @Column(name = "absent_days", nullable = false)
+    private int absentDays;
+
+    @Column(name = "late_days", nullable = false)
+    private int lateDays;
+
+    @Column(name = "half_days", nullable = false)
+    private int halfDays;
+
+    @Column(name = "sick_leave_days", nullable = false)
+    private int sickLeaveDays;
+
+    @Column(name = "vacation_days", nullable = false)
+    private int vacationDays;
+
+    @Column(name = "holiday_days", nullable = false)
+    private int holidayDays;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        @Column(name = "employee_id", nullable = false)
+        private UUID employeeId;
+
+        @Column(name = "month", nullable = false)
+        private LocalDate month;
+    }
+}
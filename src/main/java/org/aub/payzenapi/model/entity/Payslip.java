@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.aub.payzenapi.model.enums.PayslipStatus;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.math.BigDecimal;
@@ -73,6 +74,12 @@ public class Payslip {
     @Builder.Default
     private PayslipStatus status = PayslipStatus.DRAFT;
 
+    // Bumped on every update; drives optimistic locking and the resource's ETag
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @CreationTimestamp
     @Column(name = "created_at")
     private LocalDateTime createdAt;
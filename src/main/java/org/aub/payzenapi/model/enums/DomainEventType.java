@@ -0,0 +1,23 @@
+package org.aub.payzenapi.model.enums;
+
+public enum DomainEventType {
+    EMPLOYEE_CREATED("Employee"),
+    EMPLOYEE_UPDATED("Employee"),
+    EMPLOYEE_STATUS_CHANGED("Employee"),
+    ATTENDANCE_RECORDED("Attendance"),
+    ATTENDANCE_UPDATED("Attendance"),
+    ATTENDANCE_CHECKED_IN("Attendance"),
+    ATTENDANCE_CHECKED_OUT("Attendance"),
+    PAYSLIP_GENERATED("Payslip"),
+    PAYSLIP_STATUS_CHANGED("Payslip");
+
+    private final String aggregateType;
+
+    DomainEventType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+}
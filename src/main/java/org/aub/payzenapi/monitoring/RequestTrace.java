@@ -0,0 +1,94 @@
+package org.aub.payzenapi.monitoring;
+
+/**
+ * Per-thread, reused scratch space for the request currently running on that thread.
+ * Nothing in here is allocated per request; a {@link SlowRequestRecord} is only built
+ * from it once a threshold has actually been exceeded.
+ */
+final class RequestTrace {
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    final Thread thread;
+    final String[] statements;
+    final long[] statementNanos;
+    int statementCount;
+    int droppedStatements;
+    long slowestStatementNanos;
+
+    private String pendingSql;
+    private long statementStartNanos;
+
+    // Read by the stack sampler thread
+    volatile long startNanos;
+    volatile long generation;
+    volatile StackTraceElement[] sampledStack;
+
+    private RequestTrace(Thread thread, int maxStatements) {
+        this.thread = thread;
+        this.statements = new String[maxStatements];
+        this.statementNanos = new long[maxStatements];
+    }
+
+    static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    static RequestTrace bind(int maxStatements) {
+        RequestTrace trace = new RequestTrace(Thread.currentThread(), maxStatements);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    boolean isActive() {
+        return startNanos != 0L;
+    }
+
+    void begin(long now) {
+        statementCount = 0;
+        droppedStatements = 0;
+        slowestStatementNanos = 0L;
+        pendingSql = null;
+        statementStartNanos = 0L;
+        sampledStack = null;
+        generation++;
+        startNanos = now;
+    }
+
+    void end() {
+        startNanos = 0L;
+        pendingSql = null;
+        // Drop references so statement strings can be collected between requests
+        for (int i = 0; i < statementCount; i++) {
+            statements[i] = null;
+        }
+        statementCount = 0;
+        sampledStack = null;
+    }
+
+    void statementPrepared(String sql) {
+        pendingSql = sql;
+    }
+
+    void statementStarted(long now) {
+        statementStartNanos = now;
+    }
+
+    void statementFinished(long now) {
+        if (statementStartNanos == 0L) {
+            return;
+        }
+        long elapsed = now - statementStartNanos;
+        statementStartNanos = 0L;
+        if (elapsed > slowestStatementNanos) {
+            slowestStatementNanos = elapsed;
+        }
+        if (statementCount < statements.length) {
+            statements[statementCount] = pendingSql;
+            statementNanos[statementCount] = elapsed;
+            statementCount++;
+        } else {
+            droppedStatements++;
+        }
+    }
+}
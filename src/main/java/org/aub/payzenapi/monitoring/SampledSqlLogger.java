@@ -0,0 +1,34 @@
+package org.aub.payzenapi.monitoring;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logs one in every {@code sampleRate} SQL statements at DEBUG on the
+ * {@code org.aub.payzenapi.sql} logger. Replaces {@code spring.jpa.show-sql}, which
+ * printed every statement synchronously to stdout. Costs a single level check when the
+ * logger is not at DEBUG.
+ */
+public class SampledSqlLogger {
+
+    private static final Logger log = LoggerFactory.getLogger("org.aub.payzenapi.sql");
+
+    private final long sampleRate;
+    private final AtomicLong counter = new AtomicLong();
+
+    public SampledSqlLogger(long sampleRate) {
+        this.sampleRate = Math.max(1, sampleRate);
+    }
+
+    public void statement(String sql) {
+        if (!log.isDebugEnabled()) {
+            return;
+        }
+        long count = counter.incrementAndGet();
+        if (count % sampleRate == 0) {
+            log.debug("SQL (1 in {}, #{}): {}", sampleRate, count, sql);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.aub.payzenapi.monitoring;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size ring of the most recent slow requests. Writers never block; once the ring
+ * is full the oldest entry is overwritten.
+ */
+public class SlowRequestBuffer {
+
+    private final AtomicReferenceArray<SlowRequestRecord> slots;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SlowRequestBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Slow request buffer capacity must be positive");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    public void add(SlowRequestRecord record) {
+        long seq = sequence.getAndIncrement();
+        slots.set((int) (seq % slots.length()), record);
+    }
+
+    /**
+     * Returns the buffered records, newest first.
+     */
+    public List<SlowRequestRecord> snapshot() {
+        long end = sequence.get();
+        int capacity = slots.length();
+        long start = Math.max(0, end - capacity);
+        List<SlowRequestRecord> records = new ArrayList<>((int) (end - start));
+        for (long seq = end - 1; seq >= start; seq--) {
+            SlowRequestRecord record = slots.get((int) (seq % capacity));
+            if (record != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    public long totalRecorded() {
+        return sequence.get();
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package org.aub.payzenapi.monitoring;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks in-flight requests and the SQL they run, and records the ones that exceed the
+ * configured request or statement threshold into a {@link SlowRequestBuffer}.
+ * <p>
+ * The request thread only touches its own reused {@link RequestTrace}, so the fast path
+ * (nothing slow) does not allocate. A background sampler captures the stack of requests
+ * that are still running past the threshold, which is where the time is actually going.
+ */
+@Slf4j
+@Component
+public class SlowRequestDetector {
+
+    private static final int MAX_STACK_DEPTH = 64;
+
+    private final boolean enabled;
+    private final long requestThresholdNanos;
+    private final long sqlThresholdNanos;
+    private final int maxStatements;
+    private final SlowRequestBuffer buffer;
+    private final List<RequestTrace> traces = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService sampler;
+
+    public SlowRequestDetector(@Value("${payzen.monitoring.slow-request.enabled:true}") boolean enabled,
+                               @Value("${payzen.monitoring.slow-request.threshold-ms:1000}") long requestThresholdMs,
+                               @Value("${payzen.monitoring.slow-request.sql-threshold-ms:200}") long sqlThresholdMs,
+                               @Value("${payzen.monitoring.slow-request.max-statements:64}") int maxStatements,
+                               @Value("${payzen.monitoring.slow-request.buffer-size:200}") int bufferSize,
+                               @Value("${payzen.monitoring.slow-request.stack-sample-interval-ms:250}") long sampleIntervalMs) {
+        this.enabled = enabled;
+        this.requestThresholdNanos = TimeUnit.MILLISECONDS.toNanos(requestThresholdMs);
+        this.sqlThresholdNanos = TimeUnit.MILLISECONDS.toNanos(sqlThresholdMs);
+        this.maxStatements = maxStatements;
+        this.buffer = new SlowRequestBuffer(bufferSize);
+
+        if (enabled) {
+            this.sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "slow-request-sampler");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.sampler.scheduleWithFixedDelay(this::sampleStacks, sampleIntervalMs, sampleIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.sampler = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public SlowRequestBuffer getBuffer() {
+        return buffer;
+    }
+
+    RequestTrace begin() {
+        RequestTrace trace = RequestTrace.current();
+        if (trace == null) {
+            trace = RequestTrace.bind(maxStatements);
+            traces.add(trace);
+        }
+        trace.begin(System.nanoTime());
+        return trace;
+    }
+
+    void end(RequestTrace trace, String method, String endpoint, int status) {
+        long elapsed = System.nanoTime() - trace.startNanos;
+        try {
+            if (elapsed >= requestThresholdNanos || trace.slowestStatementNanos >= sqlThresholdNanos) {
+                record(trace, method, endpoint, status, elapsed);
+            }
+        } finally {
+            trace.end();
+        }
+    }
+
+    private void record(RequestTrace trace, String method, String endpoint, int status, long elapsedNanos) {
+        List<SqlStatementTiming> statements = new ArrayList<>(trace.statementCount);
+        for (int i = 0; i < trace.statementCount; i++) {
+            statements.add(new SqlStatementTiming(trace.statements[i], toMillis(trace.statementNanos[i])));
+        }
+
+        List<String> stack = new ArrayList<>();
+        StackTraceElement[] sampled = trace.sampledStack;
+        if (sampled != null) {
+            for (StackTraceElement element : sampled) {
+                stack.add(element.toString());
+            }
+        }
+
+        SlowRequestRecord record = new SlowRequestRecord(Instant.now(), method, endpoint, status,
+                toMillis(elapsedNanos), statements, trace.droppedStatements, stack);
+        buffer.add(record);
+        log.warn("Slow request {} {} took {} ms ({} statements)", method, endpoint, record.durationMs(), statements.size());
+    }
+
+    private void sampleStacks() {
+        long now = System.nanoTime();
+        for (RequestTrace trace : traces) {
+            if (!trace.thread.isAlive()) {
+                traces.remove(trace);
+                continue;
+            }
+            long start = trace.startNanos;
+            if (start == 0L || trace.sampledStack != null || now - start < requestThresholdNanos) {
+                continue;
+            }
+            long generation = trace.generation;
+            StackTraceElement[] stack = trace.thread.getStackTrace();
+            // Only keep the sample if the same request is still running
+            if (trace.generation == generation && trace.startNanos == start) {
+                trace.sampledStack = stack.length > MAX_STACK_DEPTH
+                        ? Arrays.copyOf(stack, MAX_STACK_DEPTH)
+                        : stack;
+            }
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sampler != null) {
+            sampler.shutdownNow();
+        }
+    }
+}
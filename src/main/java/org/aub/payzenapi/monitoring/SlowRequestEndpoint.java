@@ -0,0 +1,33 @@
+package org.aub.payzenapi.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Endpoint(id = "slowrequests")
+@RequiredArgsConstructor
+public class SlowRequestEndpoint {
+
+    private final SlowRequestDetector detector;
+
+    @ReadOperation
+    public Map<String, Object> slowRequests() {
+        List<SlowRequestRecord> records = detector.getBuffer().snapshot();
+        return Map.of(
+                "enabled", detector.isEnabled(),
+                "totalRecorded", detector.getBuffer().totalRecorded(),
+                "records", records
+        );
+    }
+
+    @DeleteOperation
+    public void clear() {
+        detector.getBuffer().clear();
+    }
+}
@@ -0,0 +1,16 @@
+package org.aub.payzenapi.monitoring;
+
+import java.time.Instant;
+import java.util.List;
+
+public record SlowRequestRecord(
+        Instant timestamp,
+        String method,
+        String endpoint,
+        int status,
+        double durationMs,
+        List<SqlStatementTiming> statements,
+        int droppedStatements,
+        List<String> stackTrace
+) {
+}
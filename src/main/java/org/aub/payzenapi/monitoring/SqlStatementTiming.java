@@ -0,0 +1,4 @@
+package org.aub.payzenapi.monitoring;
+
+public record SqlStatementTiming(String sql, double durationMs) {
+}
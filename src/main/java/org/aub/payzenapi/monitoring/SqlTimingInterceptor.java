@@ -0,0 +1,47 @@
+package org.aub.payzenapi.monitoring;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.sql.Statement;
+
+/**
+ * The MyBatis counterpart of {@link SqlTimingStatementInspector} and
+ * {@link SqlTimingSessionListener}: times each mapper statement for the request bound to
+ * the current thread and hands the SQL to the sampled SQL logger. Without it the list,
+ * count and snapshot reads would not show up in slow request records at all.
+ */
+@Intercepts({
+        @Signature(type = StatementHandler.class, method = "query", args = {Statement.class, ResultHandler.class}),
+        @Signature(type = StatementHandler.class, method = "queryCursor", args = {Statement.class}),
+        @Signature(type = StatementHandler.class, method = "update", args = {Statement.class})
+})
+public class SqlTimingInterceptor implements Interceptor {
+
+    private final SampledSqlLogger sqlLogger;
+
+    public SqlTimingInterceptor(SampledSqlLogger sqlLogger) {
+        this.sqlLogger = sqlLogger;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        String sql = ((StatementHandler) invocation.getTarget()).getBoundSql().getSql();
+        sqlLogger.statement(sql);
+        RequestTrace trace = RequestTrace.current();
+        if (trace == null || !trace.isActive()) {
+            return invocation.proceed();
+        }
+        trace.statementPrepared(sql);
+        trace.statementStarted(System.nanoTime());
+        try {
+            return invocation.proceed();
+        } finally {
+            trace.statementFinished(System.nanoTime());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.aub.payzenapi.monitoring;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Times JDBC executions for the request bound to the current thread. Hibernate creates
+ * one of these per session from the class name, so it must stay stateless.
+ */
+public class SqlTimingSessionListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        started();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        finished();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        started();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        finished();
+    }
+
+    private static void started() {
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null && trace.isActive()) {
+            trace.statementStarted(System.nanoTime());
+        }
+    }
+
+    private static void finished() {
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null && trace.isActive()) {
+            trace.statementFinished(System.nanoTime());
+        }
+    }
+}
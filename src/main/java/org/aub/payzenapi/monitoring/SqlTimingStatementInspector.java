@@ -0,0 +1,27 @@
+package org.aub.payzenapi.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Remembers the SQL Hibernate is about to prepare so {@link SqlTimingSessionListener}
+ * can attribute the execution time to it, and hands it to the sampled SQL logger.
+ * Returns the statement unchanged.
+ */
+public class SqlTimingStatementInspector implements StatementInspector {
+
+    private final SampledSqlLogger sqlLogger;
+
+    public SqlTimingStatementInspector(SampledSqlLogger sqlLogger) {
+        this.sqlLogger = sqlLogger;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null && trace.isActive()) {
+            trace.statementPrepared(sql);
+        }
+        sqlLogger.statement(sql);
+        return sql;
+    }
+}
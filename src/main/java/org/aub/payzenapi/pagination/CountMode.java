@@ -0,0 +1,29 @@
+package org.aub.payzenapi.pagination;
+
+import org.aub.payzenapi.exception.BadRequestException;
+
+import java.util.Locale;
+
+/**
+ * How a list endpoint reports the total behind a page, chosen by the client with the
+ * {@code count} parameter. Only EXACT runs a COUNT query.
+ */
+public enum CountMode {
+    /** No total; next/previous come from the page itself. */
+    NONE,
+    /** The planner's row estimate, cached briefly. */
+    ESTIMATE,
+    /** COUNT(*) over the filtered set. */
+    EXACT;
+
+    public static CountMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return NONE;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("count must be one of none, estimate or exact");
+        }
+    }
+}
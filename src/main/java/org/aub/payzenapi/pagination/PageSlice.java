@@ -0,0 +1,47 @@
+package org.aub.payzenapi.pagination;
+
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * One page of a list endpoint. Queries fetch one row more than the page size; whether
+ * that extra row came back is how {@link #hasNext()} is known without counting.
+ *
+ * @param totalCount null unless it was asked for or can be read off the last page
+ */
+public record PageSlice<T>(List<T> content, int page, int size, boolean hasNext,
+                           Long totalCount, boolean totalEstimated) {
+
+    /** Row limit to pass to the query for a page of this request. */
+    public static int lookaheadLimit(Pageable pageable) {
+        return pageable.getPageSize() + 1;
+    }
+
+    /**
+     * @param rows    what the query returned with {@link #lookaheadLimit}
+     * @param exact   COUNT(*) over the filtered set, only called for {@link CountMode#EXACT}
+     * @param estimate planner estimate, only called for {@link CountMode#ESTIMATE}
+     */
+    public static <T> PageSlice<T> of(List<T> rows, Pageable pageable, CountMode countMode,
+                                      LongSupplier exact, LongSupplier estimate) {
+        int size = pageable.getPageSize();
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+
+        Long total = null;
+        boolean estimated = false;
+        if (!hasNext && (!content.isEmpty() || pageable.getPageNumber() == 0)) {
+            // This is the last page, so the exact total is known for free
+            total = pageable.getOffset() + content.size();
+        } else if (countMode == CountMode.EXACT) {
+            total = exact.getAsLong();
+        } else if (countMode == CountMode.ESTIMATE) {
+            // Never report fewer rows than this page has already shown exist
+            total = Math.max(estimate.getAsLong(), pageable.getOffset() + content.size() + (hasNext ? 1 : 0));
+            estimated = true;
+        }
+        return new PageSlice<>(content, pageable.getPageNumber(), size, hasNext, total, estimated);
+    }
+}
@@ -0,0 +1,67 @@
+package org.aub.payzenapi.pagination;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Row estimates for {@link CountMode#ESTIMATE}, read from the planner's plan for the
+ * filtered query ({@code EXPLAIN (FORMAT JSON)}). That plans the query without running it.
+ * For an unfiltered table it comes down to pg_class.reltuples. Results are cached per
+ * query and filter values for a short time.
+ */
+@Slf4j
+@Component
+public class RowCountEstimator {
+
+    private static final int MAX_ENTRIES = 1_000;
+
+    private final ObjectMapper objectMapper;
+    private final long ttlNanos;
+    private final Map<String, Estimate> cache = new ConcurrentHashMap<>();
+
+    public RowCountEstimator(ObjectMapper objectMapper,
+                             @Value("${payzen.pagination.estimate-ttl-ms:60000}") long ttlMs) {
+        this.objectMapper = objectMapper;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+    }
+
+    /**
+     * @param key     identifies the query and its filter values
+     * @param explain runs the EXPLAIN (FORMAT JSON) for the filtered query
+     */
+    public long estimate(String key, Supplier<String> explain) {
+        long now = System.nanoTime();
+        Estimate cached = cache.get(key);
+        if (cached != null && now - cached.expiresAtNanos < 0) {
+            return cached.rows;
+        }
+        long rows = planRows(explain.get());
+        if (cache.size() >= MAX_ENTRIES) {
+            // Cheap bound: estimates are quick to recompute, so just start over
+            cache.clear();
+        }
+        cache.put(key, new Estimate(rows, now + ttlNanos));
+        return rows;
+    }
+
+    private long planRows(String plan) {
+        try {
+            JsonNode rows = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows");
+            return Math.max(0, rows.asLong());
+        } catch (Exception e) {
+            log.warn("Could not read row estimate from query plan", e);
+            return 0;
+        }
+    }
+
+    private record Estimate(long rows, long expiresAtNanos) {
+    }
+}
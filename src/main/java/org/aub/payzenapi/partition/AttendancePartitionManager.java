@@ -0,0 +1,150 @@
+package org.aub.payzenapi.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aub.payzenapi.repository.mybatis.AttendancePartitionMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the monthly partitions of attendances in shape. Partitions are created
+ * {@code months-ahead} months in advance so inserts never land in attendances_default,
+ * and any month that did land there (a date far in the past or future) gets its own
+ * partition on the next run.
+ * <p>
+ * With {@code retention-months} set, months older than that are detached, and moved to
+ * {@code archive-schema} if one is configured or renamed to attendances_YYYY_MM_detached
+ * otherwise, so they can be dumped or dropped without touching the live table and the
+ * month's name is free if rows for it arrive again. Their totals stay in
+ * attendance_monthly_totals, but raw rows for those months are no longer visible to the API.
+ * <p>
+ * Detaching uses DETACH PARTITION CONCURRENTLY, which holds only a SHARE UPDATE EXCLUSIVE
+ * lock on attendances, so reads and writes continue while an old month is detached.
+ */
+@Slf4j
+@Component
+public class AttendancePartitionManager {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("attendances_(\\d{4})_(\\d{2})");
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final String DEFAULT_PARTITION = "attendances_default";
+    private static final String DETACHED_SUFFIX = "_detached";
+
+    private final AttendancePartitionMapper partitionMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate withoutTransaction;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final String archiveSchema;
+
+    public AttendancePartitionManager(AttendancePartitionMapper partitionMapper,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${payzen.attendance.partitions.months-ahead:3}") int monthsAhead,
+                                      @Value("${payzen.attendance.partitions.retention-months:0}") int retentionMonths,
+                                      @Value("${payzen.attendance.partitions.archive-schema:}") String archiveSchema) {
+        if (!archiveSchema.isEmpty() && !IDENTIFIER.matcher(archiveSchema).matches()) {
+            throw new IllegalArgumentException("Invalid payzen.attendance.partitions.archive-schema: " + archiveSchema);
+        }
+        this.partitionMapper = partitionMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.withoutTransaction = new TransactionTemplate(transactionManager);
+        this.withoutTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.archiveSchema = archiveSchema;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${payzen.attendance.partitions.cron:0 15 2 * * *}")
+    public void maintain() {
+        YearMonth current = YearMonth.now();
+        int created = 0;
+        for (int i = 0; i <= monthsAhead; i++) {
+            created += createPartition(current.plusMonths(i)) ? 1 : 0;
+        }
+        for (LocalDate month : partitionMapper.monthsInDefaultPartition()) {
+            created += createPartition(YearMonth.from(month)) ? 1 : 0;
+        }
+        int detached = retentionMonths > 0 ? detachBefore(current.minusMonths(retentionMonths)) : 0;
+        if (created > 0 || detached > 0) {
+            log.info("Attendance partitions: created {}, detached {}", created, detached);
+        }
+    }
+
+    // One transaction per month keeps the lock on attendances_default short
+    private boolean createPartition(YearMonth month) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> partitionMapper.createPartition(month.atDay(1))));
+    }
+
+    // The advisory lock is held for the whole sequence so only one node detaches at a
+    // time; the statements themselves run outside that transaction, each on its own
+    private int detachBefore(YearMonth cutoff) {
+        Integer detached = transactionTemplate.execute(lock -> {
+            partitionMapper.lockPartitions();
+            return withoutTransaction.execute(status -> detachExpired(cutoff));
+        });
+        return detached != null ? detached : 0;
+    }
+
+    private int detachExpired(YearMonth cutoff) {
+        List<String> partitions = partitionMapper.partitionNames();
+        if (!partitions.contains(DEFAULT_PARTITION) && partitionMapper.tableExists(DEFAULT_PARTITION)) {
+            // A previous run stopped before it could put the default partition back
+            partitionMapper.attachDefaultPartition(DEFAULT_PARTITION);
+        }
+        List<String> expired = partitions.stream()
+                .filter(name -> monthOf(name).filter(month -> month.isBefore(cutoff)).isPresent())
+                .toList();
+        if (expired.isEmpty()) {
+            return 0;
+        }
+        Set<String> pending = Set.copyOf(partitionMapper.pendingDetachNames());
+
+        // CONCURRENTLY is refused while attendances has a default partition, so it is set
+        // aside meanwhile; inserts for a month without a partition fail until it is back
+        partitionMapper.detachPartition(DEFAULT_PARTITION);
+        int detached = 0;
+        try {
+            for (String name : expired) {
+                if (pending.contains(name)) {
+                    partitionMapper.finalizeDetach(name);
+                } else {
+                    partitionMapper.detachPartitionConcurrently(name);
+                }
+                if (archiveSchema.isEmpty()) {
+                    partitionMapper.renameTable(name, name + DETACHED_SUFFIX);
+                } else {
+                    partitionMapper.createSchema(archiveSchema);
+                    partitionMapper.moveToSchema(name, archiveSchema);
+                }
+                log.info("Detached attendance partition {} {}", name,
+                        archiveSchema.isEmpty() ? "as " + name + DETACHED_SUFFIX : "into " + archiveSchema);
+                detached++;
+            }
+        } finally {
+            partitionMapper.attachDefaultPartition(DEFAULT_PARTITION);
+        }
+        return detached;
+    }
+
+    static Optional<YearMonth> monthOf(String partitionName) {
+        Matcher matcher = PARTITION_NAME.matcher(partitionName);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+    }
+}
@@ -0,0 +1,46 @@
+package org.aub.payzenapi.partition;
+
+import org.aub.payzenapi.exception.BadRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Fills in the date bounds an attendance list request left open, so every query on the
+ * partitioned attendances table carries a range the planner can prune partitions with.
+ * An open end defaults to the end of next month, which still covers leave recorded
+ * ahead of time; an open start to {@code default-range-months} before the end.
+ */
+@Component
+public class AttendanceQueryBounds {
+
+    private final int defaultRangeMonths;
+
+    public AttendanceQueryBounds(@Value("${payzen.attendance.query.default-range-months:12}") int defaultRangeMonths) {
+        this.defaultRangeMonths = defaultRangeMonths;
+    }
+
+    public DateRange resolve(LocalDate startDate, LocalDate endDate) {
+        return resolve(startDate, endDate, LocalDate.now());
+    }
+
+    DateRange resolve(LocalDate startDate, LocalDate endDate, LocalDate today) {
+        LocalDate end = endDate;
+        if (end == null) {
+            LocalDate defaultEnd = YearMonth.from(today).plusMonths(1).atEndOfMonth();
+            end = startDate != null && startDate.isAfter(defaultEnd)
+                    ? startDate.plusMonths(defaultRangeMonths)
+                    : defaultEnd;
+        }
+        LocalDate start = startDate != null ? startDate : end.minusMonths(defaultRangeMonths).withDayOfMonth(1);
+        if (end.isBefore(start)) {
+            throw new BadRequestException("endDate must not be before startDate");
+        }
+        return new DateRange(start, end);
+    }
+
+    public record DateRange(LocalDate startDate, LocalDate endDate) {
+    }
+}
@@ -0,0 +1,214 @@
+package org.aub.payzenapi.payroll;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link PayrollRuleSet} compiled into flat arrays and per-department totals. Money is
+ * in cents and rates in parts per million, so {@link #evaluate} is long arithmetic with
+ * a single map lookup and no allocation. Immutable once compiled.
+ */
+public final class PayrollPlan {
+
+    private static final long PPM = 1_000_000L;
+    private static final BigDecimal PPM_DECIMAL = BigDecimal.valueOf(PPM);
+
+    private final PayrollRuleSet ruleSet;
+    private final long standardMinutes;
+    private final long[] bracketFloorsCents;
+    private final long[] bracketRatesPpm;
+    private final DepartmentRules defaultRules;
+    private final Map<String, DepartmentRules> departmentRules;
+
+    private PayrollPlan(PayrollRuleSet ruleSet, long standardMinutes, long[] bracketFloorsCents,
+                        long[] bracketRatesPpm, DepartmentRules defaultRules,
+                        Map<String, DepartmentRules> departmentRules) {
+        this.ruleSet = ruleSet;
+        this.standardMinutes = standardMinutes;
+        this.bracketFloorsCents = bracketFloorsCents;
+        this.bracketRatesPpm = bracketRatesPpm;
+        this.defaultRules = defaultRules;
+        this.departmentRules = departmentRules;
+    }
+
+    public LocalDate effectiveFrom() {
+        return ruleSet.effectiveFrom();
+    }
+
+    /** The rules this plan was compiled from, e.g. as the base for a what-if scenario. */
+    public PayrollRuleSet ruleSet() {
+        return ruleSet;
+    }
+
+    /**
+     * Pay for one employee and period. Worked time up to the standard monthly hours is paid
+     * at the hourly rate (monthly base / standard hours); the rest is overtime at the
+     * department's multiplier. Allowances are added to gross, tax is progressive over
+     * gross, and deductions come off after tax.
+     */
+    public void evaluate(long baseSalaryCents, long workedMinutes, String department, PayrollResult result) {
+        DepartmentRules rules = department != null
+                ? departmentRules.getOrDefault(department, defaultRules)
+                : defaultRules;
+
+        long hourlyRateCents = divideHalfUp(baseSalaryCents * 60, standardMinutes);
+        long regularMinutes = Math.min(workedMinutes, standardMinutes);
+        long overtimeMinutes = workedMinutes - regularMinutes;
+        long overtimeRateCents = divideHalfUp(hourlyRateCents * rules.overtimeMultiplierPpm, PPM);
+
+        long regularPay = divideHalfUp(regularMinutes * hourlyRateCents, 60);
+        long overtimePay = divideHalfUp(overtimeMinutes * overtimeRateCents, 60);
+        long gross = regularPay + overtimePay + rules.allowancesCents;
+        long tax = tax(gross);
+        long deductions = rules.fixedDeductionsCents + divideHalfUp(gross * rules.deductionRatePpm, PPM);
+
+        result.hourlyRateCents = hourlyRateCents;
+        result.regularPayCents = regularPay;
+        result.overtimeMinutes = overtimeMinutes;
+        result.overtimeRateCents = overtimeRateCents;
+        result.overtimePayCents = overtimePay;
+        result.allowancesCents = rules.allowancesCents;
+        result.grossCents = gross;
+        result.taxCents = tax;
+        result.deductionsCents = deductions;
+        result.netCents = gross - tax - deductions;
+    }
+
+    private long tax(long grossCents) {
+        long tax = 0;
+        for (int i = 0; i < bracketFloorsCents.length; i++) {
+            long floor = bracketFloorsCents[i];
+            if (grossCents <= floor) {
+                break;
+            }
+            long ceiling = i + 1 < bracketFloorsCents.length ? bracketFloorsCents[i + 1] : Long.MAX_VALUE;
+            long taxable = Math.min(grossCents, ceiling) - floor;
+            tax += divideHalfUp(taxable * bracketRatesPpm[i], PPM);
+        }
+        return tax;
+    }
+
+    // Operands are non-negative
+    private static long divideHalfUp(long dividend, long divisor) {
+        return (dividend + divisor / 2) / divisor;
+    }
+
+    public static PayrollPlan compile(PayrollRuleSet ruleSet) {
+        require(ruleSet.effectiveFrom() != null, "effectiveFrom is required");
+        require(ruleSet.standardHoursPerMonth() != null && ruleSet.standardHoursPerMonth().signum() > 0,
+                "standardHoursPerMonth must be positive (rule set " + ruleSet.effectiveFrom() + ")");
+        long standardMinutes = ruleSet.standardHoursPerMonth().multiply(BigDecimal.valueOf(60)).longValue();
+
+        List<PayrollRuleSet.TaxBracket> brackets = new ArrayList<>(listOrEmpty(ruleSet.taxBrackets()));
+        for (PayrollRuleSet.TaxBracket bracket : brackets) {
+            require(bracket != null && bracket.from() != null && bracket.from().signum() >= 0 && bracket.rate() != null,
+                    "tax brackets need a non-negative 'from' and a 'rate' (rule set " + ruleSet.effectiveFrom() + ")");
+        }
+        brackets.sort(Comparator.comparing(PayrollRuleSet.TaxBracket::from));
+        long[] floors = new long[brackets.size()];
+        long[] rates = new long[brackets.size()];
+        for (int i = 0; i < brackets.size(); i++) {
+            PayrollRuleSet.TaxBracket bracket = brackets.get(i);
+            require(i == 0 || bracket.from().compareTo(brackets.get(i - 1).from()) != 0,
+                    "duplicate tax bracket at " + bracket.from() + " (rule set " + ruleSet.effectiveFrom() + ")");
+            floors[i] = PayrollResult.toCents(bracket.from());
+            rates[i] = toPpm(bracket.rate());
+        }
+
+        BigDecimal overtimeMultiplier = ruleSet.overtimeMultiplier() != null ? ruleSet.overtimeMultiplier() : BigDecimal.ONE;
+        Map<String, BigDecimal> departmentMultipliers = ruleSet.departmentOvertimeMultipliers() != null
+                ? ruleSet.departmentOvertimeMultipliers()
+                : Map.of();
+
+        // Every department named anywhere gets its own precomputed totals
+        Set<String> departments = new HashSet<>(departmentMultipliers.keySet());
+        listOrEmpty(ruleSet.allowances()).forEach(allowance -> addIfPresent(departments, allowance.department()));
+        listOrEmpty(ruleSet.deductions()).forEach(deduction -> addIfPresent(departments, deduction.department()));
+
+        DepartmentRules defaultRules = departmentRules(ruleSet, null, overtimeMultiplier);
+        Map<String, DepartmentRules> byDepartment = new HashMap<>();
+        for (String department : departments) {
+            byDepartment.put(department, departmentRules(ruleSet, department,
+                    departmentMultipliers.getOrDefault(department, overtimeMultiplier)));
+        }
+
+        PayrollPlan plan = new PayrollPlan(ruleSet, standardMinutes, floors, rates, defaultRules, Map.copyOf(byDepartment));
+        plan.requireNonNegativeNet(defaultRules, "other departments");
+        byDepartment.forEach((department, rules) -> plan.requireNonNegativeNet(rules, department));
+        return plan;
+    }
+
+    // Net pay only grows with gross while tax and rate deductions stay under 100% of each
+    // extra unit, so the lowest net is with no hours worked, when gross is the allowances
+    private void requireNonNegativeNet(DepartmentRules rules, String department) {
+        long topTaxRatePpm = 0;
+        for (long rate : bracketRatesPpm) {
+            topTaxRatePpm = Math.max(topTaxRatePpm, rate);
+        }
+        require(topTaxRatePpm + rules.deductionRatePpm < PPM,
+                "tax and deduction rates reach 100% of pay for " + department + " (rule set " + effectiveFrom() + ")");
+
+        long gross = rules.allowancesCents;
+        long net = gross - tax(gross) - divideHalfUp(gross * rules.deductionRatePpm, PPM) - rules.fixedDeductionsCents;
+        require(net >= 0, "fixed deductions of " + PayrollResult.toAmount(rules.fixedDeductionsCents)
+                + " can exceed net pay for " + department + " (rule set " + effectiveFrom() + ")");
+    }
+
+    private static DepartmentRules departmentRules(PayrollRuleSet ruleSet, String department, BigDecimal overtimeMultiplier) {
+        long allowances = 0;
+        for (PayrollRuleSet.Allowance allowance : listOrEmpty(ruleSet.allowances())) {
+            if (appliesTo(allowance.department(), department) && allowance.amount() != null) {
+                allowances += PayrollResult.toCents(allowance.amount());
+            }
+        }
+        long fixedDeductions = 0;
+        long deductionRate = 0;
+        for (PayrollRuleSet.Deduction deduction : listOrEmpty(ruleSet.deductions())) {
+            if (appliesTo(deduction.department(), department)) {
+                if (deduction.amount() != null) {
+                    fixedDeductions += PayrollResult.toCents(deduction.amount());
+                }
+                if (deduction.rate() != null) {
+                    deductionRate += toPpm(deduction.rate());
+                }
+            }
+        }
+        return new DepartmentRules(toPpm(overtimeMultiplier), allowances, fixedDeductions, deductionRate);
+    }
+
+    private static boolean appliesTo(String ruleDepartment, String department) {
+        return ruleDepartment == null || ruleDepartment.equals(department);
+    }
+
+    private static void addIfPresent(Set<String> departments, String department) {
+        if (department != null) {
+            departments.add(department);
+        }
+    }
+
+    private static <T> List<T> listOrEmpty(List<T> list) {
+        return list != null ? list : List.of();
+    }
+
+    private static long toPpm(BigDecimal fraction) {
+        require(fraction.signum() >= 0, "rates and multipliers cannot be negative: " + fraction);
+        return fraction.multiply(PPM_DECIMAL).longValue();
+    }
+
+    private static void require(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalArgumentException("Invalid payroll rules: " + message);
+        }
+    }
+
+    private record DepartmentRules(long overtimeMultiplierPpm, long allowancesCents,
+                                   long fixedDeductionsCents, long deductionRatePpm) {
+    }
+}
@@ -0,0 +1,71 @@
+package org.aub.payzenapi.payroll;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Output of {@link PayrollPlan#evaluate}, in cents and minutes. Reusable: a bulk run can
+ * evaluate every employee into the same instance and only build BigDecimals for what it
+ * keeps.
+ */
+public final class PayrollResult {
+
+    long hourlyRateCents;
+    long regularPayCents;
+    long overtimeMinutes;
+    long overtimeRateCents;
+    long overtimePayCents;
+    long allowancesCents;
+    long grossCents;
+    long taxCents;
+    long deductionsCents;
+    long netCents;
+
+    public long hourlyRateCents() {
+        return hourlyRateCents;
+    }
+
+    public long regularPayCents() {
+        return regularPayCents;
+    }
+
+    public long overtimeMinutes() {
+        return overtimeMinutes;
+    }
+
+    public long overtimeRateCents() {
+        return overtimeRateCents;
+    }
+
+    public long overtimePayCents() {
+        return overtimePayCents;
+    }
+
+    public long allowancesCents() {
+        return allowancesCents;
+    }
+
+    public long grossCents() {
+        return grossCents;
+    }
+
+    public long taxCents() {
+        return taxCents;
+    }
+
+    public long deductionsCents() {
+        return deductionsCents;
+    }
+
+    public long netCents() {
+        return netCents;
+    }
+
+    public static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    public static BigDecimal toAmount(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
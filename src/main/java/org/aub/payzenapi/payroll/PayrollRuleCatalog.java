@@ -0,0 +1,42 @@
+package org.aub.payzenapi.payroll;
+
+import org.aub.payzenapi.exception.BadRequestException;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Every configured rule set, compiled once and keyed by effective date. Looking up the
+ * plan for a date is a floor lookup; nothing is recompiled per payslip.
+ */
+public class PayrollRuleCatalog {
+
+    private final NavigableMap<LocalDate, PayrollPlan> plans;
+
+    public PayrollRuleCatalog(Collection<PayrollRuleSet> ruleSets) {
+        TreeMap<LocalDate, PayrollPlan> compiled = new TreeMap<>();
+        for (PayrollRuleSet ruleSet : ruleSets) {
+            PayrollPlan plan = PayrollPlan.compile(ruleSet);
+            if (compiled.put(plan.effectiveFrom(), plan) != null) {
+                throw new IllegalArgumentException("Invalid payroll rules: two rule sets effective from " + plan.effectiveFrom());
+            }
+        }
+        if (compiled.isEmpty()) {
+            throw new IllegalArgumentException("Invalid payroll rules: no rule sets configured");
+        }
+        this.plans = Collections.unmodifiableNavigableMap(compiled);
+    }
+
+    public PayrollPlan planFor(LocalDate date) {
+        Map.Entry<LocalDate, PayrollPlan> entry = plans.floorEntry(date);
+        if (entry == null) {
+            throw new BadRequestException("No payroll rules in effect on " + date
+                    + "; the earliest rule set starts " + plans.firstKey());
+        }
+        return entry.getValue();
+    }
+}
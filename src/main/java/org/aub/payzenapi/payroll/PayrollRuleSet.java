@@ -0,0 +1,33 @@
+package org.aub.payzenapi.payroll;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One version of the payroll rules as written in configuration. Takes effect on
+ * {@code effectiveFrom} and stays in effect until the next version's date. Amounts are
+ * monthly and in the salary currency; rates and multipliers are fractions (0.10 = 10%).
+ */
+public record PayrollRuleSet(
+        LocalDate effectiveFrom,
+        BigDecimal standardHoursPerMonth,
+        BigDecimal overtimeMultiplier,
+        Map<String, BigDecimal> departmentOvertimeMultipliers,
+        List<TaxBracket> taxBrackets,
+        List<Allowance> allowances,
+        List<Deduction> deductions) {
+
+    /** Marginal rate applied to the part of gross pay above {@code from}. */
+    public record TaxBracket(BigDecimal from, BigDecimal rate) {
+    }
+
+    /** Fixed monthly amount added to gross pay; applies to every department when none is given. */
+    public record Allowance(String name, String department, BigDecimal amount) {
+    }
+
+    /** Fixed amount plus a rate of gross pay, taken after tax; applies to every department when none is given. */
+    public record Deduction(String name, String department, BigDecimal amount, BigDecimal rate) {
+    }
+}
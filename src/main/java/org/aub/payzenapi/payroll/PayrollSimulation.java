@@ -0,0 +1,75 @@
+package org.aub.payzenapi.payroll;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Evaluates a plan over every employee in a snapshot and sums the results, splitting the
+ * snapshot across a fork-join pool. Each leaf reuses one {@link PayrollResult} and keeps
+ * its sums in locals, so the only allocations are one task and one total per split.
+ */
+public final class PayrollSimulation {
+
+    private static final int MIN_SLICE = 1024;
+
+    private PayrollSimulation() {
+    }
+
+    public static PayrollTotals evaluate(PayrollPlan plan, PayrollSnapshot snapshot, ForkJoinPool pool) {
+        if (snapshot.size() == 0) {
+            return PayrollTotals.EMPTY;
+        }
+        // A few slices per worker so uneven slices still balance out
+        int slice = Math.max(MIN_SLICE, snapshot.size() / (pool.getParallelism() * 4));
+        return pool.invoke(new SliceTask(plan, snapshot, 0, snapshot.size(), slice));
+    }
+
+    private static final class SliceTask extends RecursiveTask<PayrollTotals> {
+
+        private final PayrollPlan plan;
+        private final PayrollSnapshot snapshot;
+        private final int from;
+        private final int to;
+        private final int slice;
+
+        SliceTask(PayrollPlan plan, PayrollSnapshot snapshot, int from, int to, int slice) {
+            this.plan = plan;
+            this.snapshot = snapshot;
+            this.from = from;
+            this.to = to;
+            this.slice = slice;
+        }
+
+        @Override
+        protected PayrollTotals compute() {
+            if (to - from <= slice) {
+                return evaluateSlice();
+            }
+            int middle = (from + to) >>> 1;
+            SliceTask left = new SliceTask(plan, snapshot, from, middle, slice);
+            left.fork();
+            PayrollTotals right = new SliceTask(plan, snapshot, middle, to, slice).compute();
+            return left.join().plus(right);
+        }
+
+        private PayrollTotals evaluateSlice() {
+            PayrollResult result = new PayrollResult();
+            long gross = 0;
+            long overtimePay = 0;
+            long allowances = 0;
+            long tax = 0;
+            long deductions = 0;
+            long net = 0;
+            for (int i = from; i < to; i++) {
+                plan.evaluate(snapshot.baseSalaryCents(i), snapshot.workedMinutes(i), snapshot.department(i), result);
+                gross += result.grossCents;
+                overtimePay += result.overtimePayCents;
+                allowances += result.allowancesCents;
+                tax += result.taxCents;
+                deductions += result.deductionsCents;
+                net += result.netCents;
+            }
+            return new PayrollTotals(to - from, gross, overtimePay, allowances, tax, deductions, net);
+        }
+    }
+}
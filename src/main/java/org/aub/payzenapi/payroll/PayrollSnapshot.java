@@ -0,0 +1,81 @@
+package org.aub.payzenapi.payroll;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Columnar copy of what payroll needs per employee for one period: base salary in cents,
+ * present minutes worked and department. Loaded once and then read by any number of
+ * scenarios; department names are stored once and referenced by index.
+ */
+public final class PayrollSnapshot {
+
+    private final long[] baseSalaryCents;
+    private final long[] workedMinutes;
+    private final int[] departmentIndex;
+    private final String[] departments;
+    private final int size;
+
+    private PayrollSnapshot(long[] baseSalaryCents, long[] workedMinutes, int[] departmentIndex,
+                            String[] departments, int size) {
+        this.baseSalaryCents = baseSalaryCents;
+        this.workedMinutes = workedMinutes;
+        this.departmentIndex = departmentIndex;
+        this.departments = departments;
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long baseSalaryCents(int i) {
+        return baseSalaryCents[i];
+    }
+
+    public long workedMinutes(int i) {
+        return workedMinutes[i];
+    }
+
+    public String department(int i) {
+        return departments[departmentIndex[i]];
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+
+        private long[] baseSalaryCents = new long[256];
+        private long[] workedMinutes = new long[256];
+        private int[] departmentIndex = new int[256];
+        private final Map<String, Integer> departmentIds = new HashMap<>();
+        private int size;
+
+        private Builder() {
+        }
+
+        public Builder add(BigDecimal baseSalary, String department, long minutes) {
+            if (size == baseSalaryCents.length) {
+                int capacity = size * 2;
+                baseSalaryCents = Arrays.copyOf(baseSalaryCents, capacity);
+                workedMinutes = Arrays.copyOf(workedMinutes, capacity);
+                departmentIndex = Arrays.copyOf(departmentIndex, capacity);
+            }
+            baseSalaryCents[size] = PayrollResult.toCents(baseSalary);
+            workedMinutes[size] = minutes;
+            departmentIndex[size] = departmentIds.computeIfAbsent(department, key -> departmentIds.size());
+            size++;
+            return this;
+        }
+
+        public PayrollSnapshot build() {
+            String[] departments = new String[departmentIds.size()];
+            departmentIds.forEach((name, id) -> departments[id] = name);
+            return new PayrollSnapshot(baseSalaryCents, workedMinutes, departmentIndex, departments, size);
+        }
+    }
+}
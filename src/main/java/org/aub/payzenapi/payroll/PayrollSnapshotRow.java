@@ -0,0 +1,16 @@
+package org.aub.payzenapi.payroll;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * One row streamed from {@code PayrollSnapshotMapper}, copied straight into a
+ * {@link PayrollSnapshot}.
+ */
+@Data
+public class PayrollSnapshotRow {
+    private BigDecimal baseSalary;
+    private String department;
+    private long workedMinutes;
+}
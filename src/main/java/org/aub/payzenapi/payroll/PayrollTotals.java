@@ -0,0 +1,32 @@
+package org.aub.payzenapi.payroll;
+
+/**
+ * Sums over every employee in a snapshot, in cents.
+ */
+public record PayrollTotals(int employees, long grossCents, long overtimePayCents, long allowancesCents,
+                            long taxCents, long deductionsCents, long netCents) {
+
+    public static final PayrollTotals EMPTY = new PayrollTotals(0, 0, 0, 0, 0, 0, 0);
+
+    public PayrollTotals plus(PayrollTotals other) {
+        return new PayrollTotals(
+                employees + other.employees,
+                grossCents + other.grossCents,
+                overtimePayCents + other.overtimePayCents,
+                allowancesCents + other.allowancesCents,
+                taxCents + other.taxCents,
+                deductionsCents + other.deductionsCents,
+                netCents + other.netCents);
+    }
+
+    public PayrollTotals minus(PayrollTotals other) {
+        return new PayrollTotals(
+                employees - other.employees,
+                grossCents - other.grossCents,
+                overtimePayCents - other.overtimePayCents,
+                allowancesCents - other.allowancesCents,
+                taxCents - other.taxCents,
+                deductionsCents - other.deductionsCents,
+                netCents - other.netCents);
+    }
+}
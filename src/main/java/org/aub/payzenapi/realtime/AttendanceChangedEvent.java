@@ -0,0 +1,10 @@
+package org.aub.payzenapi.realtime;
+
+import org.aub.payzenapi.model.dto.response.AttendanceResponse;
+
+/**
+ * Published by the attendance service inside its transaction; only delivered to
+ * dashboards once that transaction commits.
+ */
+public record AttendanceChangedEvent(AttendanceEventType type, AttendanceResponse attendance) {
+}
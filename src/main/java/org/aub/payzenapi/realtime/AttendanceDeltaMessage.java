@@ -0,0 +1,16 @@
+package org.aub.payzenapi.realtime;
+
+import org.aub.payzenapi.model.dto.response.AttendanceResponse;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * One broadcast on {@value AttendanceEventBroadcaster#TOPIC}: the latest state of every
+ * attendance record that changed since the previous broadcast.
+ */
+public record AttendanceDeltaMessage(Instant timestamp, List<Change> changes) {
+
+    public record Change(AttendanceEventType type, AttendanceResponse attendance) {
+    }
+}
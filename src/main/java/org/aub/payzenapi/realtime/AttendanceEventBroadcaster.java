@@ -0,0 +1,63 @@
+package org.aub.payzenapi.realtime;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pushes committed attendance changes to dashboards subscribed to {@value #TOPIC}.
+ * <p>
+ * Changes are coalesced per attendance record and flushed once per interval, so a burst
+ * of check-ins at 9:00 becomes one message per second rather than one per check-in per
+ * dashboard. The broker serializes each message once and fans it out to every session.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceEventBroadcaster {
+
+    public static final String TOPIC = "/topic/attendance";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final Map<UUID, AttendanceDeltaMessage.Change> pending = new ConcurrentHashMap<>();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        // Later changes to the same record replace earlier ones within the window
+        pending.put(event.attendance().getAttendanceId(),
+                new AttendanceDeltaMessage.Change(event.type(), event.attendance()));
+    }
+
+    @Scheduled(fixedRateString = "${payzen.realtime.attendance.flush-interval-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<AttendanceDeltaMessage.Change> changes = new ArrayList<>(pending.size());
+        for (Map.Entry<UUID, AttendanceDeltaMessage.Change> entry : pending.entrySet()) {
+            // Conditional remove so a change that lands mid-flush is kept for the next window
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                changes.add(entry.getValue());
+            }
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+        try {
+            messagingTemplate.convertAndSend(TOPIC, new AttendanceDeltaMessage(Instant.now(), changes));
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast {} attendance changes", changes.size(), e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package org.aub.payzenapi.realtime;
+
+public enum AttendanceEventType {
+    RECORDED,
+    UPDATED,
+    CHECKED_IN,
+    CHECKED_OUT
+}
@@ -0,0 +1,49 @@
+package org.aub.payzenapi.repository;
+
+import org.aub.payzenapi.model.entity.AttendanceMonthlyTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Repository
+public interface AttendanceMonthlyTotalRepository extends JpaRepository<AttendanceMonthlyTotal, AttendanceMonthlyTotal.Key> {
+
+    // Adds the deltas to the month's row, creating it if needed, in one atomic statement
+    @Modifying
+    @Query(value = "INSERT INTO attendance_monthly_totals (employee_id, month, present_minutes, present_days, " +
+                   "absent_days, late_days, half_days, sick_leave_days, vacation_days, holiday_days, updated_at) " +
+                   "VALUES (:employeeId, :month, :presentMinutes, :presentDays, :absentDays, :lateDays, :halfDays, " +
+                   ":sickLeaveDays, :vacationDays, :holidayDays, now()) " +
+                   "ON CONFLICT (employee_id, month) DO UPDATE SET " +
+                   "present_minutes = attendance_monthly_totals.present_minutes + EXCLUDED.present_minutes, " +
+                   "present_days = attendance_monthly_totals.present_days + EXCLUDED.present_days, " +
+                   "absent_days = attendance_monthly_totals.absent_days + EXCLUDED.absent_days, " +
+                   "late_days = attendance_monthly_totals.late_days + EXCLUDED.late_days, " +
+                   "half_days = attendance_monthly_totals.half_days + EXCLUDED.half_days, " +
+                   "sick_leave_days = attendance_monthly_totals.sick_leave_days + EXCLUDED.sick_leave_days, " +
+                   "vacation_days = attendance_monthly_totals.vacation_days + EXCLUDED.vacation_days, " +
+                   "holiday_days = attendance_monthly_totals.holiday_days + EXCLUDED.holiday_days, " +
+                   "updated_at = now()",
+           nativeQuery = true)
+    int applyDelta(@Param("employeeId") UUID employeeId,
+                   @Param("month") LocalDate month,
+                   @Param("presentMinutes") long presentMinutes,
+                   @Param("presentDays") int presentDays,
+                   @Param("absentDays") int absentDays,
+                   @Param("lateDays") int lateDays,
+                   @Param("halfDays") int halfDays,
+                   @Param("sickLeaveDays") int sickLeaveDays,
+                   @Param("vacationDays") int vacationDays,
+                   @Param("holidayDays") int holidayDays);
+
+    @Query("SELECT COALESCE(SUM(t.presentMinutes), 0) FROM AttendanceMonthlyTotal t " +
+           "WHERE t.id.employeeId = :employeeId AND t.id.month BETWEEN :firstMonth AND :lastMonth")
+    long sumPresentMinutes(@Param("employeeId") UUID employeeId,
+                               @Param("firstMonth") LocalDate firstMonth,
+                               @Param("lastMonth") LocalDate lastMonth);
+}
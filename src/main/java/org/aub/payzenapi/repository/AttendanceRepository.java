@@ -23,12 +23,15 @@ public interface AttendanceRepository extends JpaRepository<Attendance, UUID> {
 
     Optional<Attendance> findByEmployeeAndAttendanceDate(Employee employee, LocalDate attendanceDate);
 
+    // Lookup by id confined to the partitions of a known date window
+    Optional<Attendance> findByAttendanceIdAndAttendanceDateBetween(UUID attendanceId, LocalDate startDate, LocalDate endDate);
+
     List<Attendance> findByAttendanceDateAndStatus(LocalDate attendanceDate, AttendanceStatus status);
 
+    // Date bounds are required so the planner can prune attendance partitions
     @Query("SELECT a FROM Attendance a WHERE " +
+           "a.attendanceDate BETWEEN :startDate AND :endDate AND " +
            "(:employeeId IS NULL OR a.employee.employeeId = :employeeId) AND " +
-           "(:startDate IS NULL OR a.attendanceDate >= :startDate) AND " +
-           "(:endDate IS NULL OR a.attendanceDate <= :endDate) AND " +
            "(:status IS NULL OR a.status = :status)")
     Page<Attendance> findAttendancesWithFilters(@Param("employeeId") UUID employeeId,
                                                 @Param("startDate") LocalDate startDate,
@@ -41,4 +44,11 @@ public interface AttendanceRepository extends JpaRepository<Attendance, UUID> {
     BigDecimal getTotalHoursWorkedByEmployeeInPeriod(@Param("employee") Employee employee,
                                                      @Param("startDate") LocalDate startDate,
                                                      @Param("endDate") LocalDate endDate);
+
+    // Used for the partial months at the edges of a range; see AttendanceRollup
+    @Query("SELECT COALESCE(SUM(a.workedMinutes), 0) FROM Attendance a WHERE a.employee.employeeId = :employeeId AND " +
+           "a.attendanceDate BETWEEN :startDate AND :endDate AND a.status = 'PRESENT'")
+    long sumPresentMinutes(@Param("employeeId") UUID employeeId,
+                           @Param("startDate") LocalDate startDate,
+                           @Param("endDate") LocalDate endDate);
 }
@@ -1,12 +1,16 @@
 package org.aub.payzenapi.repository;
 
+import jakarta.persistence.QueryHint;
 import org.aub.payzenapi.model.entity.Employee;
 import org.aub.payzenapi.model.entity.Payslip;
 import org.aub.payzenapi.model.enums.PayslipStatus;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -37,5 +41,22 @@ public interface PayslipRepository extends JpaRepository<Payslip, UUID> {
                                           @Param("status") PayslipStatus status,
                                           Pageable pageable);
 
+    // One keyset batch of findPayslipsWithFilters for exports, with the employee fetched;
+    // pass the last payslipId of the previous batch as afterId (null for the first)
+    @Query("SELECT p FROM Payslip p JOIN FETCH p.employee e WHERE " +
+           "(:startDate IS NULL OR p.payPeriodStart >= :startDate) AND " +
+           "(:endDate IS NULL OR p.payPeriodEnd <= :endDate) AND " +
+           "(:department IS NULL OR LOWER(e.department) = LOWER(:department)) AND " +
+           "(:status IS NULL OR p.status = :status) AND " +
+           "(:afterId IS NULL OR p.payslipId > :afterId) " +
+           "ORDER BY p.payslipId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Payslip> findPayslipBatchWithFilters(@Param("startDate") LocalDateTime startDate,
+                                              @Param("endDate") LocalDateTime endDate,
+                                              @Param("department") String department,
+                                              @Param("status") PayslipStatus status,
+                                              @Param("afterId") UUID afterId,
+                                              Limit limit);
+
     List<Payslip> findByStatus(PayslipStatus status);
 }
@@ -0,0 +1,62 @@
+package org.aub.payzenapi.repository.mybatis;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Partition maintenance for the attendances table. Table and schema names are spliced in
+ * with ${}; callers only pass names read from the catalog or validated identifiers.
+ */
+@Mapper
+public interface AttendancePartitionMapper {
+
+    // create_attendance_partition is defined in V4__partition_attendances.sql and replaced in V6
+    @Select("SELECT create_attendance_partition(#{month})")
+    boolean createPartition(@Param("month") LocalDate month);
+
+    @Select("SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+            "WHERE i.inhparent = CAST('attendances' AS regclass) ORDER BY c.relname")
+    List<String> partitionNames();
+
+    @Select("SELECT DISTINCT CAST(date_trunc('month', attendance_date) AS date) FROM attendances_default")
+    List<LocalDate> monthsInDefaultPartition();
+
+    @Select("SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+            "WHERE i.inhparent = CAST('attendances' AS regclass) AND i.inhdetachpending")
+    List<String> pendingDetachNames();
+
+    @Select("SELECT to_regclass(#{name}) IS NOT NULL")
+    boolean tableExists(@Param("name") String name);
+
+    // The same lock create_attendance_partition takes, held until the transaction ends
+    @Select("SELECT pg_advisory_xact_lock(hashtext('attendance_partitions'))")
+    void lockPartitions();
+
+    @Update("ALTER TABLE attendances DETACH PARTITION ${name}")
+    void detachPartition(@Param("name") String name);
+
+    // Cannot run inside a transaction block
+    @Update("ALTER TABLE attendances DETACH PARTITION ${name} CONCURRENTLY")
+    void detachPartitionConcurrently(@Param("name") String name);
+
+    // Completes a concurrent detach that was interrupted
+    @Update("ALTER TABLE attendances DETACH PARTITION ${name} FINALIZE")
+    void finalizeDetach(@Param("name") String name);
+
+    @Update("ALTER TABLE attendances ATTACH PARTITION ${name} DEFAULT")
+    void attachDefaultPartition(@Param("name") String name);
+
+    @Update("ALTER TABLE ${name} RENAME TO ${newName}")
+    void renameTable(@Param("name") String name, @Param("newName") String newName);
+
+    @Update("CREATE SCHEMA IF NOT EXISTS ${schema}")
+    void createSchema(@Param("schema") String schema);
+
+    @Update("ALTER TABLE ${name} SET SCHEMA ${schema}")
+    void moveToSchema(@Param("name") String name, @Param("schema") String schema);
+}
@@ -0,0 +1,66 @@
+package org.aub.payzenapi.repository.mybatis;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.aub.payzenapi.model.dto.response.AttendanceResponse;
+import org.aub.payzenapi.model.enums.AttendanceStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Read-only projections of attendance rows straight into {@link AttendanceResponse}.
+ */
+@Mapper
+public interface AttendanceQueryMapper {
+
+    Map<String, String> SORT_COLUMNS = Map.of(
+            "attendanceDate", "a.attendance_date",
+            "createdAt", "a.created_at",
+            "checkInTime", "a.check_in_time",
+            "checkOutTime", "a.check_out_time",
+            "totalHoursWorked", "a.total_hours_worked",
+            "workedMinutes", "a.worked_minutes",
+            "status", "a.status"
+    );
+
+    String DEFAULT_SORT = "a.attendance_date DESC";
+
+    // Both dates are required: attendances is partitioned by month and the range is what
+    // lets the planner skip partitions. See AttendanceQueryBounds for the defaults.
+    String FILTERS = """
+            WHERE a.attendance_date &gt;= #{startDate} AND a.attendance_date &lt;= #{endDate}
+              <if test="employeeId != null">AND a.employee_id = #{employeeId}</if>
+              <if test="status != null">AND a.status = #{status}</if>
+            """;
+
+    @Select("<script>" +
+            "SELECT a.attendance_id, a.employee_id, e.first_name || ' ' || e.last_name AS employee_name, " +
+            "a.attendance_date, a.check_in_time, a.check_out_time, a.break_duration_minutes, " +
+            "a.total_hours_worked, a.worked_minutes, a.status, a.notes, a.created_at, " +
+            "a.version || '.' || COALESCE(" + ResourceVersionMapper.EMPLOYEE_MICROS + ", 0) AS row_version " +
+            "FROM attendances a JOIN employees e ON e.employee_id = a.employee_id " + FILTERS +
+            " ORDER BY ${orderBy} LIMIT #{limit} OFFSET #{offset}</script>")
+    List<AttendanceResponse> findAttendances(@Param("employeeId") UUID employeeId,
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate,
+                                             @Param("status") AttendanceStatus status,
+                                             @Param("orderBy") String orderBy,
+                                             @Param("limit") int limit,
+                                             @Param("offset") long offset);
+
+    @Select("<script>SELECT COUNT(*) FROM attendances a " + FILTERS + "</script>")
+    long countAttendances(@Param("employeeId") UUID employeeId,
+                          @Param("startDate") LocalDate startDate,
+                          @Param("endDate") LocalDate endDate,
+                          @Param("status") AttendanceStatus status);
+
+    @Select("<script>EXPLAIN (FORMAT JSON) SELECT 1 FROM attendances a " + FILTERS + "</script>")
+    String explainAttendances(@Param("employeeId") UUID employeeId,
+                              @Param("startDate") LocalDate startDate,
+                              @Param("endDate") LocalDate endDate,
+                              @Param("status") AttendanceStatus status);
+}
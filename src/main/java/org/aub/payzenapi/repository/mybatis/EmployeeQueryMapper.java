@@ -0,0 +1,70 @@
+package org.aub.payzenapi.repository.mybatis;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.aub.payzenapi.model.dto.response.EmployeeResponse;
+import org.aub.payzenapi.model.enums.EmployeeStatus;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only projections of employees straight into {@link EmployeeResponse}, bypassing
+ * the persistence context. Writes still go through {@code EmployeeRepository}.
+ */
+@Mapper
+public interface EmployeeQueryMapper {
+
+    Map<String, String> SORT_COLUMNS = Map.of(
+            "createdAt", "created_at",
+            "updatedAt", "updated_at",
+            "firstName", "first_name",
+            "lastName", "last_name",
+            "email", "email",
+            "employeeCode", "employee_code",
+            "department", "department",
+            "position", "position",
+            "hireDate", "hire_date",
+            "baseSalary", "base_salary"
+    );
+
+    String DEFAULT_SORT = "created_at DESC";
+
+    String COLUMNS = "employee_id, employee_code, first_name, last_name, email, phone_number, date_of_birth, " +
+                     "gender, address, hire_date, department, position, base_salary, status, profile_image_url, " +
+                     "created_at, updated_at";
+
+    String FILTERS = """
+            <where>
+              <if test="name != null">LOWER(first_name || ' ' || last_name) LIKE LOWER('%' || #{name} || '%')</if>
+              <if test="department != null">AND LOWER(department) LIKE LOWER('%' || #{department} || '%')</if>
+              <if test="status != null">AND status = #{status}</if>
+            </where>
+            """;
+
+    @Select("<script>SELECT " + COLUMNS + " FROM employees " + FILTERS +
+            " ORDER BY ${orderBy} LIMIT #{limit} OFFSET #{offset}</script>")
+    List<EmployeeResponse> findEmployees(@Param("name") String name,
+                                         @Param("department") String department,
+                                         @Param("status") EmployeeStatus status,
+                                         @Param("orderBy") String orderBy,
+                                         @Param("limit") int limit,
+                                         @Param("offset") long offset);
+
+    @Select("<script>SELECT COUNT(*) FROM employees " + FILTERS + "</script>")
+    long countEmployees(@Param("name") String name,
+                        @Param("department") String department,
+                        @Param("status") EmployeeStatus status);
+
+    @Select("<script>EXPLAIN (FORMAT JSON) SELECT 1 FROM employees " + FILTERS + "</script>")
+    String explainEmployees(@Param("name") String name,
+                            @Param("department") String department,
+                            @Param("status") EmployeeStatus status);
+
+    @Select("SELECT " + COLUMNS + " FROM employees WHERE department = #{department}")
+    List<EmployeeResponse> findByDepartment(@Param("department") String department);
+
+    @Select("SELECT " + COLUMNS + " FROM employees WHERE status = #{status}")
+    List<EmployeeResponse> findByStatus(@Param("status") EmployeeStatus status);
+}
@@ -0,0 +1,39 @@
+package org.aub.payzenapi.repository.mybatis;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.ResultType;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.mapping.ResultSetType;
+import org.apache.ibatis.session.ResultHandler;
+import org.aub.payzenapi.payroll.PayrollSnapshotRow;
+
+import java.time.LocalDate;
+
+/**
+ * Streams the per-employee inputs for a payroll simulation. Rows go to the handler one
+ * at a time so the snapshot is the only thing held in memory.
+ */
+@Mapper
+public interface PayrollSnapshotMapper {
+
+    @Select("""
+            <script>
+            SELECT e.base_salary, e.department,
+                   COALESCE(SUM(a.worked_minutes) FILTER (WHERE a.status = 'PRESENT'), 0) AS worked_minutes
+            FROM employees e
+            LEFT JOIN attendances a ON a.employee_id = e.employee_id
+                 AND a.attendance_date BETWEEN #{startDate} AND #{endDate}
+            WHERE e.status = 'ACTIVE'
+              <if test="department != null">AND e.department = #{department}</if>
+            GROUP BY e.employee_id
+            </script>
+            """)
+    @Options(resultSetType = ResultSetType.FORWARD_ONLY, fetchSize = 1000)
+    @ResultType(PayrollSnapshotRow.class)
+    void streamActiveEmployees(@Param("startDate") LocalDate startDate,
+                               @Param("endDate") LocalDate endDate,
+                               @Param("department") String department,
+                               ResultHandler<PayrollSnapshotRow> handler);
+}
@@ -0,0 +1,90 @@
+package org.aub.payzenapi.repository.mybatis;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.aub.payzenapi.model.dto.response.PayslipResponse;
+import org.aub.payzenapi.model.dto.response.PayslipSummaryResponse;
+import org.aub.payzenapi.model.enums.PayslipStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Read-only projections of payslips straight into {@link PayslipResponse}, plus the
+ * aggregate used by the summary endpoint.
+ */
+@Mapper
+public interface PayslipQueryMapper {
+
+    Map<String, String> SORT_COLUMNS = Map.of(
+            "createdAt", "p.created_at",
+            "payPeriodStart", "p.pay_period_start",
+            "payPeriodEnd", "p.pay_period_end",
+            "grossSalary", "p.gross_salary",
+            "netSalary", "p.net_salary",
+            "status", "p.status"
+    );
+
+    String DEFAULT_SORT = "p.created_at DESC";
+
+    String COLUMNS = "p.payslip_id, p.employee_id, e.first_name || ' ' || e.last_name AS employee_name, " +
+                     "p.pay_period_start, p.pay_period_end, p.base_salary, p.overtime_hours, p.overtime_rate, " +
+                     "p.overtime_pay, p.allowances, p.deductions, p.tax_deduction, p.gross_salary, p.net_salary, " +
+                     "p.status, p.created_at, " +
+                     "p.version || '.' || COALESCE(" + ResourceVersionMapper.EMPLOYEE_MICROS + ", 0) AS row_version";
+
+    String FILTERS = """
+            <where>
+              <if test="employeeId != null">p.employee_id = #{employeeId}</if>
+              <if test="startDate != null">AND p.pay_period_start &gt;= #{startDate}</if>
+              <if test="endDate != null">AND p.pay_period_end &lt;= #{endDate}</if>
+              <if test="status != null">AND p.status = #{status}</if>
+            </where>
+            """;
+
+    @Select("<script>SELECT " + COLUMNS + " FROM payslips p JOIN employees e ON e.employee_id = p.employee_id " +
+            FILTERS + " ORDER BY ${orderBy} LIMIT #{limit} OFFSET #{offset}</script>")
+    List<PayslipResponse> findPayslips(@Param("employeeId") UUID employeeId,
+                                       @Param("startDate") LocalDateTime startDate,
+                                       @Param("endDate") LocalDateTime endDate,
+                                       @Param("status") PayslipStatus status,
+                                       @Param("orderBy") String orderBy,
+                                       @Param("limit") int limit,
+                                       @Param("offset") long offset);
+
+    @Select("<script>SELECT COUNT(*) FROM payslips p " + FILTERS + "</script>")
+    long countPayslips(@Param("employeeId") UUID employeeId,
+                       @Param("startDate") LocalDateTime startDate,
+                       @Param("endDate") LocalDateTime endDate,
+                       @Param("status") PayslipStatus status);
+
+    @Select("<script>EXPLAIN (FORMAT JSON) SELECT 1 FROM payslips p " + FILTERS + "</script>")
+    String explainPayslips(@Param("employeeId") UUID employeeId,
+                           @Param("startDate") LocalDateTime startDate,
+                           @Param("endDate") LocalDateTime endDate,
+                           @Param("status") PayslipStatus status);
+
+    @Select("SELECT " + COLUMNS + " FROM payslips p JOIN employees e ON e.employee_id = p.employee_id " +
+            "WHERE p.employee_id = #{employeeId} ORDER BY p.pay_period_start DESC")
+    List<PayslipResponse> findByEmployee(@Param("employeeId") UUID employeeId);
+
+    @Select("""
+            <script>
+            SELECT COUNT(*) AS total_payslips,
+                   COALESCE(SUM(p.gross_salary), 0) AS total_gross_salary,
+                   COALESCE(SUM(p.net_salary), 0) AS total_net_salary,
+                   COALESCE(SUM(p.tax_deduction), 0) AS total_tax_deductions,
+                   COALESCE(ROUND(AVG(p.net_salary), 2), 0) AS average_salary
+            FROM payslips p
+            <where>
+              <if test="startDate != null">p.pay_period_start &gt;= #{startDate}</if>
+              <if test="endDate != null">AND p.pay_period_end &lt;= #{endDate}</if>
+            </where>
+            </script>
+            """)
+    PayslipSummaryResponse summarize(@Param("startDate") LocalDateTime startDate,
+                                     @Param("endDate") LocalDateTime endDate);
+}
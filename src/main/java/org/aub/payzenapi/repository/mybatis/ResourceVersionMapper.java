@@ -0,0 +1,34 @@
+package org.aub.payzenapi.repository.mybatis;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Version-only queries behind the ETags of the single-resource endpoints. Each returns a
+ * short tag built in the database (or null when nothing matches the id) without reading
+ * the columns the response is made of.
+ * <p>
+ * Payslip and attendance responses carry the employee's name, so their tags include the
+ * employee's updated_at as well as the row version. List queries select the same per-row
+ * tag as {@code row_version}, see ResourceVersionService.
+ */
+@Mapper
+public interface ResourceVersionMapper {
+
+    String EMPLOYEE_MICROS = "CAST(FLOOR(EXTRACT(EPOCH FROM e.updated_at) * 1000000) AS bigint)";
+
+    @Select("SELECT COALESCE(updated_at, created_at) FROM employees WHERE employee_id = #{employeeId}")
+    LocalDateTime employeeUpdatedAt(@Param("employeeId") UUID employeeId);
+
+    @Select("SELECT p.version || '.' || COALESCE(" + EMPLOYEE_MICROS + ", 0) " +
+            "FROM payslips p JOIN employees e ON e.employee_id = p.employee_id WHERE p.payslip_id = #{payslipId}")
+    String payslipTag(@Param("payslipId") UUID payslipId);
+
+    @Select("SELECT a.version || '.' || COALESCE(" + EMPLOYEE_MICROS + ", 0) " +
+            "FROM attendances a JOIN employees e ON e.employee_id = a.employee_id WHERE a.attendance_id = #{attendanceId}")
+    String attendanceTag(@Param("attendanceId") UUID attendanceId);
+}
@@ -0,0 +1,30 @@
+package org.aub.payzenapi.repository.mybatis;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Turns a {@link Sort} into an ORDER BY clause for the MyBatis read mappers. Only
+ * whitelisted properties are mapped to columns, so the result is safe to inline with ${}.
+ */
+public final class SortClause {
+
+    private SortClause() {
+    }
+
+    public static String of(Sort sort, Map<String, String> columns, String defaultClause) {
+        if (sort == null || sort.isUnsorted()) {
+            return defaultClause;
+        }
+        StringJoiner clause = new StringJoiner(", ");
+        for (Sort.Order order : sort) {
+            String column = columns.get(order.getProperty());
+            if (column != null) {
+                clause.add(column + (order.isAscending() ? " ASC" : " DESC"));
+            }
+        }
+        return clause.length() == 0 ? defaultClause : clause.toString();
+    }
+}
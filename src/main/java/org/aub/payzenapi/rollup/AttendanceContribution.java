@@ -0,0 +1,26 @@
+package org.aub.payzenapi.rollup;
+
+import org.aub.payzenapi.model.entity.Attendance;
+import org.aub.payzenapi.model.enums.AttendanceStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * What one attendance row adds to its month's totals. Taken before and after a write so
+ * the difference can be applied to the aggregate.
+ */
+public record AttendanceContribution(UUID employeeId, LocalDate month, AttendanceStatus status, int workedMinutes) {
+
+    public static AttendanceContribution of(Attendance attendance) {
+        return new AttendanceContribution(
+                attendance.getEmployee().getEmployeeId(),
+                attendance.getAttendanceDate().withDayOfMonth(1),
+                attendance.getStatus(),
+                attendance.getWorkedMinutes() != null ? attendance.getWorkedMinutes() : 0);
+    }
+
+    long presentMinutes() {
+        return status == AttendanceStatus.PRESENT ? workedMinutes : 0;
+    }
+}
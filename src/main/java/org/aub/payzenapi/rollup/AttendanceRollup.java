@@ -0,0 +1,85 @@
+package org.aub.payzenapi.rollup;
+
+import lombok.RequiredArgsConstructor;
+import org.aub.payzenapi.model.enums.AttendanceStatus;
+import org.aub.payzenapi.repository.AttendanceMonthlyTotalRepository;
+import org.aub.payzenapi.repository.AttendanceRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Maintains attendance_monthly_totals and answers present-minutes range queries from it.
+ * <p>
+ * Writes apply the difference between an attendance row's contribution before and after
+ * the change, in the same transaction as the change, with an atomic upsert. A range
+ * query sums whole months from the aggregate and only reads raw rows for the partial
+ * months at either end, so its cost grows with the number of months rather than days.
+ */
+@Component
+@RequiredArgsConstructor
+public class AttendanceRollup {
+
+    private final AttendanceMonthlyTotalRepository monthlyTotalRepository;
+    private final AttendanceRepository attendanceRepository;
+
+    /**
+     * @param before the row's contribution before the write, or null for a new row
+     * @param after  the row's contribution after the write, or null for a deleted row
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(AttendanceContribution before, AttendanceContribution after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        if (before != null && after != null
+                && before.employeeId().equals(after.employeeId()) && before.month().equals(after.month())) {
+            int[] days = new int[AttendanceStatus.values().length];
+            days[before.status().ordinal()]--;
+            days[after.status().ordinal()]++;
+            upsert(after.employeeId(), after.month(), after.presentMinutes() - before.presentMinutes(), days);
+            return;
+        }
+        if (before != null) {
+            int[] days = new int[AttendanceStatus.values().length];
+            days[before.status().ordinal()]--;
+            upsert(before.employeeId(), before.month(), -before.presentMinutes(), days);
+        }
+        if (after != null) {
+            int[] days = new int[AttendanceStatus.values().length];
+            days[after.status().ordinal()]++;
+            upsert(after.employeeId(), after.month(), after.presentMinutes(), days);
+        }
+    }
+
+    public long totalPresentMinutes(UUID employeeId, LocalDate startDate, LocalDate endDate) {
+        MonthRangeSplit split = MonthRangeSplit.of(startDate, endDate);
+
+        long total = 0;
+        if (split.hasWholeMonths()) {
+            total += monthlyTotalRepository.sumPresentMinutes(employeeId, split.firstMonth(), split.lastMonth());
+        }
+        if (split.hasLeading()) {
+            total += attendanceRepository.sumPresentMinutes(employeeId, split.leadingStart(), split.leadingEnd());
+        }
+        if (split.hasTrailing()) {
+            total += attendanceRepository.sumPresentMinutes(employeeId, split.trailingStart(), split.trailingEnd());
+        }
+        return total;
+    }
+
+    private void upsert(UUID employeeId, LocalDate month, long presentMinutes, int[] days) {
+        monthlyTotalRepository.applyDelta(employeeId, month, presentMinutes,
+                days[AttendanceStatus.PRESENT.ordinal()],
+                days[AttendanceStatus.ABSENT.ordinal()],
+                days[AttendanceStatus.LATE.ordinal()],
+                days[AttendanceStatus.HALF_DAY.ordinal()],
+                days[AttendanceStatus.SICK_LEAVE.ordinal()],
+                days[AttendanceStatus.VACATION.ordinal()],
+                days[AttendanceStatus.HOLIDAY.ordinal()]);
+    }
+}
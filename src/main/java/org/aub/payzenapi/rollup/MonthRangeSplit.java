@@ -0,0 +1,55 @@
+package org.aub.payzenapi.rollup;
+
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Splits an inclusive date range into the whole calendar months it covers plus the partial
+ * days before and after them. Any part may be empty: a range inside one month has no
+ * whole months and is reported entirely as {@code leading}.
+ *
+ * @param firstMonth    first day of the first whole month, or null if there are none
+ * @param lastMonth     first day of the last whole month, or null if there are none
+ * @param leadingStart  start of the partial days before the whole months, or null
+ * @param leadingEnd    end of the partial days before the whole months, or null
+ * @param trailingStart start of the partial days after the whole months, or null
+ * @param trailingEnd   end of the partial days after the whole months, or null
+ */
+public record MonthRangeSplit(LocalDate firstMonth, LocalDate lastMonth,
+                              LocalDate leadingStart, LocalDate leadingEnd,
+                              LocalDate trailingStart, LocalDate trailingEnd) {
+
+    public static MonthRangeSplit of(LocalDate start, LocalDate end) {
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("End date " + end + " is before start date " + start);
+        }
+
+        LocalDate firstMonth = start.getDayOfMonth() == 1 ? start : start.with(TemporalAdjusters.firstDayOfNextMonth());
+        LocalDate lastMonthEnd = end.equals(end.with(TemporalAdjusters.lastDayOfMonth()))
+                ? end
+                : end.withDayOfMonth(1).minusDays(1);
+
+        if (lastMonthEnd.isBefore(firstMonth)) {
+            return new MonthRangeSplit(null, null, start, end, null, null);
+        }
+
+        LocalDate lastMonth = lastMonthEnd.withDayOfMonth(1);
+        boolean hasLeading = start.isBefore(firstMonth);
+        boolean hasTrailing = end.isAfter(lastMonthEnd);
+        return new MonthRangeSplit(firstMonth, lastMonth,
+                hasLeading ? start : null, hasLeading ? firstMonth.minusDays(1) : null,
+                hasTrailing ? lastMonthEnd.plusDays(1) : null, hasTrailing ? end : null);
+    }
+
+    public boolean hasWholeMonths() {
+        return firstMonth != null;
+    }
+
+    public boolean hasLeading() {
+        return leadingStart != null;
+    }
+
+    public boolean hasTrailing() {
+        return trailingStart != null;
+    }
+}
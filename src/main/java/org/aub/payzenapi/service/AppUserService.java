@@ -5,4 +5,6 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 
 public interface AppUserService extends UserDetailsService {
     AppUserResponse getCurrentUser();
+
+    void evictPrincipal(String email);
 }
@@ -3,7 +3,8 @@ package org.aub.payzenapi.service;
 import org.aub.payzenapi.model.dto.request.AttendanceRequest;
 import org.aub.payzenapi.model.dto.response.AttendanceResponse;
 import org.aub.payzenapi.model.enums.AttendanceStatus;
-import org.springframework.data.domain.Page;
+import org.aub.payzenapi.pagination.CountMode;
+import org.aub.payzenapi.pagination.PageSlice;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
@@ -18,13 +19,15 @@ public interface AttendanceService {
 
     AttendanceResponse updateAttendance(UUID attendanceId, AttendanceRequest request);
 
-    Page<AttendanceResponse> getAttendanceRecords(UUID employeeId, LocalDate startDate,
-                                                  LocalDate endDate, AttendanceStatus status,
-                                                  Pageable pageable);
+    PageSlice<AttendanceResponse> getAttendanceRecords(UUID employeeId, LocalDate startDate,
+                                                       LocalDate endDate, AttendanceStatus status,
+                                                       Pageable pageable, CountMode countMode);
 
     AttendanceResponse checkIn(UUID attendanceId);
 
     AttendanceResponse checkOut(UUID attendanceId);
 
     BigDecimal getTotalHoursWorkedByEmployee(UUID employeeId, LocalDate startDate, LocalDate endDate);
+
+    long getTotalMinutesWorkedByEmployee(UUID employeeId, LocalDate startDate, LocalDate endDate);
 }
@@ -3,7 +3,8 @@ package org.aub.payzenapi.service;
 import org.aub.payzenapi.model.dto.request.EmployeeRequest;
 import org.aub.payzenapi.model.dto.response.EmployeeResponse;
 import org.aub.payzenapi.model.enums.EmployeeStatus;
-import org.springframework.data.domain.Page;
+import org.aub.payzenapi.pagination.CountMode;
+import org.aub.payzenapi.pagination.PageSlice;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
@@ -19,7 +20,8 @@ public interface EmployeeService {
 
     void deleteEmployee(UUID employeeId);
 
-    Page<EmployeeResponse> getAllEmployees(String name, String department, EmployeeStatus status, Pageable pageable);
+    PageSlice<EmployeeResponse> getAllEmployees(String name, String department, EmployeeStatus status,
+                                                Pageable pageable, CountMode countMode);
 
     List<EmployeeResponse> getEmployeesByDepartment(String department);
 
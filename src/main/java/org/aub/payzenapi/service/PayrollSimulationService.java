@@ -0,0 +1,9 @@
+package org.aub.payzenapi.service;
+
+import org.aub.payzenapi.model.dto.request.PayrollSimulationRequest;
+import org.aub.payzenapi.model.dto.response.PayrollSimulationResponse;
+
+public interface PayrollSimulationService {
+
+    PayrollSimulationResponse simulate(PayrollSimulationRequest request);
+}
@@ -0,0 +1,11 @@
+package org.aub.payzenapi.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+public interface PayslipArchiveService {
+
+    void writePayslipArchive(LocalDateTime payPeriodStart, LocalDateTime payPeriodEnd,
+                             String department, OutputStream out) throws IOException;
+}
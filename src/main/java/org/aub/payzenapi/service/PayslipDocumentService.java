@@ -0,0 +1,15 @@
+package org.aub.payzenapi.service;
+
+import org.aub.payzenapi.model.dto.response.PayslipResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface PayslipDocumentService {
+
+    void writePayslipPdf(PayslipResponse payslip, OutputStream out) throws IOException;
+
+    byte[] renderPayslipPdf(PayslipResponse payslip) throws IOException;
+
+    void evictPayslipPdf(PayslipResponse payslip);
+}
@@ -1,8 +1,10 @@
 package org.aub.payzenapi.service;
 
 import org.aub.payzenapi.model.dto.response.PayslipResponse;
+import org.aub.payzenapi.model.dto.response.PayslipSummaryResponse;
 import org.aub.payzenapi.model.enums.PayslipStatus;
-import org.springframework.data.domain.Page;
+import org.aub.payzenapi.pagination.CountMode;
+import org.aub.payzenapi.pagination.PageSlice;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
@@ -15,11 +17,13 @@ public interface PayslipService {
 
     PayslipResponse getPayslipById(UUID payslipId);
 
-    Page<PayslipResponse> getPayslips(UUID employeeId, LocalDateTime startDate,
-                                      LocalDateTime endDate, PayslipStatus status,
-                                      Pageable pageable);
+    PageSlice<PayslipResponse> getPayslips(UUID employeeId, LocalDateTime startDate,
+                                           LocalDateTime endDate, PayslipStatus status,
+                                           Pageable pageable, CountMode countMode);
 
     List<PayslipResponse> getPayslipsByEmployee(UUID employeeId);
 
     PayslipResponse updatePayslipStatus(UUID payslipId, PayslipStatus status);
+
+    PayslipSummaryResponse getPayslipSummary(LocalDateTime startDate, LocalDateTime endDate);
 }
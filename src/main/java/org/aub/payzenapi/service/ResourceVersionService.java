@@ -0,0 +1,34 @@
+package org.aub.payzenapi.service;
+
+import org.aub.payzenapi.base.ResourceVersion;
+import org.aub.payzenapi.model.dto.response.AttendanceResponse;
+import org.aub.payzenapi.model.dto.response.PayslipResponse;
+import org.aub.payzenapi.pagination.PageSlice;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Conditional GET validators for the read endpoints. The single-resource methods return
+ * null when the resource does not exist, so the controller carries on and produces the
+ * usual 404.
+ * <p>
+ * List validators are derived from the rows already read for the response, from each
+ * row's version and the count the page already has, so they cost no extra query; the
+ * 304 then saves serializing and sending the list rather than reading it.
+ */
+public interface ResourceVersionService {
+
+    ResourceVersion getEmployeeVersion(UUID employeeId);
+
+    ResourceVersion getPayslipVersion(UUID payslipId);
+
+    ResourceVersion getEmployeePayslipsVersion(List<PayslipResponse> payslips);
+
+    ResourceVersion getPayslipsVersion(PageSlice<PayslipResponse> payslips, Pageable pageable);
+
+    ResourceVersion getAttendanceVersion(UUID attendanceId);
+
+    ResourceVersion getAttendancesVersion(PageSlice<AttendanceResponse> attendances, Pageable pageable);
+}
@@ -1,21 +1,27 @@
 package org.aub.payzenapi.service.implementation;
 
 import lombok.RequiredArgsConstructor;
+import org.aub.payzenapi.cache.CacheNames;
 import org.aub.payzenapi.model.dto.response.AppUserResponse;
 import org.aub.payzenapi.model.entity.AppUser;
 import org.aub.payzenapi.model.mapper.AppUserMapper;
 import org.aub.payzenapi.repository.AuthRepository;
 import org.aub.payzenapi.service.AppUserService;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Objects;
+
 @Service
 @RequiredArgsConstructor
 public class AppUserServiceImplementation implements AppUserService {
     private final AuthRepository authRepository;
     private final AppUserMapper appUserMapper;
+    private final CacheManager cacheManager;
 
     public AppUser getAppCurrentUser() {
         return (AppUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
@@ -23,13 +29,24 @@ public class AppUserServiceImplementation implements AppUserService {
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        AppUser appUser = authRepository.getUserByEmail(email);
+        // Every authenticated request resolves its principal; the cache loads it through PrincipalCacheLoader
+        Cache principals = Objects.requireNonNull(cacheManager.getCache(CacheNames.PRINCIPALS),
+                "Cache '" + CacheNames.PRINCIPALS + "' is not declared under payzen.cache.specs");
+        AppUser appUser = principals.get(email, AppUser.class);
         if (appUser == null) {
             throw new UsernameNotFoundException("User not found with email: " + email);
         }
         return appUser;
     }
 
+    @Override
+    public void evictPrincipal(String email) {
+        Cache principals = cacheManager.getCache(CacheNames.PRINCIPALS);
+        if (principals != null) {
+            principals.evict(email);
+        }
+    }
+
     @Override
     public AppUserResponse getCurrentUser() {
         AppUser appUser = authRepository.findByUserId(getAppCurrentUser().getUserId());
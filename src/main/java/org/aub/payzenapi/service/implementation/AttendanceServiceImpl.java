@@ -2,6 +2,9 @@ package org.aub.payzenapi.service.implementation;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.aub.payzenapi.cache.EmployeeCache;
+import org.aub.payzenapi.cache.EmployeeSnapshot;
+import org.aub.payzenapi.event.DomainEventPublisher;
 import org.aub.payzenapi.exception.BadRequestException;
 import org.aub.payzenapi.exception.DuplicateResourceException;
 import org.aub.payzenapi.exception.ResourceNotFoundException;
@@ -10,18 +13,30 @@ import org.aub.payzenapi.model.dto.response.AttendanceResponse;
 import org.aub.payzenapi.model.entity.Attendance;
 import org.aub.payzenapi.model.entity.Employee;
 import org.aub.payzenapi.model.enums.AttendanceStatus;
+import org.aub.payzenapi.model.enums.DomainEventType;
+import org.aub.payzenapi.pagination.CountMode;
+import org.aub.payzenapi.pagination.PageSlice;
+import org.aub.payzenapi.pagination.RowCountEstimator;
+import org.aub.payzenapi.partition.AttendanceQueryBounds;
 import org.aub.payzenapi.repository.AttendanceRepository;
 import org.aub.payzenapi.repository.EmployeeRepository;
+import org.aub.payzenapi.repository.mybatis.AttendanceQueryMapper;
+import org.aub.payzenapi.repository.mybatis.SortClause;
+import org.aub.payzenapi.rollup.AttendanceContribution;
+import org.aub.payzenapi.rollup.AttendanceRollup;
+import org.aub.payzenapi.realtime.AttendanceChangedEvent;
+import org.aub.payzenapi.realtime.AttendanceEventType;
 import org.aub.payzenapi.service.AttendanceService;
-import org.springframework.data.domain.Page;
+import org.aub.payzenapi.utils.WorkedTime;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -32,13 +47,21 @@ public class AttendanceServiceImpl implements AttendanceService {
 
     private final AttendanceRepository attendanceRepository;
     private final EmployeeRepository employeeRepository;
+    private final AttendanceQueryMapper attendanceQueryMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventPublisher domainEventPublisher;
+    private final AttendanceRollup attendanceRollup;
+    private final RowCountEstimator rowCountEstimator;
+    private final EmployeeCache employeeCache;
+    private final AttendanceQueryBounds attendanceQueryBounds;
 
     @Override
     public AttendanceResponse recordAttendance(AttendanceRequest request) {
         log.info("Recording attendance for employee: {}", request.getEmployeeId());
 
-        Employee employee = employeeRepository.findById(request.getEmployeeId())
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + request.getEmployeeId()));
+        // The cache confirms the employee exists; the reference avoids loading the row again
+        EmployeeSnapshot employeeSnapshot = employeeCache.get(request.getEmployeeId());
+        Employee employee = employeeRepository.getReferenceById(request.getEmployeeId());
 
         // Check if attendance already exists for this date
         if (attendanceRepository.findByEmployeeAndAttendanceDate(employee, request.getAttendanceDate()).isPresent()) {
@@ -55,21 +78,23 @@ public class AttendanceServiceImpl implements AttendanceService {
                 .notes(request.getNotes())
                 .build();
 
-        // Calculate total hours worked if both check-in and check-out times are provided
-        if (attendance.getCheckInTime() != null && attendance.getCheckOutTime() != null) {
-            attendance.setTotalHoursWorked(calculateHoursWorked(attendance));
-        }
+        // Calculate time worked if both check-in and check-out times are provided
+        updateWorkedTime(attendance);
 
         Attendance savedAttendance = attendanceRepository.save(attendance);
+        attendanceRollup.apply(null, AttendanceContribution.of(savedAttendance));
         log.info("Attendance recorded successfully with ID: {}", savedAttendance.getAttendanceId());
 
-        return mapToResponse(savedAttendance);
+        AttendanceResponse response = mapToResponse(savedAttendance, employeeSnapshot.fullName());
+        eventPublisher.publishEvent(new AttendanceChangedEvent(AttendanceEventType.RECORDED, response));
+        domainEventPublisher.publish(DomainEventType.ATTENDANCE_RECORDED, response.getAttendanceId(), response);
+        return response;
     }
 
     @Override
     @Transactional(readOnly = true)
     public AttendanceResponse getAttendanceById(UUID attendanceId) {
-        log.info("Fetching attendance with ID: {}", attendanceId);
+        log.debug("Fetching attendance with ID: {}", attendanceId);
 
         Attendance attendance = attendanceRepository.findById(attendanceId)
                 .orElseThrow(() -> new ResourceNotFoundException("Attendance not found with ID: " + attendanceId));
@@ -83,6 +108,7 @@ public class AttendanceServiceImpl implements AttendanceService {
 
         Attendance attendance = attendanceRepository.findById(attendanceId)
                 .orElseThrow(() -> new ResourceNotFoundException("Attendance not found with ID: " + attendanceId));
+        AttendanceContribution before = AttendanceContribution.of(attendance);
 
         attendance.setCheckInTime(request.getCheckInTime());
         attendance.setCheckOutTime(request.getCheckOutTime());
@@ -90,56 +116,68 @@ public class AttendanceServiceImpl implements AttendanceService {
         attendance.setStatus(request.getStatus() != null ? request.getStatus() : attendance.getStatus());
         attendance.setNotes(request.getNotes());
 
-        // Recalculate total hours worked
-        if (attendance.getCheckInTime() != null && attendance.getCheckOutTime() != null) {
-            attendance.setTotalHoursWorked(calculateHoursWorked(attendance));
-        }
+        // Recalculate time worked
+        updateWorkedTime(attendance);
 
         Attendance updatedAttendance = attendanceRepository.save(attendance);
+        attendanceRollup.apply(before, AttendanceContribution.of(updatedAttendance));
         log.info("Attendance updated successfully with ID: {}", updatedAttendance.getAttendanceId());
 
-        return mapToResponse(updatedAttendance);
+        AttendanceResponse response = mapToResponse(updatedAttendance);
+        eventPublisher.publishEvent(new AttendanceChangedEvent(AttendanceEventType.UPDATED, response));
+        domainEventPublisher.publish(DomainEventType.ATTENDANCE_UPDATED, response.getAttendanceId(), response);
+        return response;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<AttendanceResponse> getAttendanceRecords(UUID employeeId, LocalDate startDate,
-                                                         LocalDate endDate, AttendanceStatus status,
-                                                         Pageable pageable) {
-        log.info("Fetching attendance records with filters");
-
-        Page<Attendance> attendances = attendanceRepository.findAttendancesWithFilters(
-                employeeId, startDate, endDate, status, pageable);
-
-        return attendances.map(this::mapToResponse);
+    public PageSlice<AttendanceResponse> getAttendanceRecords(UUID employeeId, LocalDate startDate,
+                                                              LocalDate endDate, AttendanceStatus status,
+                                                              Pageable pageable, CountMode countMode) {
+        log.debug("Fetching attendance records with filters");
+
+        AttendanceQueryBounds.DateRange range = attendanceQueryBounds.resolve(startDate, endDate);
+        LocalDate from = range.startDate();
+        LocalDate to = range.endDate();
+        String orderBy = SortClause.of(pageable.getSort(), AttendanceQueryMapper.SORT_COLUMNS, AttendanceQueryMapper.DEFAULT_SORT);
+        List<AttendanceResponse> attendances = attendanceQueryMapper.findAttendances(
+                employeeId, from, to, status, orderBy, PageSlice.lookaheadLimit(pageable), pageable.getOffset());
+
+        return PageSlice.of(attendances, pageable, countMode,
+                () -> attendanceQueryMapper.countAttendances(employeeId, from, to, status),
+                () -> rowCountEstimator.estimate("attendances|" + employeeId + '|' + from + '|' + to + '|' + status,
+                        () -> attendanceQueryMapper.explainAttendances(employeeId, from, to, status)));
     }
 
     @Override
     public AttendanceResponse checkIn(UUID attendanceId) {
         log.info("Processing check-in for attendance ID: {}", attendanceId);
 
-        Attendance attendance = attendanceRepository.findById(attendanceId)
-                .orElseThrow(() -> new ResourceNotFoundException("Attendance not found with ID: " + attendanceId));
+        Attendance attendance = findForPunch(attendanceId);
 
         if (attendance.getCheckInTime() != null) {
             throw new BadRequestException("Employee has already checked in");
         }
+        AttendanceContribution before = AttendanceContribution.of(attendance);
 
         attendance.setCheckInTime(LocalTime.now());
         attendance.setStatus(AttendanceStatus.PRESENT);
 
         Attendance updatedAttendance = attendanceRepository.save(attendance);
+        attendanceRollup.apply(before, AttendanceContribution.of(updatedAttendance));
         log.info("Check-in processed successfully for attendance ID: {}", attendanceId);
 
-        return mapToResponse(updatedAttendance);
+        AttendanceResponse response = mapToResponse(updatedAttendance);
+        eventPublisher.publishEvent(new AttendanceChangedEvent(AttendanceEventType.CHECKED_IN, response));
+        domainEventPublisher.publish(DomainEventType.ATTENDANCE_CHECKED_IN, response.getAttendanceId(), response);
+        return response;
     }
 
     @Override
     public AttendanceResponse checkOut(UUID attendanceId) {
         log.info("Processing check-out for attendance ID: {}", attendanceId);
 
-        Attendance attendance = attendanceRepository.findById(attendanceId)
-                .orElseThrow(() -> new ResourceNotFoundException("Attendance not found with ID: " + attendanceId));
+        Attendance attendance = findForPunch(attendanceId);
 
         if (attendance.getCheckInTime() == null) {
             throw new BadRequestException("Employee must check in before checking out");
@@ -148,50 +186,76 @@ public class AttendanceServiceImpl implements AttendanceService {
         if (attendance.getCheckOutTime() != null) {
             throw new BadRequestException("Employee has already checked out");
         }
+        AttendanceContribution before = AttendanceContribution.of(attendance);
 
         attendance.setCheckOutTime(LocalTime.now());
-        attendance.setTotalHoursWorked(calculateHoursWorked(attendance));
+        updateWorkedTime(attendance);
 
         Attendance updatedAttendance = attendanceRepository.save(attendance);
+        attendanceRollup.apply(before, AttendanceContribution.of(updatedAttendance));
         log.info("Check-out processed successfully for attendance ID: {}", attendanceId);
 
-        return mapToResponse(updatedAttendance);
+        AttendanceResponse response = mapToResponse(updatedAttendance);
+        eventPublisher.publishEvent(new AttendanceChangedEvent(AttendanceEventType.CHECKED_OUT, response));
+        domainEventPublisher.publish(DomainEventType.ATTENDANCE_CHECKED_OUT, response.getAttendanceId(), response);
+        return response;
     }
 
     @Override
     @Transactional(readOnly = true)
     public BigDecimal getTotalHoursWorkedByEmployee(UUID employeeId, LocalDate startDate, LocalDate endDate) {
-        Employee employee = employeeRepository.findById(employeeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + employeeId));
-
-        BigDecimal totalHours = attendanceRepository.getTotalHoursWorkedByEmployeeInPeriod(employee, startDate, endDate);
-        return totalHours != null ? totalHours : BigDecimal.valueOf(0.0);
+        return WorkedTime.toHours(getTotalMinutesWorkedByEmployee(employeeId, startDate, endDate));
     }
 
-    private BigDecimal calculateHoursWorked(Attendance attendance) {
-        if (attendance.getCheckInTime() == null || attendance.getCheckOutTime() == null) {
-            return BigDecimal.valueOf(0.0);
+    @Override
+    @Transactional(readOnly = true)
+    public long getTotalMinutesWorkedByEmployee(UUID employeeId, LocalDate startDate, LocalDate endDate) {
+        employeeCache.get(employeeId);
+        if (endDate.isBefore(startDate)) {
+            return 0;
         }
 
-        Duration duration = Duration.between(attendance.getCheckInTime(), attendance.getCheckOutTime());
-        double totalMinutes = duration.toMinutes();
+        return attendanceRollup.totalPresentMinutes(employeeId, startDate, endDate);
+    }
+
+    // Punches are almost always for today, or yesterday for a shift that ran past midnight,
+    // so try those partitions before probing every month's index
+    private Attendance findForPunch(UUID attendanceId) {
+        LocalDate today = LocalDate.now();
+        return attendanceRepository.findByAttendanceIdAndAttendanceDateBetween(attendanceId, today.minusDays(1), today)
+                .or(() -> attendanceRepository.findById(attendanceId))
+                .orElseThrow(() -> new ResourceNotFoundException("Attendance not found with ID: " + attendanceId));
+    }
 
-        // Subtract break duration
-        totalMinutes -= attendance.getBreakDurationMinutes();
+    // Minutes are the source of truth; total hours is derived from them for display
+    private void updateWorkedTime(Attendance attendance) {
+        if (attendance.getCheckInTime() == null || attendance.getCheckOutTime() == null) {
+            attendance.setWorkedMinutes(null);
+            attendance.setTotalHoursWorked(null);
+            return;
+        }
 
-        return BigDecimal.valueOf(Math.max(0, totalMinutes / 60.0)); // Convert to hours and ensure non-negative
+        int minutes = WorkedTime.workedMinutes(
+                attendance.getCheckInTime(), attendance.getCheckOutTime(), attendance.getBreakDurationMinutes());
+        attendance.setWorkedMinutes(minutes);
+        attendance.setTotalHoursWorked(WorkedTime.toHours(minutes));
     }
 
     private AttendanceResponse mapToResponse(Attendance attendance) {
+        return mapToResponse(attendance, attendance.getEmployee().getFirstName() + " " + attendance.getEmployee().getLastName());
+    }
+
+    private AttendanceResponse mapToResponse(Attendance attendance, String employeeName) {
         return AttendanceResponse.builder()
                 .attendanceId(attendance.getAttendanceId())
                 .employeeId(attendance.getEmployee().getEmployeeId())
-                .employeeName(attendance.getEmployee().getFirstName() + " " + attendance.getEmployee().getLastName())
+                .employeeName(employeeName)
                 .attendanceDate(attendance.getAttendanceDate())
                 .checkInTime(attendance.getCheckInTime())
                 .checkOutTime(attendance.getCheckOutTime())
                 .breakDurationMinutes(attendance.getBreakDurationMinutes())
                 .totalHoursWorked(attendance.getTotalHoursWorked())
+                .workedMinutes(attendance.getWorkedMinutes())
                 .status(attendance.getStatus())
                 .notes(attendance.getNotes())
                 .createdAt(attendance.getCreatedAt())
@@ -116,6 +116,7 @@ public class AuthServiceImplementation implements AuthService {
 
         otpService.removeOtp(email);
         appUserRepository.updateVerificationStatus(email);
+        appUserService.evictPrincipal(email);
     }
 
     @SneakyThrows
@@ -167,6 +168,7 @@ public class AuthServiceImplementation implements AuthService {
 
         String encodedPassword = passwordEncoder.encode(newPassword);
         authRepository.updatePassword(email, encodedPassword);
+        appUserService.evictPrincipal(email);
         AppUser updatedUser = authRepository.getUserByEmail(email);
 
         return appUserMapper.toResponse(updatedUser);
@@ -181,5 +183,6 @@ public class AuthServiceImplementation implements AuthService {
     public void changePassword(PasswordRequest passwordRequest) {
         String encodedPassword = passwordEncoder.encode(passwordRequest.getPassword());
         authRepository.changePassword(encodedPassword, getAppCurrentUser().getUserId());
+        appUserService.evictPrincipal(getAppCurrentUser().getEmail());
     }
 }
\ No newline at end of file
@@ -2,15 +2,22 @@ package org.aub.payzenapi.service.implementation;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.aub.payzenapi.cache.EmployeeCache;
+import org.aub.payzenapi.event.DomainEventPublisher;
 import org.aub.payzenapi.exception.DuplicateResourceException;
 import org.aub.payzenapi.exception.ResourceNotFoundException;
 import org.aub.payzenapi.model.dto.request.EmployeeRequest;
 import org.aub.payzenapi.model.dto.response.EmployeeResponse;
 import org.aub.payzenapi.model.entity.Employee;
+import org.aub.payzenapi.model.enums.DomainEventType;
 import org.aub.payzenapi.model.enums.EmployeeStatus;
+import org.aub.payzenapi.pagination.CountMode;
+import org.aub.payzenapi.pagination.PageSlice;
+import org.aub.payzenapi.pagination.RowCountEstimator;
 import org.aub.payzenapi.repository.EmployeeRepository;
+import org.aub.payzenapi.repository.mybatis.EmployeeQueryMapper;
+import org.aub.payzenapi.repository.mybatis.SortClause;
 import org.aub.payzenapi.service.EmployeeService;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +32,10 @@ import java.util.UUID;
 public class EmployeeServiceImpl implements EmployeeService {
 
     private final EmployeeRepository employeeRepository;
+    private final EmployeeQueryMapper employeeQueryMapper;
+    private final DomainEventPublisher domainEventPublisher;
+    private final RowCountEstimator rowCountEstimator;
+    private final EmployeeCache employeeCache;
 
     @Override
     public EmployeeResponse createEmployee(EmployeeRequest request) {
@@ -54,13 +65,15 @@ public class EmployeeServiceImpl implements EmployeeService {
         Employee savedEmployee = employeeRepository.save(employee);
         log.info("Employee created successfully with ID: {}", savedEmployee.getEmployeeId());
 
-        return mapToResponse(savedEmployee);
+        EmployeeResponse response = mapToResponse(savedEmployee);
+        domainEventPublisher.publish(DomainEventType.EMPLOYEE_CREATED, response.getEmployeeId(), response);
+        return response;
     }
 
     @Override
     @Transactional(readOnly = true)
     public EmployeeResponse getEmployeeById(UUID employeeId) {
-        log.info("Fetching employee with ID: {}", employeeId);
+        log.debug("Fetching employee with ID: {}", employeeId);
 
         Employee employee = employeeRepository.findById(employeeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + employeeId));
@@ -96,7 +109,10 @@ public class EmployeeServiceImpl implements EmployeeService {
         Employee updatedEmployee = employeeRepository.save(employee);
         log.info("Employee updated successfully with ID: {}", updatedEmployee.getEmployeeId());
 
-        return mapToResponse(updatedEmployee);
+        EmployeeResponse response = mapToResponse(updatedEmployee);
+        employeeCache.invalidate(employeeId);
+        domainEventPublisher.publish(DomainEventType.EMPLOYEE_UPDATED, response.getEmployeeId(), response);
+        return response;
     }
 
     @Override
@@ -108,36 +124,42 @@ public class EmployeeServiceImpl implements EmployeeService {
 
         // Soft delete by changing status to TERMINATED
         employee.setStatus(EmployeeStatus.TERMINATED);
-        employeeRepository.save(employee);
+        Employee terminatedEmployee = employeeRepository.save(employee);
+        employeeCache.invalidate(employeeId);
+        domainEventPublisher.publish(DomainEventType.EMPLOYEE_STATUS_CHANGED, employeeId, mapToResponse(terminatedEmployee));
 
         log.info("Employee deleted successfully with ID: {}", employeeId);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<EmployeeResponse> getAllEmployees(String name, String department, EmployeeStatus status, Pageable pageable) {
-        log.info("Fetching employees with filters - name: {}, department: {}, status: {}", name, department, status);
-
-        Page<Employee> employees = employeeRepository.findEmployeesWithFilters(name, department, status, pageable);
-        return employees.map(this::mapToResponse);
+    public PageSlice<EmployeeResponse> getAllEmployees(String name, String department, EmployeeStatus status,
+                                                       Pageable pageable, CountMode countMode) {
+        log.debug("Fetching employees with filters - name: {}, department: {}, status: {}", name, department, status);
+
+        String orderBy = SortClause.of(pageable.getSort(), EmployeeQueryMapper.SORT_COLUMNS, EmployeeQueryMapper.DEFAULT_SORT);
+        List<EmployeeResponse> employees = employeeQueryMapper.findEmployees(
+                name, department, status, orderBy, PageSlice.lookaheadLimit(pageable), pageable.getOffset());
+        return PageSlice.of(employees, pageable, countMode,
+                () -> employeeQueryMapper.countEmployees(name, department, status),
+                () -> rowCountEstimator.estimate("employees|" + name + '|' + department + '|' + status,
+                        () -> employeeQueryMapper.explainEmployees(name, department, status)));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<EmployeeResponse> getEmployeesByDepartment(String department) {
-        log.info("Fetching employees by department: {}", department);
+        log.debug("Fetching employees by department: {}", department);
 
-        List<Employee> employees = employeeRepository.findByDepartment(department);
-        return employees.stream().map(this::mapToResponse).toList();
+        return employeeQueryMapper.findByDepartment(department);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<EmployeeResponse> getEmployeesByStatus(EmployeeStatus status) {
-        log.info("Fetching employees by status: {}", status);
+        log.debug("Fetching employees by status: {}", status);
 
-        List<Employee> employees = employeeRepository.findByStatus(status);
-        return employees.stream().map(this::mapToResponse).toList();
+        return employeeQueryMapper.findByStatus(status);
     }
 
     @Override
@@ -149,9 +171,12 @@ public class EmployeeServiceImpl implements EmployeeService {
 
         employee.setStatus(status);
         Employee updatedEmployee = employeeRepository.save(employee);
+        employeeCache.invalidate(employeeId);
 
         log.info("Employee status updated successfully for ID: {}", employeeId);
-        return mapToResponse(updatedEmployee);
+        EmployeeResponse response = mapToResponse(updatedEmployee);
+        domainEventPublisher.publish(DomainEventType.EMPLOYEE_STATUS_CHANGED, employeeId, response);
+        return response;
     }
 
     @Override
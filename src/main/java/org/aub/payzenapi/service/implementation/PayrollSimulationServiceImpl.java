@@ -0,0 +1,125 @@
+package org.aub.payzenapi.service.implementation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aub.payzenapi.exception.BadRequestException;
+import org.aub.payzenapi.model.dto.request.PayrollScenarioRequest;
+import org.aub.payzenapi.model.dto.request.PayrollSimulationRequest;
+import org.aub.payzenapi.model.dto.response.PayrollScenarioResponse;
+import org.aub.payzenapi.model.dto.response.PayrollSimulationResponse;
+import org.aub.payzenapi.model.dto.response.PayrollTotalsResponse;
+import org.aub.payzenapi.payroll.PayrollPlan;
+import org.aub.payzenapi.payroll.PayrollResult;
+import org.aub.payzenapi.payroll.PayrollRuleCatalog;
+import org.aub.payzenapi.payroll.PayrollRuleSet;
+import org.aub.payzenapi.payroll.PayrollSimulation;
+import org.aub.payzenapi.payroll.PayrollSnapshot;
+import org.aub.payzenapi.payroll.PayrollTotals;
+import org.aub.payzenapi.repository.mybatis.PayrollSnapshotMapper;
+import org.aub.payzenapi.service.PayrollSimulationService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+@Service
+@Slf4j
+public class PayrollSimulationServiceImpl implements PayrollSimulationService {
+
+    private final PayrollSnapshotMapper payrollSnapshotMapper;
+    private final PayrollRuleCatalog payrollRuleCatalog;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public PayrollSimulationServiceImpl(PayrollSnapshotMapper payrollSnapshotMapper,
+                                        PayrollRuleCatalog payrollRuleCatalog,
+                                        PlatformTransactionManager transactionManager) {
+        this.payrollSnapshotMapper = payrollSnapshotMapper;
+        this.payrollRuleCatalog = payrollRuleCatalog;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public PayrollSimulationResponse simulate(PayrollSimulationRequest request) {
+        if (request.getPayPeriodEnd().isBefore(request.getPayPeriodStart())) {
+            throw new BadRequestException("Pay period end must not be before its start");
+        }
+        log.info("Simulating {} payroll scenarios for period {} to {}, department: {}",
+                request.getScenarios().size(), request.getPayPeriodStart(), request.getPayPeriodEnd(), request.getDepartment());
+
+        PayrollPlan current = payrollRuleCatalog.planFor(request.getPayPeriodEnd());
+        // Compile every scenario up front so a bad one fails before the snapshot is loaded
+        List<PayrollPlan> scenarioPlans = new ArrayList<>(request.getScenarios().size());
+        for (PayrollScenarioRequest scenario : request.getScenarios()) {
+            scenarioPlans.add(compile(current.ruleSet(), scenario));
+        }
+
+        // The connection is only held while the snapshot loads, not during evaluation
+        PayrollSnapshot snapshot = readOnlyTransaction.execute(status -> loadSnapshot(request));
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        PayrollTotals baseline = PayrollSimulation.evaluate(current, snapshot, pool);
+        List<PayrollScenarioResponse> scenarios = new ArrayList<>(scenarioPlans.size());
+        for (int i = 0; i < scenarioPlans.size(); i++) {
+            PayrollTotals totals = PayrollSimulation.evaluate(scenarioPlans.get(i), snapshot, pool);
+            scenarios.add(PayrollScenarioResponse.builder()
+                    .name(request.getScenarios().get(i).getName())
+                    .totals(toResponse(totals))
+                    .delta(toResponse(totals.minus(baseline)))
+                    .build());
+        }
+
+        return PayrollSimulationResponse.builder()
+                .payPeriodStart(request.getPayPeriodStart())
+                .payPeriodEnd(request.getPayPeriodEnd())
+                .department(request.getDepartment())
+                .employees(snapshot.size())
+                .rulesEffectiveFrom(current.effectiveFrom())
+                .baseline(toResponse(baseline))
+                .scenarios(scenarios)
+                .build();
+    }
+
+    private PayrollSnapshot loadSnapshot(PayrollSimulationRequest request) {
+        PayrollSnapshot.Builder snapshot = PayrollSnapshot.builder();
+        payrollSnapshotMapper.streamActiveEmployees(request.getPayPeriodStart(), request.getPayPeriodEnd(),
+                request.getDepartment(), context -> {
+                    var row = context.getResultObject();
+                    snapshot.add(row.getBaseSalary(), row.getDepartment(), row.getWorkedMinutes());
+                });
+        return snapshot.build();
+    }
+
+    private static PayrollPlan compile(PayrollRuleSet base, PayrollScenarioRequest scenario) {
+        PayrollRuleSet ruleSet = new PayrollRuleSet(
+                base.effectiveFrom(),
+                orElse(scenario.getStandardHoursPerMonth(), base.standardHoursPerMonth()),
+                orElse(scenario.getOvertimeMultiplier(), base.overtimeMultiplier()),
+                orElse(scenario.getDepartmentOvertimeMultipliers(), base.departmentOvertimeMultipliers()),
+                orElse(scenario.getTaxBrackets(), base.taxBrackets()),
+                orElse(scenario.getAllowances(), base.allowances()),
+                orElse(scenario.getDeductions(), base.deductions()));
+        try {
+            return PayrollPlan.compile(ruleSet);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Scenario '" + scenario.getName() + "': " + e.getMessage());
+        }
+    }
+
+    private static <T> T orElse(T value, T fallback) {
+        return value != null ? value : fallback;
+    }
+
+    private static PayrollTotalsResponse toResponse(PayrollTotals totals) {
+        return PayrollTotalsResponse.builder()
+                .totalGrossSalary(PayrollResult.toAmount(totals.grossCents()))
+                .totalOvertimePay(PayrollResult.toAmount(totals.overtimePayCents()))
+                .totalAllowances(PayrollResult.toAmount(totals.allowancesCents()))
+                .totalTaxDeductions(PayrollResult.toAmount(totals.taxCents()))
+                .totalDeductions(PayrollResult.toAmount(totals.deductionsCents()))
+                .totalNetSalary(PayrollResult.toAmount(totals.netCents()))
+                .build();
+    }
+}
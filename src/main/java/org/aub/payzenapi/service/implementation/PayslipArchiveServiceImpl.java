@@ -0,0 +1,196 @@
+package org.aub.payzenapi.service.implementation;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.aub.payzenapi.model.dto.response.PayslipResponse;
+import org.aub.payzenapi.model.entity.Payslip;
+import org.aub.payzenapi.repository.PayslipRepository;
+import org.aub.payzenapi.service.PayslipArchiveService;
+import org.aub.payzenapi.service.PayslipDocumentService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Streams a ZIP of payslip PDFs. Payslips are read in keyset batches of {@code fetchSize},
+ * each in its own short read-only transaction, so no connection is held while the client
+ * drains the download. They are rendered on a bounded pool shared by all downloads, and
+ * each PDF is written to the response as soon as it completes, so at most
+ * {@code maxInFlight} rendered PDFs are held in memory at any time. If the client goes
+ * away, writing fails and every outstanding render is cancelled.
+ */
+@Service
+@Slf4j
+public class PayslipArchiveServiceImpl implements PayslipArchiveService {
+
+    private static final DateTimeFormatter PERIOD_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private final PayslipRepository payslipRepository;
+    private final PayslipDocumentService payslipDocumentService;
+    private final ExecutorService renderExecutor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int maxInFlight;
+    private final int fetchSize;
+
+    public PayslipArchiveServiceImpl(PayslipRepository payslipRepository,
+                                     PayslipDocumentService payslipDocumentService,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${payzen.pdf.archive.render-threads:0}") int renderThreads,
+                                     @Value("${payzen.pdf.archive.max-in-flight:0}") int maxInFlight,
+                                     @Value("${payzen.pdf.archive.fetch-size:200}") int fetchSize) {
+        this.payslipRepository = payslipRepository;
+        this.payslipDocumentService = payslipDocumentService;
+        this.renderExecutor = createRenderExecutor(renderThreads > 0 ? renderThreads : Runtime.getRuntime().availableProcessors());
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxInFlight = maxInFlight > 0 ? maxInFlight : Runtime.getRuntime().availableProcessors() * 2;
+        this.fetchSize = Math.max(1, fetchSize);
+    }
+
+    @Override
+    public void writePayslipArchive(LocalDateTime payPeriodStart, LocalDateTime payPeriodEnd,
+                                    String department, OutputStream out) throws IOException {
+        log.info("Writing payslip archive for period {} to {}, department: {}", payPeriodStart, payPeriodEnd, department);
+
+        ZipOutputStream zip = new ZipOutputStream(out);
+        // PDFs are already compressed; spend as little CPU as possible deflating them again
+        zip.setLevel(Deflater.BEST_SPEED);
+
+        int written = renderInto(zip, payPeriodStart, payPeriodEnd, department);
+        zip.finish();
+        zip.flush();
+
+        log.info("Payslip archive written with {} payslips", written);
+    }
+
+    private int renderInto(ZipOutputStream zip, LocalDateTime payPeriodStart, LocalDateTime payPeriodEnd,
+                           String department) throws IOException {
+        CompletionService<RenderedPdf> completion = new ExecutorCompletionService<>(renderExecutor);
+        Set<Future<RenderedPdf>> pending = new HashSet<>();
+        int written = 0;
+        try {
+            List<PayslipResponse> batch = fetchBatch(payPeriodStart, payPeriodEnd, department, null);
+            while (!batch.isEmpty()) {
+                for (PayslipResponse response : batch) {
+                    pending.add(completion.submit(() -> render(response)));
+                    if (pending.size() >= maxInFlight) {
+                        written += writeNext(zip, completion, pending);
+                    }
+                }
+                batch = batch.size() < fetchSize
+                        ? List.of()
+                        : fetchBatch(payPeriodStart, payPeriodEnd, department, batch.getLast().getPayslipId());
+            }
+            while (!pending.isEmpty()) {
+                written += writeNext(zip, completion, pending);
+            }
+            return written;
+        } finally {
+            // Non-empty only if writing failed, e.g. the client cancelled the download
+            if (!pending.isEmpty()) {
+                log.warn("Payslip archive aborted, cancelling {} pending renders", pending.size());
+                pending.forEach(future -> future.cancel(true));
+            }
+        }
+    }
+
+    private int writeNext(ZipOutputStream zip, CompletionService<RenderedPdf> completion,
+                          Set<Future<RenderedPdf>> pending) throws IOException {
+        RenderedPdf pdf;
+        try {
+            Future<RenderedPdf> future = completion.take();
+            pending.remove(future);
+            pdf = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing payslip archive", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to render payslip", e.getCause());
+        }
+
+        zip.putNextEntry(new ZipEntry(pdf.name()));
+        zip.write(pdf.bytes());
+        zip.closeEntry();
+        // Push each entry to the client rather than letting the servlet buffer fill up
+        zip.flush();
+        return 1;
+    }
+
+    // Mapped inside the transaction; nothing holds on to the entities or the connection afterwards
+    private List<PayslipResponse> fetchBatch(LocalDateTime payPeriodStart, LocalDateTime payPeriodEnd,
+                                             String department, UUID afterId) {
+        return readOnlyTransaction.execute(status -> payslipRepository
+                .findPayslipBatchWithFilters(payPeriodStart, payPeriodEnd, department, null, afterId, Limit.of(fetchSize))
+                .stream()
+                .map(this::mapToResponse)
+                .toList());
+    }
+
+    private RenderedPdf render(PayslipResponse payslip) throws IOException {
+        return new RenderedPdf(entryName(payslip), payslipDocumentService.renderPayslipPdf(payslip));
+    }
+
+    private static String entryName(PayslipResponse payslip) {
+        String employee = payslip.getEmployeeName().replaceAll("[^A-Za-z0-9]+", "_");
+        return employee + "_" + PERIOD_FORMAT.format(payslip.getPayPeriodStart()) + "_" + payslip.getPayslipId() + ".pdf";
+    }
+
+    private PayslipResponse mapToResponse(Payslip payslip) {
+        return PayslipResponse.builder()
+                .payslipId(payslip.getPayslipId())
+                .employeeId(payslip.getEmployee().getEmployeeId())
+                .employeeName(payslip.getEmployee().getFirstName() + " " + payslip.getEmployee().getLastName())
+                .payPeriodStart(payslip.getPayPeriodStart())
+                .payPeriodEnd(payslip.getPayPeriodEnd())
+                .baseSalary(payslip.getBaseSalary())
+                .overtimeHours(payslip.getOvertimeHours())
+                .overtimeRate(payslip.getOvertimeRate())
+                .overtimePay(payslip.getOvertimePay())
+                .allowances(payslip.getAllowances())
+                .deductions(payslip.getDeductions())
+                .taxDeduction(payslip.getTaxDeduction())
+                .grossSalary(payslip.getGrossSalary())
+                .netSalary(payslip.getNetSalary())
+                .status(payslip.getStatus())
+                .createdAt(payslip.getCreatedAt())
+                .build();
+    }
+
+    // The queue is bounded and a saturated pool makes the requesting thread render the PDF
+    // itself, so load backs up into the downloads instead of queueing without limit
+    private static ExecutorService createRenderExecutor(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 4),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "payslip-render-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderExecutor.shutdownNow();
+    }
+
+    private record RenderedPdf(String name, byte[] bytes) {
+    }
+}
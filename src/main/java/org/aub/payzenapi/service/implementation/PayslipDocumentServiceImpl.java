@@ -0,0 +1,90 @@
+package org.aub.payzenapi.service.implementation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aub.payzenapi.document.PayslipPdfRenderer;
+import org.aub.payzenapi.document.RenderedDocumentKey;
+import org.aub.payzenapi.document.RenderedDocumentStore;
+import org.aub.payzenapi.model.dto.response.PayslipResponse;
+import org.aub.payzenapi.service.PayslipDocumentService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+@Service
+@Slf4j
+public class PayslipDocumentServiceImpl implements PayslipDocumentService {
+
+    private final PayslipPdfRenderer payslipPdfRenderer;
+    // Absent when payzen.documents.store=none
+    private final RenderedDocumentStore documentStore;
+
+    public PayslipDocumentServiceImpl(PayslipPdfRenderer payslipPdfRenderer,
+                                      ObjectProvider<RenderedDocumentStore> documentStore) {
+        this.payslipPdfRenderer = payslipPdfRenderer;
+        this.documentStore = documentStore.getIfAvailable();
+    }
+
+    @Override
+    public void writePayslipPdf(PayslipResponse payslip, OutputStream out) throws IOException {
+        if (documentStore == null) {
+            log.debug("Rendering PDF for payslip: {}", payslip.getPayslipId());
+            payslipPdfRenderer.render(payslip, out);
+            return;
+        }
+
+        String key = RenderedDocumentKey.of(payslip);
+        if (documentStore.copyTo(key, out)) {
+            log.debug("Serving stored PDF for payslip: {}", payslip.getPayslipId());
+            return;
+        }
+        byte[] pdf = renderAndStore(payslip, key);
+        out.write(pdf);
+    }
+
+    @Override
+    public byte[] renderPayslipPdf(PayslipResponse payslip) throws IOException {
+        if (documentStore == null) {
+            return render(payslip);
+        }
+
+        String key = RenderedDocumentKey.of(payslip);
+        ByteArrayOutputStream stored = new ByteArrayOutputStream(32 * 1024);
+        if (documentStore.copyTo(key, stored)) {
+            return stored.toByteArray();
+        }
+        return renderAndStore(payslip, key);
+    }
+
+    @Override
+    public void evictPayslipPdf(PayslipResponse payslip) {
+        if (documentStore == null) {
+            return;
+        }
+        try {
+            documentStore.evict(RenderedDocumentKey.of(payslip));
+        } catch (IOException | RuntimeException e) {
+            // The key can no longer be requested, so a failed eviction only costs space
+            log.warn("Failed to evict stored PDF for payslip: {}", payslip.getPayslipId(), e);
+        }
+    }
+
+    private byte[] renderAndStore(PayslipResponse payslip, String key) throws IOException {
+        byte[] pdf = render(payslip);
+        try {
+            documentStore.put(key, pdf);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to store PDF for payslip: {}", payslip.getPayslipId(), e);
+        }
+        return pdf;
+    }
+
+    private byte[] render(PayslipResponse payslip) throws IOException {
+        log.debug("Rendering PDF for payslip: {}", payslip.getPayslipId());
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32 * 1024);
+        payslipPdfRenderer.render(payslip, out);
+        return out.toByteArray();
+    }
+}
@@ -2,23 +2,35 @@ package org.aub.payzenapi.service.implementation;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.aub.payzenapi.cache.EmployeeCache;
+import org.aub.payzenapi.cache.EmployeeSnapshot;
+import org.aub.payzenapi.event.DomainEventPublisher;
 import org.aub.payzenapi.exception.DuplicateResourceException;
 import org.aub.payzenapi.exception.ResourceNotFoundException;
 import org.aub.payzenapi.model.dto.response.PayslipResponse;
+import org.aub.payzenapi.model.dto.response.PayslipSummaryResponse;
 import org.aub.payzenapi.model.entity.Employee;
 import org.aub.payzenapi.model.entity.Payslip;
+import org.aub.payzenapi.model.enums.DomainEventType;
 import org.aub.payzenapi.model.enums.PayslipStatus;
+import org.aub.payzenapi.pagination.CountMode;
+import org.aub.payzenapi.pagination.PageSlice;
+import org.aub.payzenapi.pagination.RowCountEstimator;
+import org.aub.payzenapi.payroll.PayrollPlan;
+import org.aub.payzenapi.payroll.PayrollResult;
+import org.aub.payzenapi.payroll.PayrollRuleCatalog;
 import org.aub.payzenapi.repository.EmployeeRepository;
 import org.aub.payzenapi.repository.PayslipRepository;
+import org.aub.payzenapi.repository.mybatis.PayslipQueryMapper;
+import org.aub.payzenapi.repository.mybatis.SortClause;
 import org.aub.payzenapi.service.AttendanceService;
+import org.aub.payzenapi.service.PayslipDocumentService;
 import org.aub.payzenapi.service.PayslipService;
-import org.springframework.data.domain.Page;
+import org.aub.payzenapi.utils.WorkedTime;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -32,71 +44,61 @@ public class PayslipServiceImpl implements PayslipService {
     private final PayslipRepository payslipRepository;
     private final EmployeeRepository employeeRepository;
     private final AttendanceService attendanceService;
-
-    private static final BigDecimal STANDARD_HOURS_PER_MONTH = new BigDecimal("160"); // 8 hours * 20 working days
-    private static final BigDecimal OVERTIME_MULTIPLIER = new BigDecimal("1.5");
-    private static final BigDecimal TAX_RATE = new BigDecimal("0.10"); // 10% tax rate
+    private final PayslipQueryMapper payslipQueryMapper;
+    private final PayslipDocumentService payslipDocumentService;
+    private final DomainEventPublisher domainEventPublisher;
+    private final PayrollRuleCatalog payrollRuleCatalog;
+    private final RowCountEstimator rowCountEstimator;
+    private final EmployeeCache employeeCache;
 
     @Override
     public PayslipResponse generatePayslip(UUID employeeId, LocalDateTime payPeriodStart, LocalDateTime payPeriodEnd) {
         log.info("Generating payslip for employee: {} for period {} to {}", employeeId, payPeriodStart, payPeriodEnd);
 
-        Employee employee = employeeRepository.findById(employeeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + employeeId));
+        EmployeeSnapshot employeeSnapshot = employeeCache.get(employeeId);
+        Employee employee = employeeRepository.getReferenceById(employeeId);
 
         // Check if payslip already exists for this period
         if (payslipRepository.findByEmployeeAndPayPeriodStartAndPayPeriodEnd(employee, payPeriodStart, payPeriodEnd).isPresent()) {
             throw new DuplicateResourceException("Payslip already exists for this period");
         }
 
-        // Calculate total hours worked during the period
-
-        BigDecimal totalHours = attendanceService.getTotalHoursWorkedByEmployee(
+        long workedMinutes = attendanceService.getTotalMinutesWorkedByEmployee(
                 employeeId, payPeriodStart.toLocalDate(), payPeriodEnd.toLocalDate());
-        BigDecimal hourlyRate = employee.getBaseSalary().divide(STANDARD_HOURS_PER_MONTH, 2, RoundingMode.HALF_UP);
-
-        // Calculate overtime
-        BigDecimal overtimeHours = totalHours.compareTo(STANDARD_HOURS_PER_MONTH) > 0 ?
-                totalHours.subtract(STANDARD_HOURS_PER_MONTH) : BigDecimal.ZERO;
-        BigDecimal overtimeRate = hourlyRate.multiply(OVERTIME_MULTIPLIER);
-        BigDecimal overtimePay = overtimeHours.multiply(overtimeRate);
-
-        // Calculate gross salary
-        BigDecimal regularPay = STANDARD_HOURS_PER_MONTH.min(totalHours).multiply(hourlyRate);
-        BigDecimal grossSalary = regularPay.add(overtimePay);
-
-        // Calculate deductions
-        BigDecimal taxDeduction = grossSalary.multiply(TAX_RATE);
 
-        // Calculate net salary
-        BigDecimal netSalary = grossSalary.subtract(taxDeduction);
+        // Rules in effect at the end of the period apply to the whole period
+        PayrollPlan plan = payrollRuleCatalog.planFor(payPeriodEnd.toLocalDate());
+        PayrollResult pay = new PayrollResult();
+        plan.evaluate(PayrollResult.toCents(employeeSnapshot.baseSalary()), workedMinutes, employeeSnapshot.department(), pay);
 
         Payslip payslip = Payslip.builder()
                 .employee(employee)
                 .payPeriodStart(payPeriodStart)
                 .payPeriodEnd(payPeriodEnd)
-                .baseSalary(employee.getBaseSalary())
-                .overtimeHours(overtimeHours)
-                .overtimeRate(overtimeRate)
-                .overtimePay(overtimePay)
-                .allowances(BigDecimal.ZERO)
-                .deductions(BigDecimal.ZERO)
-                .taxDeduction(taxDeduction)
-                .grossSalary(grossSalary)
-                .netSalary(netSalary)
+                .baseSalary(employeeSnapshot.baseSalary())
+                .overtimeHours(WorkedTime.toHours(pay.overtimeMinutes()))
+                .overtimeRate(PayrollResult.toAmount(pay.overtimeRateCents()))
+                .overtimePay(PayrollResult.toAmount(pay.overtimePayCents()))
+                .allowances(PayrollResult.toAmount(pay.allowancesCents()))
+                .deductions(PayrollResult.toAmount(pay.deductionsCents()))
+                .taxDeduction(PayrollResult.toAmount(pay.taxCents()))
+                .grossSalary(PayrollResult.toAmount(pay.grossCents()))
+                .netSalary(PayrollResult.toAmount(pay.netCents()))
                 .status(PayslipStatus.GENERATED)
                 .build();
 
         Payslip savedPayslip = payslipRepository.save(payslip);
         log.info("Payslip generated successfully with ID: {}", savedPayslip.getPayslipId());
 
-        return mapToResponse(savedPayslip);
+        PayslipResponse response = mapToResponse(savedPayslip, employeeSnapshot.fullName());
+        domainEventPublisher.publish(DomainEventType.PAYSLIP_GENERATED, response.getPayslipId(), response);
+        return response;
     }
 
     @Override
     @Transactional(readOnly = true)
     public PayslipResponse getPayslipById(UUID payslipId) {
-        log.info("Fetching payslip with ID: {}", payslipId);
+        log.debug("Fetching payslip with ID: {}", payslipId);
 
         Payslip payslip = payslipRepository.findById(payslipId)
                 .orElseThrow(() -> new ResourceNotFoundException("Payslip not found with ID: " + payslipId));
@@ -106,27 +108,39 @@ public class PayslipServiceImpl implements PayslipService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<PayslipResponse> getPayslips(UUID employeeId, LocalDateTime startDate,
-                                             LocalDateTime endDate, PayslipStatus status,
-                                             Pageable pageable) {
-        log.info("Fetching payslips with filters");
-
-        Page<Payslip> payslips = payslipRepository.findPayslipsWithFilters(
-                employeeId, startDate, endDate, status, pageable);
-
-        return payslips.map(this::mapToResponse);
+    public PageSlice<PayslipResponse> getPayslips(UUID employeeId, LocalDateTime startDate,
+                                                  LocalDateTime endDate, PayslipStatus status,
+                                                  Pageable pageable, CountMode countMode) {
+        log.debug("Fetching payslips with filters");
+
+        String orderBy = SortClause.of(pageable.getSort(), PayslipQueryMapper.SORT_COLUMNS, PayslipQueryMapper.DEFAULT_SORT);
+        List<PayslipResponse> payslips = payslipQueryMapper.findPayslips(
+                employeeId, startDate, endDate, status, orderBy, PageSlice.lookaheadLimit(pageable), pageable.getOffset());
+
+        return PageSlice.of(payslips, pageable, countMode,
+                () -> payslipQueryMapper.countPayslips(employeeId, startDate, endDate, status),
+                () -> rowCountEstimator.estimate("payslips|" + employeeId + '|' + startDate + '|' + endDate + '|' + status,
+                        () -> payslipQueryMapper.explainPayslips(employeeId, startDate, endDate, status)));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PayslipResponse> getPayslipsByEmployee(UUID employeeId) {
-        log.info("Fetching payslips for employee: {}", employeeId);
+        log.debug("Fetching payslips for employee: {}", employeeId);
 
-        Employee employee = employeeRepository.findById(employeeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + employeeId));
+        if (!employeeRepository.existsById(employeeId)) {
+            throw new ResourceNotFoundException("Employee not found with ID: " + employeeId);
+        }
 
-        List<Payslip> payslips = payslipRepository.findByEmployee(employee);
-        return payslips.stream().map(this::mapToResponse).toList();
+        return payslipQueryMapper.findByEmployee(employeeId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PayslipSummaryResponse getPayslipSummary(LocalDateTime startDate, LocalDateTime endDate) {
+        log.debug("Summarizing payslips for period {} to {}", startDate, endDate);
+
+        return payslipQueryMapper.summarize(startDate, endDate);
     }
 
     @Override
@@ -136,18 +150,29 @@ public class PayslipServiceImpl implements PayslipService {
         Payslip payslip = payslipRepository.findById(payslipId)
                 .orElseThrow(() -> new ResourceNotFoundException("Payslip not found with ID: " + payslipId));
 
+        // The status is printed on the PDF, so the stored rendering no longer matches
+        if (payslip.getStatus() != status) {
+            payslipDocumentService.evictPayslipPdf(mapToResponse(payslip));
+        }
+
         payslip.setStatus(status);
         Payslip updatedPayslip = payslipRepository.save(payslip);
 
         log.info("Payslip status updated successfully for ID: {}", payslipId);
-        return mapToResponse(updatedPayslip);
+        PayslipResponse response = mapToResponse(updatedPayslip);
+        domainEventPublisher.publish(DomainEventType.PAYSLIP_STATUS_CHANGED, payslipId, response);
+        return response;
     }
 
     private PayslipResponse mapToResponse(Payslip payslip) {
+        return mapToResponse(payslip, payslip.getEmployee().getFirstName() + " " + payslip.getEmployee().getLastName());
+    }
+
+    private PayslipResponse mapToResponse(Payslip payslip, String employeeName) {
         return PayslipResponse.builder()
                 .payslipId(payslip.getPayslipId())
                 .employeeId(payslip.getEmployee().getEmployeeId())
-                .employeeName(payslip.getEmployee().getFirstName() + " " + payslip.getEmployee().getLastName())
+                .employeeName(employeeName)
                 .payPeriodStart(payslip.getPayPeriodStart())
                 .payPeriodEnd(payslip.getPayPeriodEnd())
                 .baseSalary(payslip.getBaseSalary())
@@ -0,0 +1,85 @@
+package org.aub.payzenapi.service.implementation;
+
+import lombok.RequiredArgsConstructor;
+import org.aub.payzenapi.base.ResourceVersion;
+import org.aub.payzenapi.model.dto.response.AttendanceResponse;
+import org.aub.payzenapi.model.dto.response.PayslipResponse;
+import org.aub.payzenapi.pagination.PageSlice;
+import org.aub.payzenapi.repository.mybatis.ResourceVersionMapper;
+import org.aub.payzenapi.service.ResourceVersionService;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ResourceVersionServiceImpl implements ResourceVersionService {
+
+    private final ResourceVersionMapper resourceVersionMapper;
+
+    @Override
+    public ResourceVersion getEmployeeVersion(UUID employeeId) {
+        LocalDateTime updatedAt = resourceVersionMapper.employeeUpdatedAt(employeeId);
+        if (updatedAt == null) {
+            return null;
+        }
+        long micros = updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1_000;
+        return ResourceVersion.of("employee." + micros, updatedAt);
+    }
+
+    @Override
+    public ResourceVersion getPayslipVersion(UUID payslipId) {
+        return tag("payslip.", resourceVersionMapper.payslipTag(payslipId));
+    }
+
+    @Override
+    public ResourceVersion getEmployeePayslipsVersion(List<PayslipResponse> payslips) {
+        return listTag("payslips.", payslips, PayslipResponse::getPayslipId, PayslipResponse::getRowVersion, "");
+    }
+
+    @Override
+    public ResourceVersion getPayslipsVersion(PageSlice<PayslipResponse> payslips, Pageable pageable) {
+        return listTag("payslips.", payslips.content(), PayslipResponse::getPayslipId, PayslipResponse::getRowVersion,
+                page(payslips, pageable));
+    }
+
+    @Override
+    public ResourceVersion getAttendanceVersion(UUID attendanceId) {
+        return tag("attendance.", resourceVersionMapper.attendanceTag(attendanceId));
+    }
+
+    @Override
+    public ResourceVersion getAttendancesVersion(PageSlice<AttendanceResponse> attendances, Pageable pageable) {
+        return listTag("attendances.", attendances.content(), AttendanceResponse::getAttendanceId,
+                AttendanceResponse::getRowVersion, page(attendances, pageable));
+    }
+
+    private static ResourceVersion tag(String prefix, String tag) {
+        return tag != null ? ResourceVersion.of(prefix + tag) : null;
+    }
+
+    // Ids catch rows entering or leaving the list, versions catch updates to any of them
+    private static <T> ResourceVersion listTag(String prefix, List<T> rows, Function<T, UUID> id,
+                                               Function<T, String> rowVersion, String page) {
+        StringBuilder tag = new StringBuilder(page);
+        for (T row : rows) {
+            tag.append('|').append(id.apply(row)).append(':').append(rowVersion.apply(row));
+        }
+        return ResourceVersion.of(prefix + DigestUtils.md5DigestAsHex(tag.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // The same rows can be served with different sorts, totals and next-page flags
+    private static String page(PageSlice<?> slice, Pageable pageable) {
+        return pageable.getPageNumber() + "|" + pageable.getPageSize() + '|' + pageable.getSort()
+                + '|' + slice.hasNext() + '|' + slice.totalCount() + '|' + slice.totalEstimated();
+    }
+}
@@ -0,0 +1,37 @@
+package org.aub.payzenapi.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalTime;
+
+/**
+ * Attendance time arithmetic in whole minutes. Hours as a decimal are only produced for
+ * display, via {@link #toHours}, so sums never accumulate rounding error.
+ */
+public final class WorkedTime {
+
+    private static final BigDecimal MINUTES_PER_HOUR = BigDecimal.valueOf(60);
+
+    private WorkedTime() {
+    }
+
+    /**
+     * Whole minutes worked between check-in and check-out, less the break. A check-out
+     * earlier than the check-in is an overnight shift ending the next day. Seconds are
+     * dropped after the shift length is known, matching the FLOOR in the SQL backfill.
+     * Never negative.
+     */
+    public static int workedMinutes(LocalTime checkIn, LocalTime checkOut, Integer breakMinutes) {
+        Duration shift = Duration.between(checkIn, checkOut);
+        if (checkOut.isBefore(checkIn)) {
+            shift = shift.plusDays(1);
+        }
+        long minutes = shift.toMinutes() - (breakMinutes != null ? breakMinutes : 0);
+        return (int) Math.max(0, minutes);
+    }
+
+    public static BigDecimal toHours(long minutes) {
+        return BigDecimal.valueOf(minutes).divide(MINUTES_PER_HOUR, 2, RoundingMode.HALF_UP);
+    }
+}
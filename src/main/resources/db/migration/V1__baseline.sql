@@ -0,0 +1,76 @@
+-- Schema as created by spring.jpa.hibernate.ddl-auto=update before migrations took over.
+-- Databases that already have these tables are baselined at version 1 and skip this
+-- script (spring.flyway.baseline-on-migrate); fresh databases start from here. Later
+-- changes belong in later versions, so both kinds of database converge from V2 on.
+
+CREATE TABLE app_users (
+    user_id     uuid         NOT NULL,
+    first_name  varchar(255),
+    last_name   varchar(255),
+    email       varchar(255),
+    password    varchar(255),
+    is_verified boolean,
+    created_at  timestamp(6),
+    role        varchar(255) CHECK (role IN ('USER', 'ADMIN')),
+    version     bigint,
+    CONSTRAINT pk_app_users PRIMARY KEY (user_id),
+    CONSTRAINT uk_app_users_email UNIQUE (email)
+);
+
+CREATE TABLE employees (
+    employee_id       uuid           NOT NULL,
+    employee_code     varchar(255)   NOT NULL,
+    first_name        varchar(255)   NOT NULL,
+    last_name         varchar(255)   NOT NULL,
+    email             varchar(255)   NOT NULL,
+    phone_number      varchar(255),
+    date_of_birth     date,
+    gender            varchar(255) CHECK (gender IN ('MALE', 'FEMALE', 'OTHER')),
+    address           varchar(255),
+    hire_date         date           NOT NULL,
+    department        varchar(255)   NOT NULL,
+    position          varchar(255)   NOT NULL,
+    base_salary       numeric(38, 2) NOT NULL,
+    status            varchar(255) CHECK (status IN ('ACTIVE', 'INACTIVE', 'TERMINATED', 'ON_LEAVE')),
+    profile_image_url varchar(255),
+    created_at        timestamp(6),
+    updated_at        timestamp(6),
+    CONSTRAINT pk_employees PRIMARY KEY (employee_id),
+    CONSTRAINT uk_employees_employee_code UNIQUE (employee_code),
+    CONSTRAINT uk_employees_email UNIQUE (email)
+);
+
+CREATE TABLE attendances (
+    attendance_id          uuid         NOT NULL,
+    employee_id            uuid         NOT NULL,
+    attendance_date        date         NOT NULL,
+    check_in_time          time(6),
+    check_out_time         time(6),
+    break_duration_minutes integer,
+    total_hours_worked     numeric(4, 2),
+    status                 varchar(255) CHECK (status IN ('PRESENT', 'ABSENT', 'LATE', 'HALF_DAY', 'SICK_LEAVE', 'VACATION', 'HOLIDAY')),
+    notes                  varchar(255),
+    created_at             timestamp(6),
+    CONSTRAINT pk_attendances PRIMARY KEY (attendance_id),
+    CONSTRAINT fk_attendances_employee FOREIGN KEY (employee_id) REFERENCES employees (employee_id)
+);
+
+CREATE TABLE payslips (
+    payslip_id       uuid           NOT NULL,
+    employee_id      uuid           NOT NULL,
+    pay_period_start timestamp(6)   NOT NULL,
+    pay_period_end   timestamp(6)   NOT NULL,
+    base_salary      numeric(38, 2) NOT NULL,
+    overtime_hours   numeric(38, 2),
+    overtime_rate    numeric(38, 2),
+    overtime_pay     numeric(38, 2),
+    allowances       numeric(38, 2),
+    deductions       numeric(38, 2),
+    tax_deduction    numeric(38, 2),
+    gross_salary     numeric(38, 2) NOT NULL,
+    net_salary       numeric(38, 2) NOT NULL,
+    status           varchar(255) CHECK (status IN ('DRAFT', 'GENERATED', 'SENT', 'PAID')),
+    created_at       timestamp(6),
+    CONSTRAINT pk_payslips PRIMARY KEY (payslip_id),
+    CONSTRAINT fk_payslips_employee FOREIGN KEY (employee_id) REFERENCES employees (employee_id)
+);
@@ -0,0 +1,56 @@
+-- Indexes for the filter and sort shapes of the repositories and MyBatis read mappers.
+-- QueryPlanTest runs EXPLAIN over these shapes against a seeded database and fails on
+-- a sequential scan, so a new query without a matching index shows up there first.
+
+-- One row per employee per day. Serves findByEmployeeAndAttendanceDate(Between),
+-- getTotalHoursWorkedByEmployeeInPeriod, sumPresentMinutes and the employee filter of
+-- findAttendances, and closes the check-then-insert race in recordAttendance.
+CREATE UNIQUE INDEX IF NOT EXISTS uk_attendances_employee_date
+    ON attendances (employee_id, attendance_date);
+
+-- Date-first access: /attendance/today, findByAttendanceDateAndStatus, date-range lists
+-- without an employee, and the default attendance_date DESC sort of the list endpoint.
+CREATE INDEX IF NOT EXISTS idx_attendances_date_status
+    ON attendances (attendance_date, status);
+
+-- Payslips are unique per employee and period (findByEmployeeAndPayPeriodStartAndPayPeriodEnd);
+-- the leading employee_id also covers findByEmployee and the employee filter.
+CREATE UNIQUE INDEX IF NOT EXISTS uk_payslips_employee_period
+    ON payslips (employee_id, pay_period_start, pay_period_end);
+
+-- Period filters of findPayslips, the summary and the export stream
+CREATE INDEX IF NOT EXISTS idx_payslips_period
+    ON payslips (pay_period_start, pay_period_end);
+
+CREATE INDEX IF NOT EXISTS idx_payslips_status_period
+    ON payslips (status, pay_period_start);
+
+-- Default sort of the payslip list (created_at DESC LIMIT n)
+CREATE INDEX IF NOT EXISTS idx_payslips_created_at
+    ON payslips (created_at);
+
+CREATE INDEX IF NOT EXISTS idx_employees_status
+    ON employees (status);
+
+-- Exact department lookups (findByDepartment, payroll snapshot) and the
+-- LOWER(department) = LOWER(:department) filter of the payslip export
+CREATE INDEX IF NOT EXISTS idx_employees_department
+    ON employees (department);
+
+CREATE INDEX IF NOT EXISTS idx_employees_department_lower
+    ON employees (LOWER(department));
+
+-- Default sort of the employee list (created_at DESC LIMIT n)
+CREATE INDEX IF NOT EXISTS idx_employees_created_at
+    ON employees (created_at);
+
+-- The employee list filters with LIKE '%term%' on name and department, which a btree
+-- cannot serve; trigram GIN indexes can. pg_trgm is a trusted extension, so the
+-- database owner can create it without superuser.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_employees_full_name_trgm
+    ON employees USING gin (LOWER(first_name || ' ' || last_name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_employees_department_trgm
+    ON employees USING gin (LOWER(department) gin_trgm_ops);
@@ -0,0 +1,66 @@
+-- Range-partitions attendances by month on attendance_date, so queries with date bounds
+-- only touch the partitions for those months and old months can be detached whole.
+-- Existing rows are copied across once; on a large table run this in a maintenance window.
+
+-- Creates the partition for the month containing p_month if it is missing. Rows that
+-- landed in attendances_default for that month are moved into it first, because a
+-- partition cannot be attached while the default partition holds rows in its range.
+-- Used by this migration and by AttendancePartitionManager.
+CREATE OR REPLACE FUNCTION create_attendance_partition(p_month date) RETURNS boolean
+LANGUAGE plpgsql AS $$
+DECLARE
+    v_from date := CAST(date_trunc('month', p_month) AS date);
+    v_to   date := CAST(date_trunc('month', p_month) + interval '1 month' AS date);
+    v_name text := 'attendances_' || to_char(v_from, 'YYYY_MM');
+BEGIN
+    -- Several nodes run the partition manager; only one creates a given partition
+    PERFORM pg_advisory_xact_lock(hashtext('attendance_partitions'));
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN false;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE attendances INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', v_name);
+    -- Lets ATTACH skip scanning the new table to prove its rows fit the bounds
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I CHECK (attendance_date >= %L AND attendance_date < %L)',
+                   v_name, v_name || '_bounds', v_from, v_to);
+    IF to_regclass('attendances_default') IS NOT NULL THEN
+        EXECUTE format('WITH moved AS (DELETE FROM attendances_default WHERE attendance_date >= %L AND attendance_date < %L '
+                       'RETURNING *) INSERT INTO %I SELECT * FROM moved', v_from, v_to, v_name);
+    END IF;
+    EXECUTE format('ALTER TABLE attendances ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)', v_name, v_from, v_to);
+    RETURN true;
+END;
+$$;
+
+ALTER TABLE attendances RENAME TO attendances_unpartitioned;
+
+CREATE TABLE attendances (LIKE attendances_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS)
+    PARTITION BY RANGE (attendance_date);
+
+-- Catches dates outside the created months until the manager gives them a partition
+CREATE TABLE attendances_default PARTITION OF attendances DEFAULT;
+
+-- One partition per month from the oldest row through three months ahead
+SELECT create_attendance_partition(CAST(month AS date))
+FROM generate_series(
+        date_trunc('month', COALESCE((SELECT min(attendance_date) FROM attendances_unpartitioned), CURRENT_DATE)),
+        date_trunc('month', CURRENT_DATE) + interval '3 months',
+        interval '1 month') AS month;
+
+INSERT INTO attendances SELECT * FROM attendances_unpartitioned;
+
+DROP TABLE attendances_unpartitioned;
+
+-- Indexes and keys go on after the copy; they cascade to every partition. The primary
+-- key has to include the partition key, so attendance_id alone is no longer enforced
+-- unique by the database (it is a random UUID).
+ALTER TABLE attendances ADD CONSTRAINT pk_attendances PRIMARY KEY (attendance_id, attendance_date);
+
+ALTER TABLE attendances ADD CONSTRAINT fk_attendances_employee
+    FOREIGN KEY (employee_id) REFERENCES employees (employee_id);
+
+CREATE UNIQUE INDEX uk_attendances_employee_date ON attendances (employee_id, attendance_date);
+
+CREATE INDEX idx_attendances_date_status ON attendances (attendance_date, status);
+
+ANALYZE attendances;
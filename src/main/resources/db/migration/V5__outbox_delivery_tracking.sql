@@ -0,0 +1,15 @@
+-- Per-replica claims, per-listener acknowledgements and bounded retries for the outbox
+
+ALTER TABLE outbox_events
+    ADD COLUMN attempts        integer        NOT NULL DEFAULT 0,
+    ADD COLUMN next_attempt_at timestamp(6),
+    ADD COLUMN claimed_by      varchar(128),
+    ADD COLUMN claimed_until   timestamp(6),
+    ADD COLUMN parked_at       timestamp(6),
+    ADD COLUMN last_error      text,
+    ADD COLUMN acknowledged_by varchar(128)[] NOT NULL DEFAULT '{}';
+
+-- Only deliverable rows are ever scanned in id order; dispatched and parked rows drop out
+DROP INDEX idx_outbox_events_pending;
+CREATE INDEX idx_outbox_events_pending ON outbox_events (event_id)
+    WHERE dispatched_at IS NULL AND parked_at IS NULL;
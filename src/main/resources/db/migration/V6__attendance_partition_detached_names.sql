@@ -0,0 +1,37 @@
+-- create_attendance_partition treated any table named attendances_YYYY_MM as the month's
+-- partition. A partition detached without an archive schema kept that name in public, so
+-- the month could never be partitioned again and its new rows stayed in attendances_default.
+-- It now checks that the table is actually attached, and renames a detached leftover out
+-- of the way before creating the partition.
+CREATE OR REPLACE FUNCTION create_attendance_partition(p_month date) RETURNS boolean
+LANGUAGE plpgsql AS $$
+DECLARE
+    v_from     date := CAST(date_trunc('month', p_month) AS date);
+    v_to       date := CAST(date_trunc('month', p_month) + interval '1 month' AS date);
+    v_name     text := 'attendances_' || to_char(v_from, 'YYYY_MM');
+    v_existing regclass;
+BEGIN
+    -- Several nodes run the partition manager; only one creates a given partition
+    PERFORM pg_advisory_xact_lock(hashtext('attendance_partitions'));
+    v_existing := to_regclass(v_name);
+    IF v_existing IS NOT NULL THEN
+        IF EXISTS (SELECT 1 FROM pg_inherits
+                   WHERE inhrelid = v_existing AND inhparent = CAST('attendances' AS regclass)) THEN
+            RETURN false;
+        END IF;
+        EXECUTE format('ALTER TABLE %I RENAME TO %I',
+                       v_name, v_name || '_detached_' || to_char(now(), 'YYYYMMDDHH24MISS'));
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE attendances INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', v_name);
+    -- Lets ATTACH skip scanning the new table to prove its rows fit the bounds
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I CHECK (attendance_date >= %L AND attendance_date < %L)',
+                   v_name, v_name || '_bounds', v_from, v_to);
+    IF to_regclass('attendances_default') IS NOT NULL THEN
+        EXECUTE format('WITH moved AS (DELETE FROM attendances_default WHERE attendance_date >= %L AND attendance_date < %L '
+                       'RETURNING *) INSERT INTO %I SELECT * FROM moved', v_from, v_to, v_name);
+    END IF;
+    EXECUTE format('ALTER TABLE attendances ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)', v_name, v_from, v_to);
+    RETURN true;
+END;
+$$;
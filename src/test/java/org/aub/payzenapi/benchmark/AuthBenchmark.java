@@ -0,0 +1,77 @@
+package org.aub.payzenapi.benchmark;
+
+import org.aub.payzenapi.jwt.JwtService;
+import org.aub.payzenapi.model.entity.AppUser;
+import org.aub.payzenapi.model.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-request cost of authentication: JwtAuthFilter parses the bearer token twice
+ * (extractUsername, then isTokenValid), and login runs one BCrypt matches at the cost
+ * factor ApplicationConfig's encoder uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Param({"10"})
+    private int bcryptStrength;
+
+    private JwtService jwtService;
+    private AppUser user;
+    private String token;
+    private BCryptPasswordEncoder passwordEncoder;
+    private String passwordHash;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        byte[] key = new byte[64];
+        new SecureRandom().nextBytes(key);
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", Base64.getEncoder().encodeToString(key));
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", TimeUnit.HOURS.toMillis(1));
+
+        user = new AppUser();
+        user.setEmail("bench@payzen.test");
+        user.setRole(UserRole.USER);
+        token = jwtService.generateToken(user);
+
+        passwordEncoder = new BCryptPasswordEncoder(bcryptStrength);
+        passwordHash = passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    // What JwtAuthFilter does for every authenticated request
+    @Benchmark
+    public boolean filterValidation() {
+        String username = jwtService.extractUsername(token);
+        return username != null && jwtService.isTokenValid(token, user);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public boolean bcryptMatches() {
+        return passwordEncoder.matches(PASSWORD, passwordHash);
+    }
+}
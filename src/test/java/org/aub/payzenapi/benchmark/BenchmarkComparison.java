@@ -0,0 +1,110 @@
+package org.aub.payzenapi.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files (the benchmark profile writes one to
+ * {@code jmh.result}), e.g. from two commits:
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.aub.payzenapi.benchmark.BenchmarkComparison \
+ *     -Dexec.args="target/jmh-base.json target/jmh-result.json 10"
+ * </pre>
+ * Prints the primary score and gc.alloc.rate.norm of each benchmark in both files and
+ * exits with status 1 when a score got worse by more than the threshold percentage
+ * (default 10), taking into account whether the mode is throughput or time.
+ */
+public final class BenchmarkComparison {
+
+    private static final String ALLOC_NORM = "·gc.alloc.rate.norm";
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> [threshold-percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        Map<String, Result> baseline = read(Path.of(args[0]));
+        Map<String, Result> current = read(Path.of(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %9s %14s%n", "benchmark", "baseline", "current", "change", "alloc B/op");
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result now = entry.getValue();
+            Result before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-70s %14s %14.3f %9s %14s  (new)%n", entry.getKey(), "-", now.score, "", alloc(null, now));
+                continue;
+            }
+            double change = (now.score - before.score) / before.score * 100.0;
+            // Throughput regresses when it drops, every time-based mode when it rises
+            double worse = now.higherIsBetter() ? -change : change;
+            boolean regressed = worse > threshold;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%% %14s%s%n", entry.getKey(), before.score, now.score, change,
+                    alloc(before, now), regressed ? "  REGRESSION" : "");
+        }
+        System.out.printf("%n%d of %d benchmarks regressed by more than %.1f%%%n", regressions, current.size(), threshold);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Result> read(Path file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+            JsonNode primary = run.path("primaryMetric");
+            JsonNode alloc = run.path("secondaryMetrics").path(ALLOC_NORM);
+            results.put(key(run), new Result(run.path("mode").asText(),
+                    primary.path("score").asDouble(), primary.path("scoreUnit").asText(),
+                    alloc.isMissingNode() ? Double.NaN : alloc.path("score").asDouble()));
+        }
+        return results;
+    }
+
+    // Benchmark name plus its @Param values, so each parameter combination is compared on its own
+    private static String key(JsonNode run) {
+        String name = run.path("benchmark").asText();
+        name = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+        JsonNode params = run.path("params");
+        if (params.isMissingNode() || params.isEmpty()) {
+            return name;
+        }
+        Map<String, String> sorted = new TreeMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> it = params.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> param = it.next();
+            sorted.put(param.getKey(), param.getValue().asText());
+        }
+        return name + sorted;
+    }
+
+    private static String alloc(Result before, Result now) {
+        if (Double.isNaN(now.allocNorm)) {
+            return "-";
+        }
+        if (before == null || Double.isNaN(before.allocNorm)) {
+            return String.format("%.0f", now.allocNorm);
+        }
+        return String.format("%.0f->%.0f", before.allocNorm, now.allocNorm);
+    }
+
+    private record Result(String mode, double score, String unit, double allocNorm) {
+
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.aub.payzenapi.benchmark;
+
+import org.aub.payzenapi.PayzenApiApplication;
+import org.aub.payzenapi.model.entity.Attendance;
+import org.aub.payzenapi.model.entity.Employee;
+import org.aub.payzenapi.model.entity.Payslip;
+import org.aub.payzenapi.model.enums.AttendanceStatus;
+import org.aub.payzenapi.model.enums.PayslipStatus;
+import org.aub.payzenapi.repository.AttendanceRepository;
+import org.aub.payzenapi.repository.EmployeeRepository;
+import org.aub.payzenapi.repository.PayslipRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk attendance and payslip inserts with the default datasource settings versus the
+ * prod profile (JDBC batching, ordered inserts, reWriteBatchedInserts, statement cache).
+ * Each operation flushes its rows and then rolls back, so the table does not grow.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BulkWriteBenchmark {
+
+    @Param({"default", "prod"})
+    private String profile;
+
+    @Param({"500"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private EmployeeRepository employeeRepository;
+    private AttendanceRepository attendanceRepository;
+    private PayslipRepository payslipRepository;
+    private UUID employeeId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(PayzenApiApplication.class)
+                .profiles(profile)
+                .run("--server.port=0", "--spring.jpa.show-sql=false",
+                        "--payzen.monitoring.slow-request.enabled=false");
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        employeeRepository = context.getBean(EmployeeRepository.class);
+        attendanceRepository = context.getBean(AttendanceRepository.class);
+        payslipRepository = context.getBean(PayslipRepository.class);
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        employeeId = employeeRepository.save(Employee.builder()
+                .employeeCode("BENCH" + suffix)
+                .firstName("Bench")
+                .lastName("Writer")
+                .email("bench-" + suffix + "@payzen.test")
+                .hireDate(LocalDate.of(2020, 1, 1))
+                .department("Benchmark")
+                .position("Load")
+                .baseSalary(new BigDecimal("3200.00"))
+                .build()).getEmployeeId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        employeeRepository.deleteById(employeeId);
+        context.close();
+    }
+
+    @Benchmark
+    public int insertAttendances() {
+        return transactionTemplate.execute(status -> {
+            Employee employee = employeeRepository.getReferenceById(employeeId);
+            LocalDate firstDay = LocalDate.of(2000, 1, 1);
+            List<Attendance> attendances = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                attendances.add(Attendance.builder()
+                        .employee(employee)
+                        .attendanceDate(firstDay.plusDays(i))
+                        .checkInTime(LocalTime.of(8, 0))
+                        .checkOutTime(LocalTime.of(17, 0))
+                        .breakDurationMinutes(60)
+                        .totalHoursWorked(new BigDecimal("8.00"))
+                        .workedMinutes(480)
+                        .status(AttendanceStatus.PRESENT)
+                        .build());
+            }
+            attendanceRepository.saveAll(attendances);
+            attendanceRepository.flush();
+            status.setRollbackOnly();
+            return attendances.size();
+        });
+    }
+
+    @Benchmark
+    public int insertPayslips() {
+        return transactionTemplate.execute(status -> {
+            Employee employee = employeeRepository.getReferenceById(employeeId);
+            List<Payslip> payslips = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                LocalDate start = LocalDate.of(1900, 1, 1).plusMonths(i);
+                payslips.add(Payslip.builder()
+                        .employee(employee)
+                        .payPeriodStart(start.atStartOfDay())
+                        .payPeriodEnd(start.plusMonths(1).minusDays(1).atTime(23, 59, 59))
+                        .baseSalary(new BigDecimal("3200.00"))
+                        .grossSalary(new BigDecimal("3200.00"))
+                        .taxDeduction(new BigDecimal("320.00"))
+                        .netSalary(new BigDecimal("2880.00"))
+                        .status(PayslipStatus.GENERATED)
+                        .build());
+            }
+            payslipRepository.saveAll(payslips);
+            payslipRepository.flush();
+            status.setRollbackOnly();
+            return payslips.size();
+        });
+    }
+}
@@ -0,0 +1,79 @@
+package org.aub.payzenapi.benchmark;
+
+import org.aub.payzenapi.event.DomainEvent;
+import org.aub.payzenapi.event.EventRingBuffer;
+import org.aub.payzenapi.model.enums.DomainEventType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Events per second through the outbox dispatcher's hand-off: one producer thread (the
+ * poller) and one consumer thread (the dispatcher) exchanging DomainEvents, compared with
+ * an ArrayBlockingQueue of the same capacity. Reported throughput is per thread, so the
+ * producer and consumer rows each give events per second.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventRingBufferBenchmark {
+
+    @Param({"4096"})
+    private int capacity;
+
+    @Param({"256"})
+    private int batchSize;
+
+    private EventRingBuffer<DomainEvent> ringBuffer;
+    private ArrayBlockingQueue<DomainEvent> queue;
+    private DomainEvent event;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        ringBuffer = new EventRingBuffer<>(capacity);
+        queue = new ArrayBlockingQueue<>(capacity);
+        event = new DomainEvent(1L, DomainEventType.ATTENDANCE_CHECKED_IN, UUID.randomUUID(),
+                "{\"status\":\"PRESENT\"}", LocalDateTime.now());
+    }
+
+    @Benchmark
+    @Group("ringBuffer")
+    @GroupThreads(1)
+    public boolean ringBufferOffer() {
+        return ringBuffer.offer(event);
+    }
+
+    @Benchmark
+    @Group("ringBuffer")
+    @GroupThreads(1)
+    public int ringBufferDrain(Blackhole blackhole) {
+        return ringBuffer.drain(blackhole::consume, batchSize);
+    }
+
+    @Benchmark
+    @Group("blockingQueue")
+    @GroupThreads(1)
+    public boolean blockingQueueOffer() {
+        return queue.offer(event);
+    }
+
+    @Benchmark
+    @Group("blockingQueue")
+    @GroupThreads(1)
+    public int blockingQueueDrain(Blackhole blackhole) {
+        int count = 0;
+        DomainEvent next;
+        while (count < batchSize && (next = queue.poll()) != null) {
+            blackhole.consume(next);
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,174 @@
+package org.aub.payzenapi.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.aub.payzenapi.base.ApiResponse;
+import org.aub.payzenapi.base.PaginationResponse;
+import org.aub.payzenapi.model.dto.response.EmployeeResponse;
+import org.aub.payzenapi.model.dto.response.PayslipResponse;
+import org.aub.payzenapi.model.enums.EmployeeStatus;
+import org.aub.payzenapi.model.enums.Gender;
+import org.aub.payzenapi.model.enums.PayslipStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialization CPU for one 500-row payslip page, as the list endpoints returned it
+ * (ApiResponse wrapping Spring's Page) versus the lean envelope (content list plus
+ * PaginationResponse), each raw and gzipped the way server.compression does. Bytes on
+ * the wire for each variant are printed once at setup. employeePageEnvelope is the same
+ * Page envelope for the employee list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageSerializationBenchmark {
+
+    @Param({"500"})
+    private int rows;
+
+    private ObjectWriter writer;
+    private ApiResponse<Page<PayslipResponse>> pageEnvelope;
+    private ApiResponse<List<PayslipResponse>> leanEnvelope;
+    private ApiResponse<Page<EmployeeResponse>> employeePageEnvelope;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        // Same defaults as the ObjectMapper Spring Boot configures for the message converters
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writer();
+
+        List<PayslipResponse> content = new ArrayList<>(rows);
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int i = 0; i < rows; i++) {
+            content.add(PayslipResponse.builder()
+                    .payslipId(UUID.randomUUID())
+                    .employeeId(UUID.randomUUID())
+                    .employeeName("Employee " + i)
+                    .payPeriodStart(start)
+                    .payPeriodEnd(start.plusMonths(1).minusSeconds(1))
+                    .baseSalary(new BigDecimal("3200.00"))
+                    .overtimeHours(new BigDecimal("12.50"))
+                    .overtimeRate(new BigDecimal("30.00"))
+                    .overtimePay(new BigDecimal("375.00"))
+                    .allowances(new BigDecimal("50.00"))
+                    .deductions(BigDecimal.ZERO)
+                    .taxDeduction(new BigDecimal("362.50"))
+                    .grossSalary(new BigDecimal("3625.00"))
+                    .netSalary(new BigDecimal("3262.50"))
+                    .status(PayslipStatus.GENERATED)
+                    .createdAt(start.plusDays(i % 28))
+                    .build());
+        }
+
+        Page<PayslipResponse> page = new PageImpl<>(content,
+                PageRequest.of(3, rows, Sort.by("createdAt").descending()), 25_000);
+        pageEnvelope = ApiResponse.<Page<PayslipResponse>>builder()
+                .success(true).status(200).message("Payslips retrieved successfully").payload(page).build();
+        leanEnvelope = ApiResponse.<List<PayslipResponse>>builder()
+                .success(true).status(200).message("Payslips retrieved successfully").payload(content)
+                .paginationResponse(new PaginationResponse(3, rows, 25_000)).build();
+
+        List<EmployeeResponse> employees = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            employees.add(EmployeeResponse.builder()
+                    .employeeId(UUID.randomUUID())
+                    .employeeCode("EMP" + (10_000 + i))
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .email("employee" + i + "@payzen.test")
+                    .phoneNumber("+855 12 345 678")
+                    .dateOfBirth(LocalDate.of(1990, 1, 1).plusDays(i))
+                    .gender(Gender.values()[i % Gender.values().length])
+                    .address("Phnom Penh")
+                    .hireDate(LocalDate.of(2020, 1, 1).plusDays(i))
+                    .department("Engineering")
+                    .position("Developer")
+                    .baseSalary(new BigDecimal("3200.00"))
+                    .status(EmployeeStatus.ACTIVE)
+                    .createdAt(start.plusDays(i % 28))
+                    .updatedAt(start.plusDays(i % 28))
+                    .build());
+        }
+        employeePageEnvelope = ApiResponse.<Page<EmployeeResponse>>builder()
+                .success(true).status(200).message("Employees retrieved successfully")
+                .payload(new PageImpl<>(employees, PageRequest.of(0, rows, Sort.by("createdAt").descending()), 25_000))
+                .build();
+
+        System.out.printf("%nBytes on the wire for %d rows: page=%d page+gzip=%d lean=%d lean+gzip=%d%n", rows,
+                bytes(pageEnvelope, false), bytes(pageEnvelope, true),
+                bytes(leanEnvelope, false), bytes(leanEnvelope, true));
+    }
+
+    @Benchmark
+    public long pageEnvelope() throws IOException {
+        return bytes(pageEnvelope, false);
+    }
+
+    @Benchmark
+    public long pageEnvelopeGzip() throws IOException {
+        return bytes(pageEnvelope, true);
+    }
+
+    @Benchmark
+    public long leanEnvelope() throws IOException {
+        return bytes(leanEnvelope, false);
+    }
+
+    @Benchmark
+    public long leanEnvelopeGzip() throws IOException {
+        return bytes(leanEnvelope, true);
+    }
+
+    @Benchmark
+    public long employeePageEnvelope() throws IOException {
+        return bytes(employeePageEnvelope, false);
+    }
+
+    // Writes straight into a counting sink, as the message converter writes into the response
+    private long bytes(Object value, boolean gzip) throws IOException {
+        CountingOutputStream counter = new CountingOutputStream();
+        if (gzip) {
+            // Default deflate level, as Tomcat's compression uses
+            try (GZIPOutputStream out = new GZIPOutputStream(counter, 8192)) {
+                writer.writeValue(out, value);
+            }
+        } else {
+            writer.writeValue(counter, value);
+        }
+        return counter.count;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
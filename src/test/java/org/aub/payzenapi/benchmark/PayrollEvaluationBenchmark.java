@@ -0,0 +1,105 @@
+package org.aub.payzenapi.benchmark;
+
+import org.aub.payzenapi.payroll.PayrollPlan;
+import org.aub.payzenapi.payroll.PayrollResult;
+import org.aub.payzenapi.payroll.PayrollRuleSet;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Payslip evaluations per second with a compiled plan (five tax brackets, department
+ * overtime, allowances and deductions) against the BigDecimal arithmetic the service
+ * used before the rules engine, which only had a flat tax. Run with -prof gc to see that
+ * the compiled plan does not allocate per evaluation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayrollEvaluationBenchmark {
+
+    private static final String[] DEPARTMENTS = {"Engineering", "Sales", "Finance", "Operations", "Support"};
+    private static final BigDecimal STANDARD_HOURS = new BigDecimal("160");
+    private static final BigDecimal OVERTIME_MULTIPLIER = new BigDecimal("1.5");
+    private static final BigDecimal TAX_RATE = new BigDecimal("0.10");
+
+    @Param({"1024"})
+    private int employees;
+
+    private PayrollPlan plan;
+    private final PayrollResult result = new PayrollResult();
+    private long[] baseSalaryCents;
+    private long[] workedMinutes;
+    private String[] departments;
+    private BigDecimal[] baseSalaries;
+    private BigDecimal[] workedHours;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        plan = PayrollPlan.compile(new PayrollRuleSet(
+                LocalDate.of(2025, 1, 1),
+                STANDARD_HOURS,
+                OVERTIME_MULTIPLIER,
+                Map.of("Engineering", new BigDecimal("2.0"), "Support", new BigDecimal("1.75")),
+                List.of(bracket("0", "0"), bracket("1000", "0.05"), bracket("2500", "0.10"),
+                        bracket("5000", "0.20"), bracket("10000", "0.30")),
+                List.of(new PayrollRuleSet.Allowance("Transport", null, new BigDecimal("50")),
+                        new PayrollRuleSet.Allowance("On-call", "Engineering", new BigDecimal("150"))),
+                List.of(new PayrollRuleSet.Deduction("Pension", null, null, new BigDecimal("0.05")),
+                        new PayrollRuleSet.Deduction("Union", "Operations", new BigDecimal("12.50"), null))));
+
+        SplittableRandom random = new SplittableRandom(42);
+        baseSalaryCents = new long[employees];
+        workedMinutes = new long[employees];
+        departments = new String[employees];
+        baseSalaries = new BigDecimal[employees];
+        workedHours = new BigDecimal[employees];
+        for (int i = 0; i < employees; i++) {
+            baseSalaryCents[i] = random.nextLong(150_000, 1_500_000);
+            workedMinutes[i] = random.nextLong(120 * 60, 200 * 60);
+            departments[i] = DEPARTMENTS[i % DEPARTMENTS.length];
+            baseSalaries[i] = BigDecimal.valueOf(baseSalaryCents[i], 2);
+            workedHours[i] = BigDecimal.valueOf(workedMinutes[i]).divide(BigDecimal.valueOf(60), 2, RoundingMode.HALF_UP);
+        }
+    }
+
+    @Benchmark
+    public long compiledPlan() {
+        int i = next();
+        plan.evaluate(baseSalaryCents[i], workedMinutes[i], departments[i], result);
+        return result.netCents();
+    }
+
+    // The calculation PayslipServiceImpl did inline before the rules engine
+    @Benchmark
+    public BigDecimal legacyBigDecimal() {
+        int i = next();
+        BigDecimal totalHours = workedHours[i];
+        BigDecimal hourlyRate = baseSalaries[i].divide(STANDARD_HOURS, 2, RoundingMode.HALF_UP);
+        BigDecimal overtimeHours = totalHours.compareTo(STANDARD_HOURS) > 0
+                ? totalHours.subtract(STANDARD_HOURS) : BigDecimal.ZERO;
+        BigDecimal overtimePay = overtimeHours.multiply(hourlyRate.multiply(OVERTIME_MULTIPLIER));
+        BigDecimal grossSalary = STANDARD_HOURS.min(totalHours).multiply(hourlyRate).add(overtimePay);
+        return grossSalary.subtract(grossSalary.multiply(TAX_RATE));
+    }
+
+    private int next() {
+        int i = next;
+        next = i + 1 == employees ? 0 : i + 1;
+        return i;
+    }
+
+    private static PayrollRuleSet.TaxBracket bracket(String from, String rate) {
+        return new PayrollRuleSet.TaxBracket(new BigDecimal(from), new BigDecimal(rate));
+    }
+}
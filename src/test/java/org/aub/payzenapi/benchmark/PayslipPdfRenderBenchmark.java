@@ -0,0 +1,83 @@
+package org.aub.payzenapi.benchmark;
+
+import org.aub.payzenapi.document.PayslipPdfRenderer;
+import org.aub.payzenapi.model.dto.response.PayslipResponse;
+import org.aub.payzenapi.model.enums.PayslipStatus;
+import org.openjdk.jmh.annotations.*;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time and allocation per rendered payslip PDF. No Spring context or database: the
+ * renderer is built the same way DocumentConfig builds it, with a cached template. Run
+ * with the benchmark profile; gc.alloc.rate.norm is the heap allocated per PDF, and the
+ * threaded variant approximates month-end when every employee's payslip is rendered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PayslipPdfRenderBenchmark {
+
+    private PayslipPdfRenderer renderer;
+    private PayslipResponse payslip;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(true);
+        TemplateEngine templateEngine = new TemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        try (InputStream logo = getClass().getClassLoader().getResourceAsStream("images/payzen-logo.png")) {
+            renderer = new PayslipPdfRenderer(templateEngine, logo, null, Runtime.getRuntime().availableProcessors());
+        }
+
+        payslip = PayslipResponse.builder()
+                .payslipId(UUID.randomUUID())
+                .employeeId(UUID.randomUUID())
+                .employeeName("Sokha Chan")
+                .payPeriodStart(LocalDateTime.of(2025, 6, 1, 0, 0))
+                .payPeriodEnd(LocalDateTime.of(2025, 6, 30, 23, 59, 59))
+                .baseSalary(new BigDecimal("3200.00"))
+                .overtimeHours(new BigDecimal("12.50"))
+                .overtimeRate(new BigDecimal("30.00"))
+                .overtimePay(new BigDecimal("375.00"))
+                .allowances(BigDecimal.ZERO)
+                .deductions(BigDecimal.ZERO)
+                .taxDeduction(new BigDecimal("357.50"))
+                .grossSalary(new BigDecimal("3575.00"))
+                .netSalary(new BigDecimal("3217.50"))
+                .status(PayslipStatus.GENERATED)
+                .createdAt(LocalDateTime.of(2025, 7, 1, 9, 0))
+                .build();
+    }
+
+    @Benchmark
+    public int renderOne() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        renderer.render(payslip, out);
+        return out.size();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int renderConcurrently() throws IOException {
+        return renderOne();
+    }
+}
@@ -0,0 +1,182 @@
+package org.aub.payzenapi.benchmark;
+
+import org.aub.payzenapi.PayzenApiApplication;
+import org.aub.payzenapi.model.dto.response.AttendanceResponse;
+import org.aub.payzenapi.model.dto.response.EmployeeResponse;
+import org.aub.payzenapi.model.dto.response.PayslipResponse;
+import org.aub.payzenapi.model.entity.Attendance;
+import org.aub.payzenapi.model.entity.Employee;
+import org.aub.payzenapi.model.entity.Payslip;
+import org.aub.payzenapi.repository.AttendanceRepository;
+import org.aub.payzenapi.repository.EmployeeRepository;
+import org.aub.payzenapi.repository.PayslipRepository;
+import org.aub.payzenapi.repository.mybatis.AttendanceQueryMapper;
+import org.aub.payzenapi.repository.mybatis.EmployeeQueryMapper;
+import org.aub.payzenapi.repository.mybatis.PayslipQueryMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares one page of the list endpoints read through JPA entities plus mapToResponse
+ * against the MyBatis projections. Needs the database from application.properties with
+ * data in it; run with the benchmark profile so -prof gc reports gc.alloc.rate.norm,
+ * which is the bytes allocated per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadPathBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnly;
+    private EmployeeRepository employeeRepository;
+    private AttendanceRepository attendanceRepository;
+    private PayslipRepository payslipRepository;
+    private EmployeeQueryMapper employeeQueryMapper;
+    private AttendanceQueryMapper attendanceQueryMapper;
+    private PayslipQueryMapper payslipQueryMapper;
+    // Attendance queries need date bounds since the table is partitioned by month
+    private LocalDate fromDate;
+    private LocalDate toDate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(PayzenApiApplication.class)
+                .run("--server.port=0", "--spring.jpa.show-sql=false",
+                        "--payzen.monitoring.slow-request.enabled=false");
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        employeeRepository = context.getBean(EmployeeRepository.class);
+        attendanceRepository = context.getBean(AttendanceRepository.class);
+        payslipRepository = context.getBean(PayslipRepository.class);
+        employeeQueryMapper = context.getBean(EmployeeQueryMapper.class);
+        attendanceQueryMapper = context.getBean(AttendanceQueryMapper.class);
+        payslipQueryMapper = context.getBean(PayslipQueryMapper.class);
+        toDate = LocalDate.now();
+        fromDate = toDate.minusMonths(12);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> employeesJpa() {
+        Pageable pageable = PageRequest.of(0, pageSize, Sort.by("createdAt").descending());
+        return readOnly.execute(status -> employeeRepository.findEmployeesWithFilters(null, null, null, pageable)
+                .map(ReadPathBenchmark::employeeResponse)
+                .getContent());
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> employeesMyBatis() {
+        return readOnly.execute(status -> employeeQueryMapper.findEmployees(
+                null, null, null, EmployeeQueryMapper.DEFAULT_SORT, pageSize, 0));
+    }
+
+    @Benchmark
+    public List<AttendanceResponse> attendanceJpa() {
+        Pageable pageable = PageRequest.of(0, pageSize, Sort.by("attendanceDate").descending());
+        return readOnly.execute(status -> attendanceRepository.findAttendancesWithFilters(null, fromDate, toDate, null, pageable)
+                .map(ReadPathBenchmark::attendanceResponse)
+                .getContent());
+    }
+
+    @Benchmark
+    public List<AttendanceResponse> attendanceMyBatis() {
+        return readOnly.execute(status -> attendanceQueryMapper.findAttendances(
+                null, fromDate, toDate, null, AttendanceQueryMapper.DEFAULT_SORT, pageSize, 0));
+    }
+
+    @Benchmark
+    public List<PayslipResponse> payslipsJpa() {
+        Pageable pageable = PageRequest.of(0, pageSize, Sort.by("createdAt").descending());
+        return readOnly.execute(status -> payslipRepository.findPayslipsWithFilters(null, null, null, null, pageable)
+                .map(ReadPathBenchmark::payslipResponse)
+                .getContent());
+    }
+
+    @Benchmark
+    public List<PayslipResponse> payslipsMyBatis() {
+        return readOnly.execute(status -> payslipQueryMapper.findPayslips(
+                null, null, null, null, PayslipQueryMapper.DEFAULT_SORT, pageSize, 0));
+    }
+
+    // Same mapping the services used before the MyBatis read layer
+    private static EmployeeResponse employeeResponse(Employee employee) {
+        return EmployeeResponse.builder()
+                .employeeId(employee.getEmployeeId())
+                .employeeCode(employee.getEmployeeCode())
+                .firstName(employee.getFirstName())
+                .lastName(employee.getLastName())
+                .email(employee.getEmail())
+                .phoneNumber(employee.getPhoneNumber())
+                .dateOfBirth(employee.getDateOfBirth())
+                .gender(employee.getGender())
+                .address(employee.getAddress())
+                .hireDate(employee.getHireDate())
+                .department(employee.getDepartment())
+                .position(employee.getPosition())
+                .baseSalary(employee.getBaseSalary())
+                .status(employee.getStatus())
+                .profileImageUrl(employee.getProfileImageUrl())
+                .createdAt(employee.getCreatedAt())
+                .updatedAt(employee.getUpdatedAt())
+                .build();
+    }
+
+    private static AttendanceResponse attendanceResponse(Attendance attendance) {
+        return AttendanceResponse.builder()
+                .attendanceId(attendance.getAttendanceId())
+                .employeeId(attendance.getEmployee().getEmployeeId())
+                .employeeName(attendance.getEmployee().getFirstName() + " " + attendance.getEmployee().getLastName())
+                .attendanceDate(attendance.getAttendanceDate())
+                .checkInTime(attendance.getCheckInTime())
+                .checkOutTime(attendance.getCheckOutTime())
+                .breakDurationMinutes(attendance.getBreakDurationMinutes())
+                .totalHoursWorked(attendance.getTotalHoursWorked())
+                .workedMinutes(attendance.getWorkedMinutes())
+                .status(attendance.getStatus())
+                .notes(attendance.getNotes())
+                .createdAt(attendance.getCreatedAt())
+                .build();
+    }
+
+    private static PayslipResponse payslipResponse(Payslip payslip) {
+        return PayslipResponse.builder()
+                .payslipId(payslip.getPayslipId())
+                .employeeId(payslip.getEmployee().getEmployeeId())
+                .employeeName(payslip.getEmployee().getFirstName() + " " + payslip.getEmployee().getLastName())
+                .payPeriodStart(payslip.getPayPeriodStart())
+                .payPeriodEnd(payslip.getPayPeriodEnd())
+                .baseSalary(payslip.getBaseSalary())
+                .overtimeHours(payslip.getOvertimeHours())
+                .overtimeRate(payslip.getOvertimeRate())
+                .overtimePay(payslip.getOvertimePay())
+                .allowances(payslip.getAllowances())
+                .deductions(payslip.getDeductions())
+                .taxDeduction(payslip.getTaxDeduction())
+                .grossSalary(payslip.getGrossSalary())
+                .netSalary(payslip.getNetSalary())
+                .status(payslip.getStatus())
+                .createdAt(payslip.getCreatedAt())
+                .build();
+    }
+}
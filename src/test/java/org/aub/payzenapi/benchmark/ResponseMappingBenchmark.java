@@ -0,0 +1,164 @@
+package org.aub.payzenapi.benchmark;
+
+import org.aub.payzenapi.model.dto.response.AppUserResponse;
+import org.aub.payzenapi.model.dto.response.AttendanceResponse;
+import org.aub.payzenapi.model.dto.response.EmployeeResponse;
+import org.aub.payzenapi.model.dto.response.PayslipResponse;
+import org.aub.payzenapi.model.entity.AppUser;
+import org.aub.payzenapi.model.entity.Attendance;
+import org.aub.payzenapi.model.entity.Employee;
+import org.aub.payzenapi.model.entity.Payslip;
+import org.aub.payzenapi.model.enums.AttendanceStatus;
+import org.aub.payzenapi.model.enums.EmployeeStatus;
+import org.aub.payzenapi.model.enums.PayslipStatus;
+import org.aub.payzenapi.model.enums.UserRole;
+import org.aub.payzenapi.model.mapper.AppUserMapper;
+import org.aub.payzenapi.service.implementation.AttendanceServiceImpl;
+import org.aub.payzenapi.service.implementation.EmployeeServiceImpl;
+import org.aub.payzenapi.service.implementation.PayslipServiceImpl;
+import org.aub.payzenapi.utils.WorkedTime;
+import org.mapstruct.factory.Mappers;
+import org.objenesis.ObjenesisStd;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-response mapping done once per row on every read and write: the services'
+ * private mapToResponse methods (called through method handles on instances created
+ * without their dependencies, which mapToResponse does not touch), the MapStruct
+ * AppUserMapper, and the worked-minutes calculation behind check-out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    private EmployeeServiceImpl employeeService;
+    private AttendanceServiceImpl attendanceService;
+    private PayslipServiceImpl payslipService;
+    private MethodHandle employeeMapper;
+    private MethodHandle attendanceMapper;
+    private MethodHandle payslipMapper;
+    private AppUserMapper appUserMapper;
+
+    private Employee employee;
+    private Attendance attendance;
+    private Payslip payslip;
+    private AppUser appUser;
+    private LocalTime checkIn;
+    private LocalTime checkOut;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        ObjenesisStd objenesis = new ObjenesisStd();
+        employeeService = objenesis.newInstance(EmployeeServiceImpl.class);
+        attendanceService = objenesis.newInstance(AttendanceServiceImpl.class);
+        payslipService = objenesis.newInstance(PayslipServiceImpl.class);
+        employeeMapper = mapper(EmployeeServiceImpl.class, EmployeeResponse.class, Employee.class);
+        attendanceMapper = mapper(AttendanceServiceImpl.class, AttendanceResponse.class, Attendance.class);
+        payslipMapper = mapper(PayslipServiceImpl.class, PayslipResponse.class, Payslip.class);
+        appUserMapper = Mappers.getMapper(AppUserMapper.class);
+
+        LocalDateTime now = LocalDateTime.of(2025, 3, 14, 9, 0);
+        employee = Employee.builder()
+                .employeeId(UUID.randomUUID())
+                .employeeCode("EMP00042")
+                .firstName("Sokha")
+                .lastName("Chan")
+                .email("sokha.chan@payzen.test")
+                .phoneNumber("+855 12 345 678")
+                .dateOfBirth(LocalDate.of(1992, 5, 17))
+                .address("Phnom Penh")
+                .hireDate(LocalDate.of(2020, 1, 6))
+                .department("Engineering")
+                .position("Developer")
+                .baseSalary(new BigDecimal("3200.00"))
+                .status(EmployeeStatus.ACTIVE)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        attendance = Attendance.builder()
+                .attendanceId(UUID.randomUUID())
+                .employee(employee)
+                .attendanceDate(now.toLocalDate())
+                .checkInTime(LocalTime.of(8, 0))
+                .checkOutTime(LocalTime.of(17, 30))
+                .breakDurationMinutes(60)
+                .totalHoursWorked(new BigDecimal("8.50"))
+                .workedMinutes(510)
+                .status(AttendanceStatus.PRESENT)
+                .createdAt(now)
+                .build();
+        payslip = Payslip.builder()
+                .payslipId(UUID.randomUUID())
+                .employee(employee)
+                .payPeriodStart(now.withDayOfMonth(1))
+                .payPeriodEnd(now.withDayOfMonth(31))
+                .baseSalary(new BigDecimal("3200.00"))
+                .overtimeHours(new BigDecimal("12.50"))
+                .overtimeRate(new BigDecimal("30.00"))
+                .overtimePay(new BigDecimal("375.00"))
+                .allowances(new BigDecimal("50.00"))
+                .deductions(BigDecimal.ZERO)
+                .taxDeduction(new BigDecimal("362.50"))
+                .grossSalary(new BigDecimal("3625.00"))
+                .netSalary(new BigDecimal("3262.50"))
+                .status(PayslipStatus.GENERATED)
+                .createdAt(now)
+                .build();
+        appUser = new AppUser();
+        appUser.setUserId(UUID.randomUUID());
+        appUser.setFirstName("Sokha");
+        appUser.setLastName("Chan");
+        appUser.setEmail("sokha.chan@payzen.test");
+        appUser.setIsVerified(true);
+        appUser.setRole(UserRole.USER);
+        appUser.setCreatedAt(now);
+        checkIn = LocalTime.of(8, 0);
+        checkOut = LocalTime.of(17, 30);
+    }
+
+    @Benchmark
+    public EmployeeResponse employeeMapToResponse() throws Throwable {
+        return (EmployeeResponse) employeeMapper.invokeExact(employeeService, employee);
+    }
+
+    @Benchmark
+    public AttendanceResponse attendanceMapToResponse() throws Throwable {
+        return (AttendanceResponse) attendanceMapper.invokeExact(attendanceService, attendance);
+    }
+
+    @Benchmark
+    public PayslipResponse payslipMapToResponse() throws Throwable {
+        return (PayslipResponse) payslipMapper.invokeExact(payslipService, payslip);
+    }
+
+    @Benchmark
+    public AppUserResponse appUserToResponse() {
+        return appUserMapper.toResponse(appUser);
+    }
+
+    // What check-out runs to derive worked minutes and the displayed hours
+    @Benchmark
+    public BigDecimal workedTime() {
+        return WorkedTime.toHours(WorkedTime.workedMinutes(checkIn, checkOut, 60));
+    }
+
+    private static MethodHandle mapper(Class<?> service, Class<?> response, Class<?> entity)
+            throws ReflectiveOperationException {
+        return MethodHandles.privateLookupIn(service, MethodHandles.lookup())
+                .findVirtual(service, "mapToResponse", MethodType.methodType(response, entity));
+    }
+}
@@ -0,0 +1,130 @@
+package org.aub.payzenapi.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aub.payzenapi.event.DomainEvent;
+import org.aub.payzenapi.exception.ResourceNotFoundException;
+import org.aub.payzenapi.model.entity.Employee;
+import org.aub.payzenapi.model.enums.DomainEventType;
+import org.aub.payzenapi.model.enums.EmployeeStatus;
+import org.aub.payzenapi.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EmployeeCacheTest {
+
+    private final UUID employeeId = UUID.randomUUID();
+    private final EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+    private final InMemorySharedCache shared = new InMemorySharedCache();
+    private EmployeeCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ObjectProvider<SharedEmployeeCache> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(shared);
+        cache = new EmployeeCache(employeeRepository, provider,
+                new ConcurrentMapCacheManager(CacheNames.EMPLOYEES), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void loadsOnceAndFillsBothTiers() {
+        when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(employee("3000.00")));
+
+        assertEquals(new BigDecimal("3000.00"), cache.get(employeeId).baseSalary());
+        assertEquals(new BigDecimal("3000.00"), cache.get(employeeId).baseSalary());
+
+        verify(employeeRepository, times(1)).findById(employeeId);
+        assertNotNull(shared.entries.get(employeeId));
+    }
+
+    @Test
+    void invalidationDropsStaleSalaryEverywhere() {
+        when(employeeRepository.findById(employeeId))
+                .thenReturn(Optional.of(employee("3000.00")), Optional.of(employee("3500.00")));
+        cache.get(employeeId);
+
+        cache.invalidate(employeeId);
+
+        assertNull(shared.entries.get(employeeId));
+        assertEquals(new BigDecimal("3500.00"), cache.get(employeeId).baseSalary());
+    }
+
+    @Test
+    void employeeUpdatesAreBroadcastFromTheOutbox() {
+        EmployeeInvalidationBroadcaster broadcaster = new EmployeeInvalidationBroadcaster(shared);
+
+        assertTrue(broadcaster.supports(DomainEventType.EMPLOYEE_UPDATED));
+        assertFalse(broadcaster.supports(DomainEventType.EMPLOYEE_CREATED));
+        broadcaster.onEvent(new DomainEvent(1L, DomainEventType.EMPLOYEE_UPDATED, employeeId, null, LocalDateTime.now()));
+
+        assertEquals(1, shared.broadcasts);
+    }
+
+    @Test
+    void broadcastFromAnotherReplicaClearsTheNearCopy() {
+        when(employeeRepository.findById(employeeId))
+                .thenReturn(Optional.of(employee("3000.00")), Optional.of(employee("3500.00")));
+        cache.get(employeeId);
+
+        cache.onInvalidation(employeeId);
+
+        assertEquals(new BigDecimal("3500.00"), cache.get(employeeId).baseSalary());
+    }
+
+    @Test
+    void unknownEmployeeIsNotFound() {
+        when(employeeRepository.findById(employeeId)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> cache.get(employeeId));
+    }
+
+    private Employee employee(String salary) {
+        return Employee.builder()
+                .employeeId(employeeId)
+                .firstName("Dara")
+                .lastName("Sok")
+                .department("Finance")
+                .baseSalary(new BigDecimal(salary))
+                .status(EmployeeStatus.ACTIVE)
+                .build();
+    }
+
+    private static final class InMemorySharedCache implements SharedEmployeeCache {
+
+        private final Map<UUID, EmployeeSnapshot> entries = new HashMap<>();
+        private int broadcasts;
+
+        @Override
+        public EmployeeSnapshot get(UUID employeeId) {
+            return entries.get(employeeId);
+        }
+
+        @Override
+        public void put(EmployeeSnapshot snapshot) {
+            entries.put(snapshot.employeeId(), snapshot);
+        }
+
+        @Override
+        public void evict(UUID employeeId) {
+            entries.remove(employeeId);
+        }
+
+        @Override
+        public void evictAndBroadcast(UUID employeeId) {
+            entries.remove(employeeId);
+            broadcasts++;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.aub.payzenapi.coalescing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aub.payzenapi.cache.CacheNames;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(registry, new ConcurrentMapCacheManager(CacheNames.SUMMARIES));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> leader = executor.submit(() -> singleFlight.execute("stats", "", () -> {
+                loads.incrementAndGet();
+                await(release);
+                return 42;
+            }));
+            while (loads.get() == 0) {
+                Thread.onSpinWait();
+            }
+            Future<Integer> follower = executor.submit(() -> singleFlight.execute("stats", "", () -> {
+                loads.incrementAndGet();
+                return -1;
+            }));
+            while (count("coalesced") == 0) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertEquals(42, leader.get(5, TimeUnit.SECONDS));
+            assertEquals(42, follower.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void resultIsReusedFromTheCacheAndKeysAreSeparate() {
+        SingleFlight singleFlight = new SingleFlight(registry, new ConcurrentMapCacheManager(CacheNames.SUMMARIES));
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute("summary", "a", loads::incrementAndGet);
+        singleFlight.execute("summary", "a", loads::incrementAndGet);
+        singleFlight.execute("summary", "b", loads::incrementAndGet);
+
+        assertEquals(2, loads.get());
+        assertEquals(1.0, count("cached"));
+    }
+
+    @Test
+    void failuresAreNotCached() {
+        SingleFlight singleFlight = new SingleFlight(registry, new ConcurrentMapCacheManager(CacheNames.SUMMARIES));
+
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("stats", "", () -> {
+            throw new IllegalStateException("database down");
+        }));
+        assertEquals(7, singleFlight.execute("stats", "", () -> 7));
+    }
+
+    private double count(String outcome) {
+        var counter = registry.find("payzen.coalescing.calls").tag("outcome", outcome).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.aub.payzenapi.config;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import org.aub.payzenapi.cache.NamedCacheLoader;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheConfigTest {
+
+    private final CacheConfig cacheConfig = new CacheConfig();
+
+    @Test
+    void eachCacheGetsItsOwnLimitsAndStats() {
+        CacheSpecProperties properties = new CacheSpecProperties();
+        properties.getSpecs().put("otp", spec(100L, Duration.ofMinutes(5), null));
+        properties.getSpecs().put("summaries", spec(10L, Duration.ofSeconds(2), null));
+
+        CacheManager cacheManager = cacheConfig.cacheManager(properties, List.of());
+
+        var otp = ((CaffeineCache) cacheManager.getCache("otp")).getNativeCache();
+        assertEquals(100L, otp.policy().eviction().map(Policy.Eviction::getMaximum).orElseThrow());
+        assertEquals(Duration.ofMinutes(5), otp.policy().expireAfterWrite().orElseThrow().getExpiresAfter());
+        assertTrue(otp.policy().isRecordingStats());
+
+        var summaries = ((CaffeineCache) cacheManager.getCache("summaries")).getNativeCache();
+        assertEquals(10L, summaries.policy().eviction().map(Policy.Eviction::getMaximum).orElseThrow());
+    }
+
+    @Test
+    void undeclaredCachesDoNotExist() {
+        CacheSpecProperties properties = new CacheSpecProperties();
+        properties.getSpecs().put("otp", spec(100L, null, null));
+
+        assertNull(cacheConfig.cacheManager(properties, List.of()).getCache("otpCache"));
+    }
+
+    @Test
+    void refreshNeedsALoader() {
+        CacheSpecProperties properties = new CacheSpecProperties();
+        properties.getSpecs().put("principals", spec(100L, Duration.ofMinutes(5), Duration.ofSeconds(30)));
+
+        assertThrows(IllegalStateException.class, () -> cacheConfig.cacheManager(properties, List.of()));
+
+        NamedCacheLoader loader = new NamedCacheLoader() {
+            @Override
+            public String cacheName() {
+                return "principals";
+            }
+
+            @Override
+            public Object load(Object key) {
+                return "user:" + key;
+            }
+        };
+        CacheManager cacheManager = cacheConfig.cacheManager(properties, List.of(loader));
+        assertEquals("user:a@payzen.test", cacheManager.getCache("principals").get("a@payzen.test", String.class));
+    }
+
+    @Test
+    void cacheWithALoaderLoadsMissesAndDoesNotKeepNulls() {
+        CacheSpecProperties properties = new CacheSpecProperties();
+        properties.getSpecs().put("principals", spec(100L, Duration.ofMinutes(5), null));
+        List<Object> loaded = new ArrayList<>();
+        NamedCacheLoader loader = new NamedCacheLoader() {
+            @Override
+            public String cacheName() {
+                return "principals";
+            }
+
+            @Override
+            public Object load(Object key) {
+                loaded.add(key);
+                return key.equals("a@payzen.test") ? "user:" + key : null;
+            }
+        };
+        Cache principals = cacheConfig.cacheManager(properties, List.of(loader)).getCache("principals");
+
+        assertEquals("user:a@payzen.test", principals.get("a@payzen.test", String.class));
+        assertEquals("user:a@payzen.test", principals.get("a@payzen.test", String.class));
+        assertNull(principals.get("new@payzen.test", String.class));
+        assertNull(principals.get("new@payzen.test", String.class));
+
+        assertEquals(List.of("a@payzen.test", "new@payzen.test", "new@payzen.test"), loaded);
+    }
+
+    @Test
+    void tinyLfuNeedsAMaximumSize() {
+        CacheSpecProperties properties = new CacheSpecProperties();
+        properties.getSpecs().put("employees", spec(null, Duration.ofSeconds(30), null));
+
+        assertThrows(IllegalStateException.class, () -> cacheConfig.cacheManager(properties, List.of()));
+    }
+
+    private static CacheSpecProperties.Spec spec(Long maximumSize, Duration expireAfterWrite, Duration refreshAfterWrite) {
+        CacheSpecProperties.Spec spec = new CacheSpecProperties.Spec();
+        spec.setMaximumSize(maximumSize);
+        spec.setExpireAfterWrite(expireAfterWrite);
+        spec.setRefreshAfterWrite(refreshAfterWrite);
+        return spec;
+    }
+}
@@ -0,0 +1,121 @@
+package org.aub.payzenapi.controller;
+
+import org.aub.payzenapi.exception.GlobalExceptionHandler;
+import org.aub.payzenapi.model.dto.response.AttendanceResponse;
+import org.aub.payzenapi.model.entity.Attendance;
+import org.aub.payzenapi.model.enums.AttendanceStatus;
+import org.aub.payzenapi.pagination.PageSlice;
+import org.aub.payzenapi.repository.mybatis.ResourceVersionMapper;
+import org.aub.payzenapi.service.AttendanceService;
+import org.aub.payzenapi.service.implementation.ResourceVersionServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class AttendanceControllerTest {
+
+    private final UUID attendanceId = UUID.randomUUID();
+    private final UUID employeeId = UUID.randomUUID();
+    private final AttendanceService attendanceService = mock(AttendanceService.class);
+    private final ResourceVersionMapper resourceVersionMapper = mock(ResourceVersionMapper.class);
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new AttendanceController(attendanceService, new ResourceVersionServiceImpl(resourceVersionMapper)))
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+
+    @Test
+    void currentCopyOfARecordIsNotModified() throws Exception {
+        when(resourceVersionMapper.attendanceTag(attendanceId)).thenReturn("3.1700000000000000");
+
+        mockMvc.perform(get("/api/v1/attendance/{id}", attendanceId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"attendance.3.1700000000000000\""))
+                .andExpect(status().isNotModified());
+
+        verify(attendanceService, never()).getAttendanceById(any());
+    }
+
+    @Test
+    void listIsNotModifiedUntilARowChanges() throws Exception {
+        when(attendanceService.getAttendanceRecords(any(), any(), any(), any(), any(), any()))
+                .thenReturn(page("3.1700000000000000"));
+        String etag = mockMvc.perform(get("/api/v1/attendance"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        mockMvc.perform(get("/api/v1/attendance").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        when(attendanceService.getAttendanceRecords(any(), any(), any(), any(), any(), any()))
+                .thenReturn(page("4.1700000000000000"));
+        mockMvc.perform(get("/api/v1/attendance").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.payload[0].attendanceId").value(attendanceId.toString()))
+                .andExpect(jsonPath("$.payload[0].rowVersion").doesNotExist());
+    }
+
+    @Test
+    void updateOverAConcurrentChangeIsConflict() throws Exception {
+        when(attendanceService.updateAttendance(eq(attendanceId), any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Attendance.class, attendanceId));
+
+        mockMvc.perform(updateRequest())
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void duplicateRecordIsConflict() throws Exception {
+        when(attendanceService.updateAttendance(eq(attendanceId), any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key",
+                        new SQLException("duplicate key value violates unique constraint", "23505")));
+
+        mockMvc.perform(updateRequest())
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void otherConstraintViolationIsNotConflict() throws Exception {
+        when(attendanceService.updateAttendance(eq(attendanceId), any()))
+                .thenThrow(new DataIntegrityViolationException("not null",
+                        new SQLException("null value in column violates not-null constraint", "23502")));
+
+        mockMvc.perform(updateRequest())
+                .andExpect(status().isInternalServerError());
+    }
+
+    private MockHttpServletRequestBuilder updateRequest() {
+        return put("/api/v1/attendance/{id}", attendanceId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"employeeId\":\"" + employeeId + "\",\"attendanceDate\":\"2025-03-03\",\"status\":\"PRESENT\"}");
+    }
+
+    private PageSlice<AttendanceResponse> page(String rowVersion) {
+        AttendanceResponse row = AttendanceResponse.builder()
+                .attendanceId(attendanceId)
+                .employeeId(employeeId)
+                .employeeName("Dara Sok")
+                .attendanceDate(LocalDate.of(2025, 3, 3))
+                .status(AttendanceStatus.PRESENT)
+                .rowVersion(rowVersion)
+                .build();
+        return new PageSlice<>(List.of(row), 0, 10, false, 1L, false);
+    }
+}
@@ -0,0 +1,40 @@
+package org.aub.payzenapi.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HikariPoolSizingPostProcessorTest {
+
+    @Test
+    void unsizedPoolIsSizedFromDatabaseCores() {
+        HikariDataSource dataSource = new HikariDataSource();
+
+        new HikariPoolSizingPostProcessor(8, 2, 64).postProcessBeforeInitialization(dataSource, "primaryDataSource");
+
+        assertEquals(17, dataSource.getMaximumPoolSize());
+        assertEquals(-1, dataSource.getMinimumIdle());
+    }
+
+    @Test
+    void explicitlyConfiguredPoolIsLeftAlone() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(5);
+        dataSource.setMinimumIdle(2);
+
+        new HikariPoolSizingPostProcessor(8, 2, 64).postProcessBeforeInitialization(dataSource, "replicaDataSource");
+
+        assertEquals(5, dataSource.getMaximumPoolSize());
+        assertEquals(2, dataSource.getMinimumIdle());
+    }
+
+    @Test
+    void sizeIsCapped() {
+        HikariDataSource dataSource = new HikariDataSource();
+
+        new HikariPoolSizingPostProcessor(64, 2, 40).postProcessBeforeInitialization(dataSource, "primaryDataSource");
+
+        assertEquals(40, dataSource.getMaximumPoolSize());
+    }
+}
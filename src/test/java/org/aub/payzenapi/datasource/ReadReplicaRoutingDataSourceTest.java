@@ -0,0 +1,104 @@
+package org.aub.payzenapi.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private ReplicaHealthMonitor healthMonitor;
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DataSource primary = mock(DataSource.class);
+        DataSource replica = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        healthMonitor = new ReplicaHealthMonitor(replica, 3_600_000, 1);
+        routingDataSource = new ReadReplicaRoutingDataSource(
+                new ReadYourWritesTracker(60_000, 100), healthMonitor, meterRegistry);
+        routingDataSource.setTargetDataSources(Map.<Object, Object>of(
+                DataSourceRole.PRIMARY, primary,
+                DataSourceRole.REPLICA, replica
+        ));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("hr@payzen.test", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        healthMonitor.close();
+        SecurityContextHolder.clearContext();
+        endTransaction();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() throws Exception {
+        beginTransaction(true);
+        assertEquals(replicaConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    void writeTransactionGoesToPrimary() throws Exception {
+        beginTransaction(false);
+        assertEquals(primaryConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    void readsStayOnPrimaryAfterWriteInSameSession() throws Exception {
+        beginTransaction(false);
+        routingDataSource.getConnection();
+        endTransaction();
+
+        beginTransaction(true);
+        assertEquals(primaryConnection, routingDataSource.getConnection());
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("someone-else@payzen.test", null, List.of()));
+        assertEquals(replicaConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    void readsFallBackToPrimaryWhenReplicaIsDown() throws Exception {
+        healthMonitor.setHealthy(false);
+        beginTransaction(true);
+        assertEquals(primaryConnection, routingDataSource.getConnection());
+        assertEquals(1.0, meterRegistry.get("payzen.datasource.routing")
+                .tag("reason", "replica-unavailable").counter().count());
+    }
+
+    private static void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private static void endTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+}
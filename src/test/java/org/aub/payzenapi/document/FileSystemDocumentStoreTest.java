@@ -0,0 +1,55 @@
+package org.aub.payzenapi.document;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileSystemDocumentStoreTest {
+
+    @TempDir
+    Path root;
+
+    private FileSystemDocumentStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        store = new FileSystemDocumentStore(root);
+    }
+
+    @Test
+    void missingKeyWritesNothing() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertFalse(store.copyTo("payslip-abcdef", out));
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    void storedDocumentIsCopiedBack() throws Exception {
+        byte[] content = "%PDF-1.4 payslip".getBytes(StandardCharsets.UTF_8);
+        store.put("payslip-abcdef", content);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertTrue(store.copyTo("payslip-abcdef", out));
+        assertArrayEquals(content, out.toByteArray());
+    }
+
+    @Test
+    void evictedDocumentIsGone() throws Exception {
+        store.put("payslip-abcdef", new byte[]{1, 2, 3});
+        store.evict("payslip-abcdef");
+
+        assertFalse(store.copyTo("payslip-abcdef", new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void rejectsKeysThatEscapeTheRoot() {
+        assertThrows(IllegalArgumentException.class, () -> store.put("../payslip-abcdef", new byte[]{1}));
+    }
+}
@@ -0,0 +1,37 @@
+package org.aub.payzenapi.document;
+
+import org.aub.payzenapi.model.dto.response.PayslipResponse;
+import org.aub.payzenapi.model.enums.PayslipStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderedDocumentKeyTest {
+
+    @Test
+    void keyChangesWithRenderedContent() {
+        PayslipResponse payslip = PayslipResponse.builder()
+                .payslipId(UUID.randomUUID())
+                .employeeName("Sokha Chan")
+                .payPeriodStart(LocalDateTime.of(2025, 6, 1, 0, 0))
+                .netSalary(new BigDecimal("2880.00"))
+                .status(PayslipStatus.GENERATED)
+                .build();
+        String generated = RenderedDocumentKey.of(payslip);
+
+        payslip.setStatus(PayslipStatus.PAID);
+
+        assertEquals(generated, RenderedDocumentKey.of(PayslipResponse.builder()
+                .payslipId(payslip.getPayslipId())
+                .employeeName("Sokha Chan")
+                .payPeriodStart(LocalDateTime.of(2025, 6, 1, 0, 0))
+                .netSalary(new BigDecimal("2880.00"))
+                .status(PayslipStatus.GENERATED)
+                .build()));
+        assertNotEquals(generated, RenderedDocumentKey.of(payslip));
+    }
+}
@@ -0,0 +1,72 @@
+package org.aub.payzenapi.document;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class S3DocumentStoreTest {
+
+    private final S3Client s3Client = mock(S3Client.class);
+    private final S3DocumentStore store = new S3DocumentStore(s3Client, "payzen-documents", "rendered");
+
+    @Test
+    void missingObjectWritesNothing() throws Exception {
+        when(s3Client.getObject(any(GetObjectRequest.class)))
+                .thenThrow(NoSuchKeyException.builder().message("missing").build());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertFalse(store.copyTo("payslip-abcdef", out));
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    void storedObjectIsCopiedFromThePrefixedKey() throws Exception {
+        byte[] content = "%PDF-1.4 payslip".getBytes(StandardCharsets.UTF_8);
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(new ResponseInputStream<>(
+                GetObjectResponse.builder().build(), AbortableInputStream.create(new ByteArrayInputStream(content))));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertTrue(store.copyTo("payslip-abcdef", out));
+
+        assertArrayEquals(content, out.toByteArray());
+        ArgumentCaptor<GetObjectRequest> request = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client).getObject(request.capture());
+        assertEquals("payzen-documents", request.getValue().bucket());
+        assertEquals("rendered/payslip-abcdef.pdf", request.getValue().key());
+    }
+
+    @Test
+    void putStoresAPdfUnderThePrefixedKey() {
+        store.put("payslip-abcdef", new byte[]{1, 2, 3});
+
+        ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client).putObject(request.capture(), any(RequestBody.class));
+        assertEquals("rendered/payslip-abcdef.pdf", request.getValue().key());
+        assertEquals("application/pdf", request.getValue().contentType());
+    }
+
+    @Test
+    void evictDeletesThePrefixedKey() {
+        store.evict("payslip-abcdef");
+
+        ArgumentCaptor<DeleteObjectRequest> request = ArgumentCaptor.forClass(DeleteObjectRequest.class);
+        verify(s3Client).deleteObject(request.capture());
+        assertEquals("rendered/payslip-abcdef.pdf", request.getValue().key());
+    }
+}
@@ -0,0 +1,58 @@
+package org.aub.payzenapi.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventRingBufferTest {
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(1, new EventRingBuffer<>(1).capacity());
+        assertEquals(8, new EventRingBuffer<>(5).capacity());
+        assertEquals(1024, new EventRingBuffer<>(1024).capacity());
+    }
+
+    @Test
+    void offerFailsWhenFullAndDrainIsFifo() {
+        EventRingBuffer<Integer> buffer = new EventRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(3, buffer.drain(drained::add, 3));
+        assertEquals(List.of(0, 1, 2), drained);
+        assertTrue(buffer.offer(4));
+        assertEquals(2, buffer.drain(drained::add, 10));
+        assertEquals(List.of(0, 1, 2, 3, 4), drained);
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    void concurrentProducerAndConsumerSeeEveryItemInOrder() throws Exception {
+        int total = 1_000_000;
+        EventRingBuffer<Integer> buffer = new EventRingBuffer<>(256);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < total; i++) {
+                while (!buffer.offer(i)) {
+                    Thread.onSpinWait();
+                }
+            }
+        });
+        producer.start();
+
+        long[] expected = {0};
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (expected[0] < total && System.nanoTime() < deadline) {
+            buffer.drain(item -> assertEquals(expected[0]++, item.longValue()), 64);
+        }
+        producer.join();
+
+        assertEquals(total, expected[0]);
+    }
+}
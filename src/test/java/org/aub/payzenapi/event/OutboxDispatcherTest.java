@@ -0,0 +1,116 @@
+package org.aub.payzenapi.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aub.payzenapi.model.entity.OutboxEvent;
+import org.aub.payzenapi.model.enums.DomainEventType;
+import org.aub.payzenapi.repository.OutboxEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OutboxDispatcherTest {
+
+    private final OutboxEventRepository repository = mock(OutboxEventRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private OutboxDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    void backoffDoublesUpToTheCap() {
+        dispatcher = dispatcher(10);
+
+        assertEquals(Duration.ofSeconds(1), dispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(8), dispatcher.backoff(4));
+        assertEquals(Duration.ofSeconds(60), dispatcher.backoff(30));
+    }
+
+    @Test
+    void failingListenerDoesNotRedeliverToListenersThatSucceeded() {
+        OutboxEvent event = claimable(0);
+        dispatcher = dispatcher(10, new RecordingListener("audit", false), new RecordingListener("cache", true));
+
+        dispatcher.poll();
+
+        // Claim, then the failure record
+        verify(transactionManager, timeout(2000).times(2)).commit(any());
+        assertEquals(1, event.getAttempts());
+        assertEquals(List.of("audit"), event.getAcknowledgedBy());
+        assertNotNull(event.getNextAttemptAt());
+        assertNull(event.getClaimedBy());
+        assertNull(event.getParkedAt());
+        assertTrue(event.getLastError().startsWith("cache: "));
+    }
+
+    @Test
+    void eventIsParkedAfterMaxAttempts() {
+        OutboxEvent event = claimable(2);
+        dispatcher = dispatcher(3, new RecordingListener("cache", true));
+
+        dispatcher.poll();
+
+        // Claim, then the failure record
+        verify(transactionManager, timeout(2000).times(2)).commit(any());
+        assertEquals(3, event.getAttempts());
+        assertNotNull(event.getParkedAt());
+        verify(repository, never()).markDispatched(any(), any());
+    }
+
+    private OutboxEvent claimable(int attempts) {
+        OutboxEvent event = OutboxEvent.builder()
+                .eventId(1L)
+                .eventType(DomainEventType.EMPLOYEE_UPDATED)
+                .aggregateType("Employee")
+                .aggregateId(UUID.randomUUID())
+                .payload("{}")
+                .createdAt(LocalDateTime.now())
+                .attempts(attempts)
+                .claimedBy("node-1")
+                .build();
+        when(repository.findClaimable(any(), any())).thenReturn(List.of(event));
+        when(repository.findAllById(any())).thenReturn(List.of(event));
+        return event;
+    }
+
+    @SuppressWarnings("unchecked")
+    private OutboxDispatcher dispatcher(int maxAttempts, DomainEventListener... listeners) {
+        ObjectProvider<DomainEventListener> provider = mock(ObjectProvider.class);
+        when(provider.orderedStream()).thenAnswer(invocation -> Stream.of(listeners));
+        OutboxDispatcher outboxDispatcher = new OutboxDispatcher(repository, provider,
+                transactionManager, new SimpleMeterRegistry(),
+                "node-1", 16, 16, 1, 60000, maxAttempts, 1000, 60000, 7);
+        outboxDispatcher.start();
+        return outboxDispatcher;
+    }
+
+    private record RecordingListener(String name, boolean fails) implements DomainEventListener {
+
+        @Override
+        public boolean supports(DomainEventType type) {
+            return true;
+        }
+
+        @Override
+        public void onEvent(DomainEvent event) {
+            if (fails) {
+                throw new IllegalStateException("unavailable");
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.aub.payzenapi.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.aub.payzenapi.cache.CacheNames;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class IdempotencyFilterTest {
+
+    private static final String PATH = "/api/v1/attendance/check-in";
+
+    private final AttendanceStub controller = new AttendanceStub();
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller)
+            .addFilters(new IdempotencyFilter(
+                    new IdempotencyStore(new ConcurrentMapCacheManager(CacheNames.IDEMPOTENCY)),
+                    new ObjectMapper(), true, List.of("/api/v1/attendance/**"), 200, 64, 65536))
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        controller.release.countDown();
+    }
+
+    @Test
+    void retryReplaysTheFirstResponse() throws Exception {
+        controller.release.countDown();
+
+        String first = mockMvc.perform(checkIn("k1", "{\"employee\":1}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(checkIn("k1", "{\"employee\":1}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(content().string(first));
+        assertEquals(1, controller.calls.get());
+    }
+
+    @Test
+    void sameKeyWithADifferentBodyIsRejected() throws Exception {
+        controller.release.countDown();
+        mockMvc.perform(checkIn("k1", "{\"employee\":1}")).andExpect(status().isCreated());
+
+        mockMvc.perform(checkIn("k1", "{\"employee\":2}"))
+                .andExpect(status().isUnprocessableEntity());
+        assertEquals(1, controller.calls.get());
+    }
+
+    @Test
+    void duplicateWaitingPastTheTimeoutGetsConflict() throws Exception {
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<MvcResult> original = executor.submit(() -> mockMvc.perform(checkIn("k1", "{}")).andReturn());
+            assertTrue(controller.entered.await(5, TimeUnit.SECONDS));
+
+            mockMvc.perform(checkIn("k1", "{}"))
+                    .andExpect(status().isConflict());
+
+            controller.release.countDown();
+            assertEquals(HttpStatus.CREATED.value(), original.get(5, TimeUnit.SECONDS).getResponse().getStatus());
+        }
+        assertEquals(1, controller.calls.get());
+    }
+
+    @Test
+    void failedResponseIsNotKept() throws Exception {
+        controller.release.countDown();
+        controller.status = HttpStatus.BAD_REQUEST;
+        mockMvc.perform(checkIn("k1", "{}")).andExpect(status().isBadRequest());
+
+        controller.status = HttpStatus.CREATED;
+        mockMvc.perform(checkIn("k1", "{}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(2, controller.calls.get());
+    }
+
+    @Test
+    void bodyOverTheLimitIsRejected() throws Exception {
+        mockMvc.perform(checkIn("k1", "{\"notes\":\"" + "x".repeat(64) + "\"}"))
+                .andExpect(status().isPayloadTooLarge());
+        assertEquals(0, controller.calls.get());
+    }
+
+    private static MockHttpServletRequestBuilder checkIn(String key, String body) {
+        return post(PATH)
+                .header(IdempotencyFilter.HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body);
+    }
+
+    @RestController
+    static class AttendanceStub {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile HttpStatus status = HttpStatus.CREATED;
+
+        @PostMapping(PATH)
+        ResponseEntity<String> checkIn(@RequestBody String body) throws InterruptedException {
+            int call = calls.incrementAndGet();
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return ResponseEntity.status(status)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body("{\"call\":" + call + "}");
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.aub.payzenapi.idempotency;
+
+import org.aub.payzenapi.cache.CacheNames;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyStoreTest {
+
+    private static final IdempotentResponse CREATED =
+            new IdempotentResponse(201, "application/json", null, "{}".getBytes(StandardCharsets.UTF_8));
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheNames.IDEMPOTENCY);
+    private final IdempotencyStore store = new IdempotencyStore(cacheManager);
+
+    @Test
+    void duplicateSeesTheFirstAttemptAndItsResult() {
+        IdempotencyStore.Reservation first = store.reserve("user POST /x k1", "f");
+        IdempotencyStore.Reservation duplicate = store.reserve("user POST /x k1", "f");
+
+        assertTrue(first.owner());
+        assertFalse(duplicate.owner());
+        assertSame(first.entry(), duplicate.entry());
+
+        store.complete(first.entry(), CREATED);
+        assertSame(CREATED, duplicate.entry().result().join());
+    }
+
+    @Test
+    void completedAttemptIsReplayedFromTheCache() {
+        IdempotencyStore.Reservation first = store.reserve("k", "f");
+        store.complete(first.entry(), CREATED);
+
+        IdempotencyStore.Reservation retry = store.reserve("k", "f");
+
+        assertFalse(retry.owner());
+        assertSame(CREATED, retry.entry().result().join());
+        assertNotNull(cacheManager.getCache(CacheNames.IDEMPOTENCY).get("k"));
+    }
+
+    @Test
+    void abandonedAttemptReleasesTheKey() {
+        IdempotencyStore.Reservation first = store.reserve("k", "f");
+        IdempotencyStore.Reservation waiter = store.reserve("k", "f");
+        store.abandon(first.entry());
+
+        assertNull(waiter.entry().result().join());
+        assertTrue(store.reserve("k", "f").owner());
+    }
+
+    @Test
+    void evictedResponseLetsTheKeyRunAgain() {
+        IdempotencyStore.Reservation first = store.reserve("k", "f");
+        store.complete(first.entry(), CREATED);
+        cacheManager.getCache(CacheNames.IDEMPOTENCY).evict("k");
+
+        IdempotencyStore.Reservation next = store.reserve("k", "f");
+        assertTrue(next.owner());
+        assertNotSame(first.entry(), next.entry());
+    }
+}
@@ -0,0 +1,81 @@
+package org.aub.payzenapi.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms and error counts for one load-test run. Endpoints are
+ * keyed by method and route template (e.g. {@code POST /api/v1/attendance/{id}/check-in})
+ * so path variables do not split the statistics.
+ */
+final class LatencyRecorder {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long elapsedNanos, boolean success) {
+        record(endpoint, elapsedNanos, success, 0);
+    }
+
+    /**
+     * @param expectedIntervalNanos for a worker that calls the endpoint on a schedule, how often
+     *                              it is meant to; a call that overruns it also records the calls
+     *                              the worker should have made meanwhile (coordinated omission).
+     *                              Zero for closed-loop workers.
+     */
+    void record(String endpoint, long elapsedNanos, boolean success, long expectedIntervalNanos) {
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, ignored -> new Endpoint());
+        long value = Math.min(elapsedNanos, MAX_TRACKABLE_NANOS);
+        if (expectedIntervalNanos > 0) {
+            stats.histogram.recordValueWithExpectedInterval(value, expectedIntervalNanos);
+        } else {
+            stats.histogram.recordValue(value);
+        }
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    List<EndpointStats> snapshot(long wallClockNanos) {
+        double seconds = wallClockNanos / 1_000_000_000.0;
+        List<EndpointStats> stats = new ArrayList<>();
+        endpoints.forEach((name, endpoint) -> {
+            Histogram histogram = endpoint.histogram.copy();
+            long count = histogram.getTotalCount();
+            stats.add(new EndpointStats(name, count, endpoint.errors.sum(),
+                    seconds > 0 ? count / seconds : 0,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(95)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getMaxValue())));
+        });
+        stats.sort((a, b) -> a.endpoint().compareTo(b.endpoint()));
+        return stats;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static final class Endpoint {
+        // Three significant digits: 1 ms is resolved to the microsecond
+        private final ConcurrentHistogram histogram = new ConcurrentHistogram(MAX_TRACKABLE_NANOS, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+
+    record EndpointStats(String endpoint, long count, long errors, double throughputPerSecond,
+                         double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+
+        double errorRate() {
+            return count == 0 ? 0 : (double) errors / count;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.aub.payzenapi.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.aub.payzenapi.loadtest.LatencyRecorder.EndpointStats;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Latency and throughput per endpoint for each scenario, checked against the SLO
+ * thresholds from {@link LoadTestSettings}. Printed as a table and written as JSON so
+ * two runs can be diffed or archived by CI.
+ */
+final class LatencyReport {
+
+    private final long sloP95Ms;
+    private final long sloP99Ms;
+    private final double sloMaxErrorRate;
+    private final Map<String, List<EndpointStats>> scenarios = new LinkedHashMap<>();
+
+    LatencyReport(long sloP95Ms, long sloP99Ms, double sloMaxErrorRate) {
+        this.sloP95Ms = sloP95Ms;
+        this.sloP99Ms = sloP99Ms;
+        this.sloMaxErrorRate = sloMaxErrorRate;
+    }
+
+    void add(String scenario, List<EndpointStats> stats) {
+        scenarios.put(scenario, stats);
+    }
+
+    /**
+     * One line per endpoint that missed an SLO; empty when the run is within budget.
+     */
+    List<String> violations() {
+        List<String> violations = new ArrayList<>();
+        scenarios.forEach((scenario, stats) -> stats.forEach(endpoint -> {
+            if (endpoint.p95Ms() > sloP95Ms) {
+                violations.add(String.format("%s %s: p95 %.1f ms > %d ms", scenario, endpoint.endpoint(), endpoint.p95Ms(), sloP95Ms));
+            }
+            if (endpoint.p99Ms() > sloP99Ms) {
+                violations.add(String.format("%s %s: p99 %.1f ms > %d ms", scenario, endpoint.endpoint(), endpoint.p99Ms(), sloP99Ms));
+            }
+            if (endpoint.errorRate() > sloMaxErrorRate) {
+                violations.add(String.format("%s %s: error rate %.2f%% > %.2f%%", scenario, endpoint.endpoint(),
+                        endpoint.errorRate() * 100, sloMaxErrorRate * 100));
+            }
+        }));
+        return violations;
+    }
+
+    String format() {
+        StringBuilder out = new StringBuilder();
+        scenarios.forEach((scenario, stats) -> {
+            out.append('\n').append("== ").append(scenario).append(" ==\n");
+            out.append(String.format("%-52s %9s %7s %9s %9s %9s %9s %9s%n",
+                    "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+            for (EndpointStats endpoint : stats) {
+                out.append(String.format("%-52s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                        endpoint.endpoint(), endpoint.count(), endpoint.errors(), endpoint.throughputPerSecond(),
+                        endpoint.p50Ms(), endpoint.p95Ms(), endpoint.p99Ms(), endpoint.maxMs()));
+            }
+        });
+        return out.toString();
+    }
+
+    void write(Path path) throws IOException {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("generatedAt", Instant.now().toString());
+        document.put("slo", Map.of("p95Ms", sloP95Ms, "p99Ms", sloP99Ms, "maxErrorRate", sloMaxErrorRate));
+        document.put("scenarios", scenarios);
+        document.put("violations", violations());
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), document);
+    }
+}
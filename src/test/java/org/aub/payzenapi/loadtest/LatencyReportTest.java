@@ -0,0 +1,60 @@
+package org.aub.payzenapi.loadtest;
+
+import org.aub.payzenapi.loadtest.LatencyRecorder.EndpointStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyReportTest {
+
+    @Test
+    void percentilesAreTrackedPerEndpoint() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 1; i <= 100; i++) {
+            recorder.record("GET /a", TimeUnit.MILLISECONDS.toNanos(i), true);
+        }
+        recorder.record("GET /b", TimeUnit.MILLISECONDS.toNanos(5), false);
+
+        List<EndpointStats> stats = recorder.snapshot(TimeUnit.SECONDS.toNanos(10));
+
+        EndpointStats a = stats.get(0);
+        assertEquals("GET /a", a.endpoint());
+        assertEquals(100, a.count());
+        assertEquals(10.0, a.throughputPerSecond(), 0.001);
+        assertEquals(50.0, a.p50Ms(), 0.1);
+        assertEquals(99.0, a.p99Ms(), 0.1);
+        assertEquals(1, stats.get(1).errors());
+    }
+
+    @Test
+    void stalledPollAlsoCountsThePollsItDelayed() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        long second = TimeUnit.SECONDS.toNanos(1);
+        for (int i = 0; i < 95; i++) {
+            recorder.record("GET /dashboard", TimeUnit.MILLISECONDS.toNanos(10), true, second);
+        }
+        // One 5 s stall holds up the four polls that were due during it
+        recorder.record("GET /dashboard", 5 * second, true, second);
+
+        EndpointStats stats = recorder.snapshot(TimeUnit.SECONDS.toNanos(100)).get(0);
+
+        assertEquals(100, stats.count());
+        assertTrue(stats.p99Ms() >= 1000, "p99 was " + stats.p99Ms());
+    }
+
+    @Test
+    void endpointsOverBudgetAreReported() {
+        LatencyReport report = new LatencyReport(100, 500, 0.01);
+        report.add("punch", List.of(
+                new EndpointStats("POST /api/v1/attendance", 1000, 0, 50, 20, 80, 400, 900),
+                new EndpointStats("POST /api/v1/attendance/{id}/check-in", 1000, 50, 50, 40, 150, 600, 700)));
+
+        List<String> violations = report.violations();
+
+        assertEquals(3, violations.size());
+        assertTrue(violations.stream().allMatch(violation -> violation.contains("check-in")));
+    }
+}
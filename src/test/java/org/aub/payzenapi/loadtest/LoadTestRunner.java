@@ -0,0 +1,270 @@
+package org.aub.payzenapi.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * End-to-end load test against a running instance of the API. Seeds the synthetic org
+ * through {@link SyntheticDataSeeder} (unless it is already there), then runs each
+ * scenario in turn with its own latency recorder:
+ * <ul>
+ *     <li>{@code login} - a storm of logins across the seeded users</li>
+ *     <li>{@code punch} - record, check-in and check-out bursts for a day with no attendance yet</li>
+ *     <li>{@code dashboard} - managers polling the dashboard and payslip summary</li>
+ *     <li>{@code payroll} - month-end payslip generation for the last full seeded month</li>
+ * </ul>
+ * Run with {@code mvn -Ploadtest test-compile exec:java}; see the profile in pom.xml for the knobs.
+ * Exits with status 1 if any endpoint misses its SLO.
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private static final int TOKEN_POOL_SIZE = 50;
+
+    private final LoadTestSettings settings;
+    private final SyntheticDataSeeder seeder;
+    private List<UUID> employeeIds;
+    private LocalDate punchDate;
+    private YearMonth payrollMonth;
+    private List<String> tokens;
+
+    private LoadTestRunner(LoadTestSettings settings) {
+        this.settings = settings;
+        this.seeder = new SyntheticDataSeeder(settings);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        LatencyReport report = new LoadTestRunner(settings).run();
+
+        System.out.println(report.format());
+        report.write(settings.report());
+        log.info("Report written to {}", settings.report().toAbsolutePath());
+
+        List<String> violations = report.violations();
+        if (!violations.isEmpty()) {
+            violations.forEach(violation -> System.err.println("SLO violated: " + violation));
+            System.exit(1);
+        }
+    }
+
+    private LatencyReport run() throws Exception {
+        if (settings.seed()) {
+            seeder.seed();
+        }
+        loadFixture();
+        tokens = loginTokenPool();
+
+        LatencyReport report = new LatencyReport(settings.sloP95Ms(), settings.sloP99Ms(), settings.sloMaxErrorRate());
+        if (settings.runs("login")) {
+            report.add("login", scenario("login", settings.loginConcurrency(), this::loginStorm));
+        }
+        if (settings.runs("punch")) {
+            report.add("punch", scenario("punch", settings.punchConcurrency(), this::punchBurst));
+        }
+        if (settings.runs("dashboard")) {
+            report.add("dashboard", scenario("dashboard", settings.dashboardPollers(),
+                    settings.dashboardPollInterval(), this::dashboardPolling));
+        }
+        if (settings.runs("payroll")) {
+            deletePayrollPeriod();
+            report.add("payroll", scenario("payroll", settings.payrollConcurrency(), this::monthEndPayroll));
+        }
+        return report;
+    }
+
+    /**
+     * Runs {@code workers} closed-loop virtual threads until the scenario duration is up
+     * or a worker runs out of work.
+     */
+    private List<LatencyRecorder.EndpointStats> scenario(String name, int workers, Scenario scenario)
+            throws InterruptedException {
+        return scenario(name, workers, Duration.ZERO, scenario);
+    }
+
+    /**
+     * @param interval how often each worker means to run a step, for scenarios that follow a
+     *                 schedule; the recorder then accounts for the steps a slow response delayed
+     */
+    private List<LatencyRecorder.EndpointStats> scenario(String name, int workers, Duration interval, Scenario scenario)
+            throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        PayzenClient client = new PayzenClient(settings.baseUrl(), recorder, interval);
+        long deadline = System.nanoTime() + settings.scenarioDuration().toNanos();
+        BooleanSupplier step = scenario.prepare(client);
+
+        log.info("Running {} with {} workers for {}", name, workers, settings.scenarioDuration());
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < workers; i++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline && step.getAsBoolean()) {
+                        // closed loop: next request as soon as the previous one returns
+                    }
+                });
+            }
+            executor.shutdown();
+            executor.awaitTermination(settings.scenarioDuration().plusMinutes(5).toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return recorder.snapshot(System.nanoTime() - started);
+    }
+
+    private BooleanSupplier loginStorm(PayzenClient client) {
+        return () -> {
+            int user = ThreadLocalRandom.current().nextInt(settings.users());
+            client.login(SyntheticDataSeeder.userEmail(user), LoadTestSettings.USER_PASSWORD);
+            return true;
+        };
+    }
+
+    // Every employee punches once: record the day, check in, check out
+    private BooleanSupplier punchBurst(PayzenClient client) {
+        AtomicInteger next = new AtomicInteger();
+        return () -> {
+            int index = next.getAndIncrement();
+            if (index >= employeeIds.size()) {
+                return false;
+            }
+            String token = token();
+            PayzenClient.Response created = client.post("POST /api/v1/attendance", "/api/v1/attendance", token,
+                    Map.of("employeeId", employeeIds.get(index), "attendanceDate", punchDate.toString()));
+            String attendanceId = created.payloadText("attendanceId");
+            if (attendanceId == null) {
+                return true;
+            }
+            client.post("POST /api/v1/attendance/{id}/check-in", "/api/v1/attendance/" + attendanceId + "/check-in", token, null);
+            client.post("POST /api/v1/attendance/{id}/check-out", "/api/v1/attendance/" + attendanceId + "/check-out", token, null);
+            return true;
+        };
+    }
+
+    private BooleanSupplier dashboardPolling(PayzenClient client) {
+        String summaryQuery = "?startDate=" + payrollMonth.atDay(1).atStartOfDay()
+                + "&endDate=" + payrollMonth.atEndOfMonth().atTime(23, 59, 59);
+        long pollNanos = settings.dashboardPollInterval().toNanos();
+        return () -> {
+            // Fixed rate: the next poll is due one interval after this one started, however long it took
+            long due = System.nanoTime() + pollNanos;
+            String token = token();
+            client.get("GET /api/v1/dashboard/stats", "/api/v1/dashboard/stats", token);
+            client.get("GET /api/v1/dashboard/employee-stats", "/api/v1/dashboard/employee-stats", token);
+            client.get("GET /api/v1/dashboard/attendance-stats", "/api/v1/dashboard/attendance-stats?date=" + punchDate, token);
+            client.get("GET /api/v1/attendance/today", "/api/v1/attendance/today", token);
+            client.get("GET /api/v1/payslips/summary", "/api/v1/payslips/summary" + summaryQuery, token);
+            return sleep(Math.max(0, TimeUnit.NANOSECONDS.toMillis(due - System.nanoTime())));
+        };
+    }
+
+    private BooleanSupplier monthEndPayroll(PayzenClient client) {
+        AtomicInteger next = new AtomicInteger();
+        int employees = Math.min(settings.payrollEmployees(), employeeIds.size());
+        String period = "?payPeriodStart=" + payrollMonth.atDay(1).atStartOfDay()
+                + "&payPeriodEnd=" + payrollMonth.atEndOfMonth().atTime(23, 59, 59);
+        return () -> {
+            int index = next.getAndIncrement();
+            if (index >= employees) {
+                return false;
+            }
+            client.post("POST /api/v1/payslips/generate/{employeeId}",
+                    "/api/v1/payslips/generate/" + employeeIds.get(index) + period, token(), null);
+            return true;
+        };
+    }
+
+    private void loadFixture() throws SQLException {
+        try (Connection connection = seeder.connect(); Statement statement = connection.createStatement()) {
+            employeeIds = new ArrayList<>();
+            try (ResultSet rs = statement.executeQuery("SELECT employee_id FROM employees WHERE employee_code LIKE '"
+                    + SyntheticDataSeeder.EMPLOYEE_CODE_PREFIX + "%' ORDER BY employee_code")) {
+                while (rs.next()) {
+                    employeeIds.add(rs.getObject(1, UUID.class));
+                }
+            }
+            if (employeeIds.isEmpty()) {
+                throw new IllegalStateException("No synthetic employees found; run with loadtest.seed=true");
+            }
+            // Each run punches the day after the latest one, so repeated runs never hit duplicates
+            LocalDate lastDay;
+            try (PreparedStatement latest = connection.prepareStatement(
+                    "SELECT max(attendance_date) FROM attendances WHERE employee_id = ?")) {
+                latest.setObject(1, employeeIds.getFirst());
+                try (ResultSet rs = latest.executeQuery()) {
+                    rs.next();
+                    Date date = rs.getDate(1);
+                    lastDay = date != null ? date.toLocalDate() : LocalDate.now().minusDays(1);
+                }
+            }
+            punchDate = lastDay.plusDays(1);
+            payrollMonth = YearMonth.from(LocalDate.now()).minusMonths(1);
+        }
+        log.info("Fixture: {} employees, punch date {}, payroll month {}", employeeIds.size(), punchDate, payrollMonth);
+    }
+
+    // Payslips are unique per employee and period, so clear the previous run's month-end first
+    private void deletePayrollPeriod() throws SQLException {
+        try (Connection connection = seeder.connect();
+             PreparedStatement delete = connection.prepareStatement("DELETE FROM payslips WHERE pay_period_start = ? "
+                     + "AND employee_id IN (SELECT employee_id FROM employees WHERE employee_code LIKE '"
+                     + SyntheticDataSeeder.EMPLOYEE_CODE_PREFIX + "%')")) {
+            delete.setObject(1, payrollMonth.atDay(1).atStartOfDay());
+            int deleted = delete.executeUpdate();
+            if (deleted > 0) {
+                log.info("Removed {} payslips left over from a previous run", deleted);
+            }
+        }
+    }
+
+    // Logins made here are not part of any scenario's numbers
+    private List<String> loginTokenPool() {
+        PayzenClient client = new PayzenClient(settings.baseUrl(), new LatencyRecorder());
+        List<String> pool = new ArrayList<>();
+        for (int i = 0; i < Math.min(TOKEN_POOL_SIZE, settings.users()); i++) {
+            String token = client.login(SyntheticDataSeeder.userEmail(i), LoadTestSettings.USER_PASSWORD);
+            if (token != null) {
+                pool.add(token);
+            }
+        }
+        if (pool.isEmpty()) {
+            throw new IllegalStateException("Could not log in any synthetic user against " + settings.baseUrl());
+        }
+        return pool;
+    }
+
+    private String token() {
+        return tokens.get(ThreadLocalRandom.current().nextInt(tokens.size()));
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(Duration.ofMillis(millis));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Scenario {
+        BooleanSupplier prepare(PayzenClient client);
+    }
+}
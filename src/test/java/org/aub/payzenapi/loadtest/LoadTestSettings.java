@@ -0,0 +1,80 @@
+package org.aub.payzenapi.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Knobs for {@link LoadTestRunner}, read from {@code -Dloadtest.*} system properties so
+ * the same harness can run a quick smoke pass or the full 50k employee / 10M row org.
+ */
+record LoadTestSettings(
+        String baseUrl,
+        String jdbcUrl,
+        String jdbcUser,
+        String jdbcPassword,
+        boolean seed,
+        boolean reseed,
+        int employees,
+        int attendanceDays,
+        int users,
+        long randomSeed,
+        Set<String> scenarios,
+        Duration scenarioDuration,
+        int loginConcurrency,
+        int punchConcurrency,
+        int dashboardPollers,
+        Duration dashboardPollInterval,
+        int payrollConcurrency,
+        int payrollEmployees,
+        long sloP95Ms,
+        long sloP99Ms,
+        double sloMaxErrorRate,
+        Path report) {
+
+    static final String USER_PASSWORD = "LoadTest#2024";
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                string("base-url", "http://localhost:8080"),
+                string("jdbc-url", "jdbc:postgresql://localhost:5432/payzen_db"),
+                string("jdbc-user", "postgres"),
+                string("jdbc-password", "151003"),
+                bool("seed", true),
+                bool("reseed", false),
+                integer("employees", 50_000),
+                integer("attendance-days", 200),
+                integer("users", 2_000),
+                Long.parseLong(string("random-seed", "20240101")),
+                new LinkedHashSet<>(Arrays.asList(string("scenarios", "login,punch,dashboard,payroll").split(","))),
+                Duration.ofSeconds(integer("duration-seconds", 60)),
+                integer("login.concurrency", 200),
+                integer("punch.concurrency", 200),
+                integer("dashboard.pollers", 100),
+                Duration.ofMillis(integer("dashboard.poll-ms", 1000)),
+                integer("payroll.concurrency", 50),
+                integer("payroll.employees", 5_000),
+                integer("slo.p95-ms", 300),
+                integer("slo.p99-ms", 1000),
+                Double.parseDouble(string("slo.max-error-rate", "0.01")),
+                Path.of(string("report", "target/loadtest-report.json")));
+    }
+
+    boolean runs(String scenario) {
+        return scenarios.contains(scenario);
+    }
+
+    private static String string(String key, String defaultValue) {
+        return System.getProperty("loadtest." + key, defaultValue);
+    }
+
+    private static int integer(String key, int defaultValue) {
+        return Integer.parseInt(string(key, Integer.toString(defaultValue)));
+    }
+
+    private static boolean bool(String key, boolean defaultValue) {
+        return Boolean.parseBoolean(string(key, Boolean.toString(defaultValue)));
+    }
+}
@@ -0,0 +1,109 @@
+package org.aub.payzenapi.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Thin HTTP client over the public API that times every call into a
+ * {@link LatencyRecorder}, once per call. Transport failures and unreadable bodies count
+ * as errors with the time spent until the response or failure.
+ */
+final class PayzenClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+    private final long expectedIntervalNanos;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    PayzenClient(String baseUrl, LatencyRecorder recorder) {
+        this(baseUrl, recorder, Duration.ZERO);
+    }
+
+    /**
+     * @param expectedInterval how often each endpoint is meant to be called by one worker, or
+     *                         zero for closed-loop workers; see {@link LatencyRecorder#record}
+     */
+    PayzenClient(String baseUrl, LatencyRecorder recorder, Duration expectedInterval) {
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+        this.expectedIntervalNanos = expectedInterval.toNanos();
+    }
+
+    /**
+     * Logs in and returns the bearer token, or null if the login did not succeed.
+     */
+    String login(String email, String password) {
+        Response response = send("POST /api/v1/auths/login", "/api/v1/auths/login", null,
+                Map.of("email", email, "password", password));
+        return response.ok() ? response.body().path("payload").path("token").asText(null) : null;
+    }
+
+    Response get(String endpoint, String path, String token) {
+        return send(endpoint, path, token, null);
+    }
+
+    Response post(String endpoint, String path, String token, Object body) {
+        return send(endpoint, path, token, body == null ? Map.of() : body);
+    }
+
+    private Response send(String endpoint, String path, String token, Object body) {
+        long started = System.nanoTime();
+        long elapsed;
+        int status = 0;
+        JsonNode json = null;
+        boolean readable = false;
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Accept", "application/json");
+            if (token != null) {
+                request.header("Authorization", "Bearer " + token);
+            }
+            if (body != null) {
+                request.header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+            } else {
+                request.GET();
+            }
+            HttpResponse<byte[]> response = http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            elapsed = System.nanoTime() - started;
+            status = response.statusCode();
+            json = response.body().length > 0 ? objectMapper.readTree(response.body()) : null;
+            readable = true;
+        } catch (IOException e) {
+            // Transport failure, or a 2xx whose body is not JSON
+            elapsed = System.nanoTime() - started;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(0, null);
+        }
+        recorder.record(endpoint, elapsed, readable && status / 100 == 2, expectedIntervalNanos);
+        return new Response(readable ? status : 0, json);
+    }
+
+    record Response(int status, JsonNode body) {
+
+        boolean ok() {
+            return status / 100 == 2 && body != null;
+        }
+
+        String payloadText(String field) {
+            return body == null ? null : body.path("payload").path(field).asText(null);
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package org.aub.payzenapi.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aub.payzenapi.model.enums.AttendanceStatus;
+import org.aub.payzenapi.utils.WorkedTime;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Loads a synthetic org straight into PostgreSQL with COPY, which is orders of magnitude
+ * faster than going through the API or JPA for millions of attendance rows. Everything
+ * it writes is tagged ({@code LT} employee codes, {@code lt-} emails) so it can be found
+ * and dropped again without touching real data. Expects the schema to exist already,
+ * i.e. the application has been started against the database once.
+ */
+@Slf4j
+final class SyntheticDataSeeder {
+
+    static final String EMPLOYEE_CODE_PREFIX = "LT";
+    static final String USER_EMAIL_PREFIX = "lt-user-";
+
+    private static final String SEEDED_EMPLOYEES =
+            "SELECT employee_id FROM employees WHERE employee_code LIKE '" + EMPLOYEE_CODE_PREFIX + "%'";
+    private static final String[] DEPARTMENTS = {
+            "Engineering", "Finance", "Operations", "Sales", "Support", "Human Resources", "Marketing", "Logistics"};
+    private static final String[] POSITIONS = {"Associate", "Specialist", "Senior Specialist", "Lead", "Manager"};
+    private static final String[] FIRST_NAMES = {
+            "Sok", "Dara", "Vanna", "Sophea", "Rithy", "Chenda", "Bopha", "Visal", "Sreymom", "Piseth"};
+    private static final String[] LAST_NAMES = {
+            "Chan", "Kim", "Heng", "Ly", "Meas", "Nguon", "Pich", "Sam", "Touch", "Yim"};
+    private static final int COPY_BUFFER_CHARS = 1 << 20;
+
+    private final LoadTestSettings settings;
+
+    SyntheticDataSeeder(LoadTestSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Seeds the org unless it is already there; with {@code loadtest.reseed=true} the
+     * previous synthetic rows are dropped first.
+     */
+    void seed() throws SQLException {
+        try (Connection connection = connect()) {
+            connection.setAutoCommit(false);
+            int existing = countSeededEmployees(connection);
+            if (existing > 0 && !settings.reseed()) {
+                log.info("Found {} synthetic employees, skipping seed (set loadtest.reseed=true to rebuild)", existing);
+                return;
+            }
+            if (existing > 0) {
+                purge(connection);
+            }
+
+            LocalDate lastDay = LocalDate.now().minusDays(1);
+            List<LocalDate> workingDays = workingDays(lastDay, settings.attendanceDays());
+            SplittableRandom random = new SplittableRandom(settings.randomSeed());
+            CopyManager copy = connection.unwrap(PGConnection.class).getCopyAPI();
+
+            long started = System.nanoTime();
+            createPartitions(connection, workingDays.getFirst(), lastDay);
+            copyUsers(copy, random);
+            List<UUID> employeeIds = copyEmployees(copy, random, workingDays.getFirst());
+            long attendances = copyAttendances(copy, random, employeeIds, workingDays);
+            connection.commit();
+            log.info("Copied {} users, {} employees and {} attendances in {} s",
+                    settings.users(), employeeIds.size(), attendances, seconds(started));
+
+            rebuildMonthlyTotals(connection);
+            connection.commit();
+
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE employees");
+                statement.execute("ANALYZE attendances");
+                statement.execute("ANALYZE attendance_monthly_totals");
+            }
+            log.info("Seed finished in {} s", seconds(started));
+        }
+    }
+
+    Connection connect() throws SQLException {
+        return DriverManager.getConnection(settings.jdbcUrl(), settings.jdbcUser(), settings.jdbcPassword());
+    }
+
+    private static int countSeededEmployees(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT count(*) FROM (" + SEEDED_EMPLOYEES + ") seeded")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private static void purge(Connection connection) throws SQLException {
+        log.info("Dropping previous synthetic org");
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM attendance_monthly_totals WHERE employee_id IN (" + SEEDED_EMPLOYEES + ")");
+            statement.executeUpdate("DELETE FROM attendances WHERE employee_id IN (" + SEEDED_EMPLOYEES + ")");
+            statement.executeUpdate("DELETE FROM payslips WHERE employee_id IN (" + SEEDED_EMPLOYEES + ")");
+            statement.executeUpdate("DELETE FROM employees WHERE employee_code LIKE '" + EMPLOYEE_CODE_PREFIX + "%'");
+            statement.executeUpdate("DELETE FROM app_users WHERE email LIKE '" + USER_EMAIL_PREFIX + "%'");
+        }
+        connection.commit();
+    }
+
+    // History older than the migration's partitions would otherwise all land in attendances_default
+    private static void createPartitions(Connection connection, LocalDate firstDay, LocalDate lastDay) throws SQLException {
+        try (PreparedStatement create = connection.prepareStatement("SELECT create_attendance_partition(?)")) {
+            for (YearMonth month = YearMonth.from(firstDay); !month.isAfter(YearMonth.from(lastDay)); month = month.plusMonths(1)) {
+                create.setObject(1, month.atDay(1));
+                create.execute();
+            }
+        }
+        connection.commit();
+    }
+
+    private void copyUsers(CopyManager copy, SplittableRandom random) throws SQLException {
+        // One hash for everyone: BCrypt per row would dominate the seed time
+        String password = new BCryptPasswordEncoder().encode(LoadTestSettings.USER_PASSWORD);
+        String now = LocalDateTime.now().toString();
+        try (CopyWriter out = new CopyWriter(copy.copyIn("COPY app_users (user_id, first_name, last_name, email, "
+                + "password, is_verified, created_at, role, version) FROM STDIN"))) {
+            for (int i = 0; i < settings.users(); i++) {
+                out.field(randomUuid(random)).field(pick(random, FIRST_NAMES)).field(pick(random, LAST_NAMES))
+                        .field(userEmail(i)).field(password).field("t").field(now).field("USER").field(0)
+                        .endRow();
+            }
+        }
+    }
+
+    private List<UUID> copyEmployees(CopyManager copy, SplittableRandom random, LocalDate firstWorkingDay) throws SQLException {
+        List<UUID> ids = new ArrayList<>(settings.employees());
+        String now = LocalDateTime.now().toString();
+        try (CopyWriter out = new CopyWriter(copy.copyIn("COPY employees (employee_id, employee_code, first_name, "
+                + "last_name, email, phone_number, date_of_birth, gender, address, hire_date, department, position, "
+                + "base_salary, status, profile_image_url, created_at, updated_at) FROM STDIN"))) {
+            for (int i = 0; i < settings.employees(); i++) {
+                UUID id = randomUuid(random);
+                ids.add(id);
+                out.field(id)
+                        .field(String.format("%s%07d", EMPLOYEE_CODE_PREFIX, i))
+                        .field(pick(random, FIRST_NAMES))
+                        .field(pick(random, LAST_NAMES))
+                        .field("lt-employee-" + i + "@payzen.test")
+                        .field(String.format("+8551%07d", i))
+                        .field(LocalDate.of(1970, 1, 1).plusDays(random.nextInt(30 * 365)))
+                        .field(random.nextBoolean() ? "MALE" : "FEMALE")
+                        .field("Street " + random.nextInt(1, 500) + ", Phnom Penh")
+                        .field(firstWorkingDay.minusDays(random.nextInt(1, 3650)))
+                        .field(pick(random, DEPARTMENTS))
+                        .field(pick(random, POSITIONS))
+                        .field(random.nextInt(600, 6000) + ".00")
+                        .field("ACTIVE")
+                        .nullField()
+                        .field(now)
+                        .field(now)
+                        .endRow();
+            }
+        }
+        return ids;
+    }
+
+    private long copyAttendances(CopyManager copy, SplittableRandom random, List<UUID> employeeIds,
+                                 List<LocalDate> workingDays) throws SQLException {
+        long rows = 0;
+        String now = LocalDateTime.now().toString();
+        try (CopyWriter out = new CopyWriter(copy.copyIn("COPY attendances (attendance_id, employee_id, "
+                + "attendance_date, check_in_time, check_out_time, break_duration_minutes, total_hours_worked, "
+                + "worked_minutes, status, notes, version, created_at) FROM STDIN"))) {
+            for (UUID employeeId : employeeIds) {
+                for (LocalDate day : workingDays) {
+                    writeAttendance(out, random, employeeId, day, now);
+                    rows++;
+                }
+                if (rows % 1_000_000 < workingDays.size()) {
+                    log.info("Copied {} attendances", rows);
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static void writeAttendance(CopyWriter out, SplittableRandom random, UUID employeeId,
+                                        LocalDate day, String now) {
+        AttendanceStatus status = randomStatus(random);
+        LocalTime checkIn = null;
+        LocalTime checkOut = null;
+        int breakMinutes = 0;
+        switch (status) {
+            case PRESENT -> {
+                checkIn = LocalTime.of(8, 0).plusMinutes(random.nextInt(30));
+                checkOut = LocalTime.of(17, 0).plusMinutes(random.nextInt(60));
+                breakMinutes = 60;
+            }
+            case LATE -> {
+                checkIn = LocalTime.of(9, 15).plusMinutes(random.nextInt(60));
+                checkOut = LocalTime.of(17, 30).plusMinutes(random.nextInt(60));
+                breakMinutes = 60;
+            }
+            case HALF_DAY -> {
+                checkIn = LocalTime.of(8, 0).plusMinutes(random.nextInt(15));
+                checkOut = LocalTime.of(12, 0).plusMinutes(random.nextInt(15));
+            }
+            default -> {
+            }
+        }
+        out.field(randomUuid(random)).field(employeeId).field(day);
+        if (checkIn != null) {
+            int minutes = WorkedTime.workedMinutes(checkIn, checkOut, breakMinutes);
+            out.field(checkIn).field(checkOut).field(breakMinutes)
+                    .field(WorkedTime.toHours(minutes)).field(minutes);
+        } else {
+            out.nullField().nullField().nullField().nullField().field(0);
+        }
+        out.field(status.name()).nullField().field(0).field(now).endRow();
+    }
+
+    // Same aggregation as the totals backfill in V2 of db/migration, limited to the synthetic org
+    private static void rebuildMonthlyTotals(Connection connection) throws SQLException {
+        long started = System.nanoTime();
+        try (Statement statement = connection.createStatement()) {
+            int rows = statement.executeUpdate("INSERT INTO attendance_monthly_totals (employee_id, month, "
+                    + "present_minutes, present_days, absent_days, late_days, half_days, sick_leave_days, "
+                    + "vacation_days, holiday_days, updated_at) "
+                    + "SELECT employee_id, CAST(date_trunc('month', attendance_date) AS date), "
+                    + "COALESCE(SUM(worked_minutes) FILTER (WHERE status = 'PRESENT'), 0), "
+                    + "COUNT(*) FILTER (WHERE status = 'PRESENT'), "
+                    + "COUNT(*) FILTER (WHERE status = 'ABSENT'), "
+                    + "COUNT(*) FILTER (WHERE status = 'LATE'), "
+                    + "COUNT(*) FILTER (WHERE status = 'HALF_DAY'), "
+                    + "COUNT(*) FILTER (WHERE status = 'SICK_LEAVE'), "
+                    + "COUNT(*) FILTER (WHERE status = 'VACATION'), "
+                    + "COUNT(*) FILTER (WHERE status = 'HOLIDAY'), now() "
+                    + "FROM attendances WHERE employee_id IN (" + SEEDED_EMPLOYEES + ") "
+                    + "GROUP BY employee_id, CAST(date_trunc('month', attendance_date) AS date)");
+            log.info("Rebuilt {} monthly totals in {} s", rows, seconds(started));
+        }
+    }
+
+    static String userEmail(int index) {
+        return USER_EMAIL_PREFIX + index + "@payzen.test";
+    }
+
+    /**
+     * The last {@code count} weekdays up to and including {@code lastDay}, oldest first.
+     */
+    static List<LocalDate> workingDays(LocalDate lastDay, int count) {
+        List<LocalDate> days = new ArrayList<>(count);
+        LocalDate day = lastDay;
+        while (days.size() < count) {
+            if (day.getDayOfWeek() != DayOfWeek.SATURDAY && day.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                days.add(day);
+            }
+            day = day.minusDays(1);
+        }
+        return days.reversed();
+    }
+
+    private static AttendanceStatus randomStatus(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 82) return AttendanceStatus.PRESENT;
+        if (roll < 88) return AttendanceStatus.LATE;
+        if (roll < 91) return AttendanceStatus.HALF_DAY;
+        if (roll < 94) return AttendanceStatus.ABSENT;
+        if (roll < 96) return AttendanceStatus.SICK_LEAVE;
+        if (roll < 99) return AttendanceStatus.VACATION;
+        return AttendanceStatus.HOLIDAY;
+    }
+
+    private static UUID randomUuid(SplittableRandom random) {
+        // Version 4, IETF variant, but reproducible from the configured seed
+        long msb = (random.nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L;
+        long lsb = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String seconds(long startedNanos) {
+        return String.format("%.1f", (System.nanoTime() - startedNanos) / 1_000_000_000.0);
+    }
+
+    /**
+     * Streams rows in COPY text format (tab separated, {@code \N} for null) through a
+     * reused buffer, so the 10M attendance rows never sit in memory at once. Values
+     * written here never contain tabs, newlines or backslashes, so nothing is escaped.
+     */
+    private static final class CopyWriter implements AutoCloseable {
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(COPY_BUFFER_CHARS + 1024);
+        private boolean rowStarted;
+
+        CopyWriter(CopyIn copyIn) {
+            this.copyIn = copyIn;
+        }
+
+        CopyWriter field(Object value) {
+            separator();
+            buffer.append(value);
+            return this;
+        }
+
+        CopyWriter nullField() {
+            separator();
+            buffer.append("\\N");
+            return this;
+        }
+
+        void endRow() {
+            buffer.append('\n');
+            rowStarted = false;
+            if (buffer.length() >= COPY_BUFFER_CHARS) {
+                flush();
+            }
+        }
+
+        private void separator() {
+            if (rowStarted) {
+                buffer.append('\t');
+            }
+            rowStarted = true;
+        }
+
+        private void flush() {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            try {
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+            } catch (SQLException e) {
+                throw new IllegalStateException("COPY failed", e);
+            }
+            buffer.setLength(0);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (!copyIn.isActive()) {
+                return;
+            }
+            if (!buffer.isEmpty()) {
+                flush();
+            }
+            copyIn.endCopy();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.aub.payzenapi.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowRequestBufferTest {
+
+    @Test
+    void snapshotIsNewestFirstAndDropsTheOldestWhenFull() {
+        SlowRequestBuffer buffer = new SlowRequestBuffer(3);
+        for (int i = 1; i <= 5; i++) {
+            buffer.add(record("/r" + i));
+        }
+
+        List<SlowRequestRecord> records = buffer.snapshot();
+
+        assertEquals(List.of("/r5", "/r4", "/r3"), records.stream().map(SlowRequestRecord::endpoint).toList());
+        assertEquals(5, buffer.totalRecorded());
+    }
+
+    @Test
+    void clearEmptiesTheSnapshot() {
+        SlowRequestBuffer buffer = new SlowRequestBuffer(2);
+        buffer.add(record("/r1"));
+
+        buffer.clear();
+
+        assertTrue(buffer.snapshot().isEmpty());
+    }
+
+    @Test
+    void capacityMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new SlowRequestBuffer(0));
+    }
+
+    private static SlowRequestRecord record(String endpoint) {
+        return new SlowRequestRecord(Instant.now(), "GET", endpoint, 200, 1500, List.of(), 0, List.of());
+    }
+}
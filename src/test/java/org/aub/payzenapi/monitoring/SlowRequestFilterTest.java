@@ -0,0 +1,73 @@
+package org.aub.payzenapi.monitoring;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowRequestFilterTest {
+
+    private SlowRequestDetector detector;
+
+    @AfterEach
+    void shutdown() {
+        detector.shutdown();
+    }
+
+    @Test
+    void requestOverTheSqlThresholdIsRecordedWithItsStatements() throws Exception {
+        detector = new SlowRequestDetector(true, 60_000, 0, 2, 10, 60_000);
+        SqlTimingStatementInspector inspector = new SqlTimingStatementInspector(new SampledSqlLogger(1));
+        SqlTimingSessionListener listener = new SqlTimingSessionListener();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employees/42");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/employees/{employeeId}");
+
+        new SlowRequestFilter(detector).doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            for (String sql : List.of("select 1", "select 2", "select 3")) {
+                inspector.inspect(sql);
+                listener.jdbcExecuteStatementStart();
+                listener.jdbcExecuteStatementEnd();
+            }
+        });
+
+        List<SlowRequestRecord> records = detector.getBuffer().snapshot();
+        assertEquals(1, records.size());
+        SlowRequestRecord record = records.get(0);
+        assertEquals("/api/v1/employees/{employeeId}", record.endpoint());
+        assertEquals(List.of("select 1", "select 2"), record.statements().stream().map(SqlStatementTiming::sql).toList());
+        assertEquals(1, record.droppedStatements());
+    }
+
+    @Test
+    void fastRequestIsNotRecordedAndStatementsOutsideARequestAreIgnored() throws Exception {
+        detector = new SlowRequestDetector(true, 60_000, 60_000, 8, 10, 60_000);
+        SqlTimingSessionListener listener = new SqlTimingSessionListener();
+
+        new SlowRequestFilter(detector).doFilter(new MockHttpServletRequest("GET", "/api/v1/attendance/today"),
+                new MockHttpServletResponse(), (req, res) -> {
+                    listener.jdbcExecuteStatementStart();
+                    listener.jdbcExecuteStatementEnd();
+                });
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementEnd();
+
+        assertTrue(detector.getBuffer().snapshot().isEmpty());
+        assertFalse(RequestTrace.current().isActive());
+    }
+
+    @Test
+    void disabledDetectorSkipsTheFilter() throws Exception {
+        detector = new SlowRequestDetector(false, 0, 0, 8, 10, 60_000);
+
+        new SlowRequestFilter(detector).doFilter(new MockHttpServletRequest("GET", "/api/v1/employees"),
+                new MockHttpServletResponse(), (req, res) -> {
+                });
+
+        assertTrue(detector.getBuffer().snapshot().isEmpty());
+    }
+}
@@ -0,0 +1,41 @@
+package org.aub.payzenapi.monitoring;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SqlTimingInterceptorTest {
+
+    @Test
+    void mapperStatementsAreAttributedToTheCurrentRequest() throws Throwable {
+        SlowRequestDetector detector = new SlowRequestDetector(true, 60_000, 0, 8, 10, 60_000);
+        try {
+            StatementHandler handler = mock(StatementHandler.class);
+            BoundSql boundSql = mock(BoundSql.class);
+            when(boundSql.getSql()).thenReturn("SELECT count(*) FROM employees e");
+            when(handler.getBoundSql()).thenReturn(boundSql);
+            when(handler.query(any(), any())).thenReturn(List.of(42L));
+            Invocation invocation = new Invocation(handler,
+                    StatementHandler.class.getMethod("query", Statement.class, ResultHandler.class),
+                    new Object[]{mock(Statement.class), null});
+
+            RequestTrace trace = detector.begin();
+            Object result = new SqlTimingInterceptor(new SampledSqlLogger(1)).intercept(invocation);
+            detector.end(trace, "GET", "/api/v1/employees", 200);
+
+            assertEquals(List.of(42L), result);
+            List<SqlStatementTiming> statements = detector.getBuffer().snapshot().get(0).statements();
+            assertEquals(List.of("SELECT count(*) FROM employees e"), statements.stream().map(SqlStatementTiming::sql).toList());
+        } finally {
+            detector.shutdown();
+        }
+    }
+}
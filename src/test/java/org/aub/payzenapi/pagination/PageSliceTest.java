@@ -0,0 +1,73 @@
+package org.aub.payzenapi.pagination;
+
+import org.aub.payzenapi.base.PaginationResponse;
+import org.aub.payzenapi.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageSliceTest {
+
+    private static final LongSupplier NOT_CALLED = () -> {
+        throw new AssertionError("count should not run");
+    };
+
+    @Test
+    void extraRowMeansThereIsANextPageAndIsDropped() {
+        PageSlice<Integer> slice = PageSlice.of(List.of(1, 2, 3, 4), PageRequest.of(0, 3),
+                CountMode.NONE, NOT_CALLED, NOT_CALLED);
+
+        assertEquals(List.of(1, 2, 3), slice.content());
+        assertTrue(slice.hasNext());
+        assertNull(slice.totalCount());
+    }
+
+    @Test
+    void lastPageKnowsItsTotalWithoutCounting() {
+        PageSlice<Integer> slice = PageSlice.of(List.of(7, 8), PageRequest.of(2, 3),
+                CountMode.EXACT, NOT_CALLED, NOT_CALLED);
+
+        assertFalse(slice.hasNext());
+        assertEquals(8L, slice.totalCount());
+        assertFalse(slice.totalEstimated());
+    }
+
+    @Test
+    void exactCountOnlyWhenAskedFor() {
+        PageSlice<Integer> slice = PageSlice.of(List.of(1, 2, 3, 4), PageRequest.of(0, 3),
+                CountMode.EXACT, () -> 42, NOT_CALLED);
+
+        assertEquals(42L, slice.totalCount());
+    }
+
+    @Test
+    void estimateIsNeverBelowRowsAlreadySeen() {
+        PageSlice<Integer> slice = PageSlice.of(List.of(1, 2, 3, 4), PageRequest.of(5, 3),
+                CountMode.ESTIMATE, NOT_CALLED, () -> 10);
+
+        assertEquals(19L, slice.totalCount());
+        assertTrue(slice.totalEstimated());
+    }
+
+    @Test
+    void paginationLinksAreZeroBased() {
+        PaginationResponse first = new PaginationResponse(0, 10, 25);
+        assertNull(first.getPreviousPage());
+        assertEquals(1, first.getNextPage());
+        assertEquals(2, first.getLastPage());
+
+        PaginationResponse last = new PaginationResponse(2, 10, 25);
+        assertEquals(1, last.getPreviousPage());
+        assertNull(last.getNextPage());
+    }
+
+    @Test
+    void unknownCountModeIsRejected() {
+        assertEquals(CountMode.ESTIMATE, CountMode.from("Estimate"));
+        assertThrows(BadRequestException.class, () -> CountMode.from("maybe"));
+    }
+}
@@ -0,0 +1,67 @@
+package org.aub.payzenapi.partition;
+
+import org.aub.payzenapi.repository.mybatis.AttendancePartitionMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class AttendancePartitionManagerTest {
+
+    private static final String EXPIRED = "attendances_2020_01";
+
+    private final AttendancePartitionMapper mapper = mock(AttendancePartitionMapper.class);
+    private final AttendancePartitionManager manager = new AttendancePartitionManager(
+            mapper, mock(PlatformTransactionManager.class), 3, 12, "");
+
+    @Test
+    void expiredMonthIsDetachedConcurrentlyAndRenamed() {
+        when(mapper.partitionNames()).thenReturn(List.of(EXPIRED, "attendances_default"));
+
+        manager.maintain();
+
+        InOrder order = inOrder(mapper);
+        order.verify(mapper).lockPartitions();
+        order.verify(mapper).detachPartition("attendances_default");
+        order.verify(mapper).detachPartitionConcurrently(EXPIRED);
+        order.verify(mapper).renameTable(EXPIRED, EXPIRED + "_detached");
+        order.verify(mapper).attachDefaultPartition("attendances_default");
+    }
+
+    @Test
+    void defaultPartitionIsReattachedWhenADetachFails() {
+        when(mapper.partitionNames()).thenReturn(List.of(EXPIRED, "attendances_default"));
+        doThrow(new IllegalStateException("lock timeout")).when(mapper).detachPartitionConcurrently(EXPIRED);
+
+        assertThrows(IllegalStateException.class, manager::maintain);
+
+        verify(mapper).attachDefaultPartition("attendances_default");
+        verify(mapper, never()).renameTable(anyString(), anyString());
+    }
+
+    @Test
+    void interruptedDetachIsFinalized() {
+        when(mapper.partitionNames()).thenReturn(List.of(EXPIRED, "attendances_default"));
+        when(mapper.pendingDetachNames()).thenReturn(List.of(EXPIRED));
+
+        manager.maintain();
+
+        verify(mapper).finalizeDetach(EXPIRED);
+        verify(mapper, never()).detachPartitionConcurrently(anyString());
+    }
+
+    @Test
+    void nothingIsDetachedWithinRetention() {
+        when(mapper.partitionNames()).thenReturn(List.of("attendances_default"));
+
+        manager.maintain();
+
+        verify(mapper, never()).detachPartition(anyString());
+        verify(mapper, never()).attachDefaultPartition(anyString());
+    }
+}
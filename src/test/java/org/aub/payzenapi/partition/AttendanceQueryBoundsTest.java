@@ -0,0 +1,50 @@
+package org.aub.payzenapi.partition;
+
+import org.aub.payzenapi.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AttendanceQueryBoundsTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 5, 14);
+
+    private final AttendanceQueryBounds bounds = new AttendanceQueryBounds(12);
+
+    @Test
+    void openRangeDefaultsToTheLastYearThroughNextMonth() {
+        AttendanceQueryBounds.DateRange range = bounds.resolve(null, null, TODAY);
+
+        assertEquals(LocalDate.of(2023, 6, 1), range.startDate());
+        assertEquals(LocalDate.of(2024, 6, 30), range.endDate());
+    }
+
+    @Test
+    void givenBoundsAreKept() {
+        AttendanceQueryBounds.DateRange range = bounds.resolve(TODAY, TODAY, TODAY);
+
+        assertEquals(TODAY, range.startDate());
+        assertEquals(TODAY, range.endDate());
+    }
+
+    @Test
+    void openStartCountsBackFromTheGivenEnd() {
+        AttendanceQueryBounds.DateRange range = bounds.resolve(null, LocalDate.of(2020, 3, 10), TODAY);
+
+        assertEquals(LocalDate.of(2019, 3, 1), range.startDate());
+    }
+
+    @Test
+    void openEndAfterAFutureStartStillCoversTheStart() {
+        AttendanceQueryBounds.DateRange range = bounds.resolve(LocalDate.of(2025, 1, 1), null, TODAY);
+
+        assertEquals(LocalDate.of(2026, 1, 1), range.endDate());
+    }
+
+    @Test
+    void endBeforeStartIsRejected() {
+        assertThrows(BadRequestException.class, () -> bounds.resolve(TODAY, TODAY.minusDays(1), TODAY));
+    }
+}
@@ -0,0 +1,133 @@
+package org.aub.payzenapi.payroll;
+
+import org.aub.payzenapi.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PayrollPlanTest {
+
+    private static final long BASE_3200 = 320_000L;
+    private static final long HOURS_170 = 170 * 60L;
+
+    @Test
+    void flatRulesMatchThePreviousHardCodedCalculation() {
+        PayrollPlan plan = PayrollPlan.compile(ruleSet(LocalDate.of(2000, 1, 1),
+                List.of(bracket("0", "0.10")), Map.of(), List.of(), List.of()));
+        PayrollResult result = new PayrollResult();
+
+        plan.evaluate(BASE_3200, HOURS_170, "Sales", result);
+
+        assertEquals(2_000, result.hourlyRateCents());
+        assertEquals(600, result.overtimeMinutes());
+        assertEquals(3_000, result.overtimeRateCents());
+        assertEquals(30_000, result.overtimePayCents());
+        assertEquals(350_000, result.grossCents());
+        assertEquals(35_000, result.taxCents());
+        assertEquals(0, result.deductionsCents());
+        assertEquals(315_000, result.netCents());
+    }
+
+    @Test
+    void taxIsMarginalAcrossBrackets() {
+        PayrollPlan plan = PayrollPlan.compile(ruleSet(LocalDate.of(2000, 1, 1),
+                List.of(bracket("3000", "0.20"), bracket("0", "0"), bracket("1000", "0.10")),
+                Map.of(), List.of(), List.of()));
+        PayrollResult result = new PayrollResult();
+
+        plan.evaluate(BASE_3200, HOURS_170, null, result);
+
+        // 2000.00 at 10% plus 500.00 at 20%
+        assertEquals(30_000, result.taxCents());
+    }
+
+    @Test
+    void departmentRulesOnlyApplyToTheirDepartment() {
+        PayrollPlan plan = PayrollPlan.compile(ruleSet(LocalDate.of(2000, 1, 1),
+                List.of(bracket("0", "0.10")),
+                Map.of("Engineering", new BigDecimal("2.0")),
+                List.of(new PayrollRuleSet.Allowance("On-call", "Engineering", new BigDecimal("100"))),
+                List.of(new PayrollRuleSet.Deduction("Pension", null, null, new BigDecimal("0.05")))));
+        PayrollResult result = new PayrollResult();
+
+        plan.evaluate(BASE_3200, HOURS_170, "Engineering", result);
+        assertEquals(40_000, result.overtimePayCents());
+        assertEquals(10_000, result.allowancesCents());
+        assertEquals(370_000, result.grossCents());
+        assertEquals(18_500, result.deductionsCents());
+        assertEquals(314_500, result.netCents());
+
+        plan.evaluate(BASE_3200, HOURS_170, "Sales", result);
+        assertEquals(30_000, result.overtimePayCents());
+        assertEquals(0, result.allowancesCents());
+        assertEquals(17_500, result.deductionsCents());
+        assertEquals(297_500, result.netCents());
+    }
+
+    @Test
+    void catalogPicksTheRuleSetInEffectOnTheDate() {
+        PayrollRuleCatalog catalog = new PayrollRuleCatalog(List.of(
+                ruleSet(LocalDate.of(2024, 1, 1), List.of(bracket("0", "0.10")), Map.of(), List.of(), List.of()),
+                ruleSet(LocalDate.of(2025, 1, 1), List.of(bracket("0", "0.12")), Map.of(), List.of(), List.of())));
+
+        assertEquals(LocalDate.of(2024, 1, 1), catalog.planFor(LocalDate.of(2024, 12, 31)).effectiveFrom());
+        assertEquals(LocalDate.of(2025, 1, 1), catalog.planFor(LocalDate.of(2025, 1, 1)).effectiveFrom());
+        assertThrows(BadRequestException.class, () -> catalog.planFor(LocalDate.of(2023, 6, 30)));
+    }
+
+    @Test
+    void rejectsTwoRuleSetsWithTheSameDate() {
+        PayrollRuleSet ruleSet = ruleSet(LocalDate.of(2024, 1, 1), List.of(), Map.of(), List.of(), List.of());
+
+        assertThrows(IllegalArgumentException.class, () -> new PayrollRuleCatalog(List.of(ruleSet, ruleSet)));
+    }
+
+    @Test
+    void bracketWithoutFromIsRejectedAsInvalidRules() {
+        PayrollRuleSet ruleSet = ruleSet(LocalDate.of(2024, 1, 1),
+                List.of(bracket("0", "0.10"), new PayrollRuleSet.TaxBracket(null, new BigDecimal("0.20"))),
+                Map.of(), List.of(), List.of());
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> PayrollPlan.compile(ruleSet));
+        assertTrue(e.getMessage().startsWith("Invalid payroll rules"));
+    }
+
+    @Test
+    void rejectsFixedDeductionsThatCanExceedNetPay() {
+        PayrollRuleSet ruleSet = ruleSet(LocalDate.of(2024, 1, 1), List.of(bracket("0", "0.10")), Map.of(),
+                List.of(new PayrollRuleSet.Allowance("Transport", null, new BigDecimal("50"))),
+                List.of(new PayrollRuleSet.Deduction("Union", "Operations", new BigDecimal("60"), null)));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> PayrollPlan.compile(ruleSet));
+        assertTrue(e.getMessage().contains("Operations"));
+    }
+
+    @Test
+    void fixedDeductionsCoveredByAllowancesAreAccepted() {
+        PayrollRuleSet ruleSet = ruleSet(LocalDate.of(2024, 1, 1), List.of(bracket("0", "0.10")), Map.of(),
+                List.of(new PayrollRuleSet.Allowance("Transport", null, new BigDecimal("50"))),
+                List.of(new PayrollRuleSet.Deduction("Union", "Operations", new BigDecimal("40"), null)));
+        PayrollResult result = new PayrollResult();
+
+        PayrollPlan.compile(ruleSet).evaluate(BASE_3200, 0, "Operations", result);
+
+        assertEquals(500, result.netCents());
+    }
+
+    private static PayrollRuleSet ruleSet(LocalDate effectiveFrom, List<PayrollRuleSet.TaxBracket> brackets,
+                                          Map<String, BigDecimal> departmentMultipliers,
+                                          List<PayrollRuleSet.Allowance> allowances,
+                                          List<PayrollRuleSet.Deduction> deductions) {
+        return new PayrollRuleSet(effectiveFrom, new BigDecimal("160"), new BigDecimal("1.5"),
+                departmentMultipliers, brackets, allowances, deductions);
+    }
+
+    private static PayrollRuleSet.TaxBracket bracket(String from, String rate) {
+        return new PayrollRuleSet.TaxBracket(new BigDecimal(from), new BigDecimal(rate));
+    }
+}
@@ -0,0 +1,61 @@
+package org.aub.payzenapi.payroll;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PayrollSimulationTest {
+
+    private static final String[] DEPARTMENTS = {"Engineering", "Sales", "Finance"};
+
+    @Test
+    void parallelTotalsMatchEvaluatingEachEmployee() {
+        PayrollPlan plan = PayrollPlan.compile(new PayrollRuleSet(LocalDate.of(2000, 1, 1),
+                new BigDecimal("160"), new BigDecimal("1.5"),
+                Map.of("Engineering", new BigDecimal("2.0")),
+                List.of(new PayrollRuleSet.TaxBracket(BigDecimal.ZERO, new BigDecimal("0.05")),
+                        new PayrollRuleSet.TaxBracket(new BigDecimal("3000"), new BigDecimal("0.15"))),
+                List.of(new PayrollRuleSet.Allowance("Transport", null, new BigDecimal("25"))),
+                List.of()));
+
+        PayrollSnapshot.Builder builder = PayrollSnapshot.builder();
+        for (int i = 0; i < 10_000; i++) {
+            builder.add(new BigDecimal(2000 + i % 3000), DEPARTMENTS[i % DEPARTMENTS.length], 9000 + i % 1500);
+        }
+        PayrollSnapshot snapshot = builder.build();
+
+        long expectedNet = 0;
+        long expectedTax = 0;
+        PayrollResult result = new PayrollResult();
+        for (int i = 0; i < snapshot.size(); i++) {
+            plan.evaluate(snapshot.baseSalaryCents(i), snapshot.workedMinutes(i), snapshot.department(i), result);
+            expectedNet += result.netCents();
+            expectedTax += result.taxCents();
+        }
+
+        PayrollTotals totals;
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            totals = PayrollSimulation.evaluate(plan, snapshot, pool);
+        }
+
+        assertEquals(10_000, totals.employees());
+        assertEquals(expectedNet, totals.netCents());
+        assertEquals(expectedTax, totals.taxCents());
+        assertEquals(10_000 * 2_500L, totals.allowancesCents());
+    }
+
+    @Test
+    void emptySnapshotHasZeroTotals() {
+        PayrollPlan plan = PayrollPlan.compile(new PayrollRuleSet(LocalDate.of(2000, 1, 1),
+                new BigDecimal("160"), null, null, null, null, null));
+
+        assertEquals(PayrollTotals.EMPTY, PayrollSimulation.evaluate(plan, PayrollSnapshot.builder().build(),
+                ForkJoinPool.commonPool()));
+    }
+}
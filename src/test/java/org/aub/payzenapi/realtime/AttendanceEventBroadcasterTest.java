@@ -0,0 +1,51 @@
+package org.aub.payzenapi.realtime;
+
+import org.aub.payzenapi.model.dto.response.AttendanceResponse;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AttendanceEventBroadcasterTest {
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final AttendanceEventBroadcaster broadcaster = new AttendanceEventBroadcaster(messagingTemplate);
+
+    @Test
+    void changesAreCoalescedPerRecordIntoOneMessage() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        broadcaster.onAttendanceChanged(event(AttendanceEventType.RECORDED, first));
+        broadcaster.onAttendanceChanged(event(AttendanceEventType.CHECKED_IN, first));
+        broadcaster.onAttendanceChanged(event(AttendanceEventType.RECORDED, second));
+
+        broadcaster.flush();
+
+        ArgumentCaptor<AttendanceDeltaMessage> message = ArgumentCaptor.forClass(AttendanceDeltaMessage.class);
+        verify(messagingTemplate).convertAndSend(eq(AttendanceEventBroadcaster.TOPIC), message.capture());
+        Map<UUID, AttendanceEventType> changes = message.getValue().changes().stream()
+                .collect(Collectors.toMap(change -> change.attendance().getAttendanceId(), AttendanceDeltaMessage.Change::type));
+        assertEquals(Map.of(first, AttendanceEventType.CHECKED_IN, second, AttendanceEventType.RECORDED), changes);
+    }
+
+    @Test
+    void nothingIsSentWithoutChanges() {
+        broadcaster.onAttendanceChanged(event(AttendanceEventType.CHECKED_OUT, UUID.randomUUID()));
+        broadcaster.flush();
+        clearInvocations(messagingTemplate);
+
+        broadcaster.flush();
+
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    private static AttendanceChangedEvent event(AttendanceEventType type, UUID attendanceId) {
+        return new AttendanceChangedEvent(type, AttendanceResponse.builder().attendanceId(attendanceId).build());
+    }
+}
@@ -0,0 +1,81 @@
+package org.aub.payzenapi.realtime;
+
+import io.jsonwebtoken.MalformedJwtException;
+import org.aub.payzenapi.jwt.JwtService;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class StompAuthChannelInterceptorTest {
+
+    private final JwtService jwtService = mock(JwtService.class);
+    private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+    private final StompAuthChannelInterceptor interceptor = new StompAuthChannelInterceptor(jwtService, userDetailsService);
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final UserDetails user = User.withUsername("admin@payzen.test").password("x").roles("ADMIN").build();
+
+    @Test
+    void connectWithoutTokenIsRejected() {
+        assertThrows(BadCredentialsException.class, () -> interceptor.preSend(connect(null), channel));
+    }
+
+    @Test
+    void connectWithInvalidTokenIsRejected() {
+        when(jwtService.extractUsername("expired")).thenReturn(user.getUsername());
+        when(userDetailsService.loadUserByUsername(user.getUsername())).thenReturn(user);
+        when(jwtService.isTokenValid("expired", user)).thenReturn(false);
+
+        assertThrows(BadCredentialsException.class, () -> interceptor.preSend(connect("Bearer expired"), channel));
+    }
+
+    @Test
+    void connectWithMalformedTokenIsRejected() {
+        when(jwtService.extractUsername("garbage")).thenThrow(new MalformedJwtException("garbage"));
+
+        assertThrows(BadCredentialsException.class, () -> interceptor.preSend(connect("Bearer garbage"), channel));
+    }
+
+    @Test
+    void connectWithValidTokenSetsTheUser() {
+        when(jwtService.extractUsername("good")).thenReturn(user.getUsername());
+        when(userDetailsService.loadUserByUsername(user.getUsername())).thenReturn(user);
+        when(jwtService.isTokenValid("good", user)).thenReturn(true);
+
+        Message<?> result = interceptor.preSend(connect("Bearer good"), channel);
+
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(result, StompHeaderAccessor.class);
+        UsernamePasswordAuthenticationToken principal = (UsernamePasswordAuthenticationToken) accessor.getUser();
+        assertSame(user, principal.getPrincipal());
+    }
+
+    @Test
+    void framesOtherThanConnectPassThrough() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setLeaveMutable(true);
+        Message<byte[]> subscribe = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        assertSame(subscribe, interceptor.preSend(subscribe, channel));
+        verifyNoInteractions(jwtService);
+    }
+
+    private static Message<byte[]> connect(String authorization) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        if (authorization != null) {
+            accessor.setNativeHeader("Authorization", authorization);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
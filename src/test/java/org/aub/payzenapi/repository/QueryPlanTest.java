@@ -0,0 +1,420 @@
+package org.aub.payzenapi.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.aub.payzenapi.model.entity.Employee;
+import org.aub.payzenapi.model.enums.AttendanceStatus;
+import org.aub.payzenapi.model.enums.EmployeeStatus;
+import org.aub.payzenapi.model.enums.PayslipStatus;
+import org.aub.payzenapi.partition.AttendanceQueryBounds;
+import org.aub.payzenapi.repository.mybatis.AttendanceQueryMapper;
+import org.aub.payzenapi.repository.mybatis.EmployeeQueryMapper;
+import org.aub.payzenapi.repository.mybatis.PayrollSnapshotMapper;
+import org.aub.payzenapi.repository.mybatis.PayslipQueryMapper;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs EXPLAIN over the SQL of each repository and read-mapper query against a seeded
+ * org and fails if any of them sequentially scans one of the large tables, i.e. if a
+ * query has no index to use from the migrations in db/migration.
+ * <p>
+ * The SQL is the application's own: MyBatis statements are rendered from their mapped
+ * statement with the given parameters, and JPA queries are run through the repository
+ * while a StatementInspector records what Hibernate sends. Rows are inserted in the order
+ * production writes them (attendance day by day, payslips month by month) so the planner
+ * sees realistic physical correlation. Full-org aggregates (payroll snapshot, dashboard
+ * status counts) read most of a table by design and are not held to the no-seq-scan rule;
+ * the payroll snapshot is only checked for partition pruning.
+ * <p>
+ * Seeds and deletes rows, so it only runs against a throwaway database that Flyway
+ * migrates on startup: {@code mvn -Pqueryplan test -Dqueryplan.datasource.url=jdbc:postgresql://...}
+ */
+@Tag("queryplan")
+@EnabledIfSystemProperty(named = "queryplan.datasource.url", matches = ".+")
+@SpringBootTest(properties = "payzen.monitoring.slow-request.enabled=false")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    private static final int EMPLOYEES = 10_000;
+    private static final int ATTENDANCE_DAYS = 60;
+    private static final int PAYSLIP_MONTHS = 6;
+    private static final Set<String> LARGE_TABLES =
+            Set.of("employees", "attendances", "payslips", "attendance_monthly_totals");
+    private static final String SEEDED = "SELECT employee_id FROM employees WHERE employee_code LIKE 'QP%'";
+
+    @DynamicPropertySource
+    static void throwawayDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("queryplan.datasource.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("queryplan.datasource.username", "postgres"));
+        registry.add("spring.datasource.password", () -> System.getProperty("queryplan.datasource.password", ""));
+    }
+
+    @TestConfiguration
+    static class RecordSql {
+
+        @Bean
+        HibernatePropertiesCustomizer recordingStatementInspector() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new RecordingInspector());
+        }
+    }
+
+    // Collects the SQL Hibernate prepares on the calling thread while a recording is open
+    static class RecordingInspector implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+        @Override
+        public String inspect(String sql) {
+            List<String> recorded = RECORDED.get();
+            if (recorded != null) {
+                recorded.add(sql);
+            }
+            return sql;
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    private AttendanceQueryBounds attendanceQueryBounds;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private AttendanceMonthlyTotalRepository monthlyTotalRepository;
+
+    @Autowired
+    private PayslipRepository payslipRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LocalDate today = LocalDate.now();
+    private final YearMonth lastMonth = YearMonth.now().minusMonths(1);
+    private UUID employeeId;
+
+    @BeforeAll
+    void seed() {
+        deleteSeeded();
+        jdbcTemplate.update("""
+                INSERT INTO employees (employee_id, employee_code, first_name, last_name, email, hire_date,
+                                       department, position, base_salary, status, created_at, updated_at)
+                SELECT gen_random_uuid(), 'QP' || lpad(g::text, 6, '0'), 'First' || g, 'Last' || g,
+                       'qp-' || g || '@payzen.test', DATE '2020-01-01', 'Dept ' || (g / 50), 'Analyst',
+                       1000 + g % 3000, CASE WHEN g <= 50 THEN 'TERMINATED' ELSE 'ACTIVE' END,
+                       now() - make_interval(secs => ? - g), now()
+                FROM generate_series(1, ?) g
+                """, EMPLOYEES, EMPLOYEES);
+        jdbcTemplate.update("""
+                INSERT INTO attendances (attendance_id, employee_id, attendance_date, check_in_time, check_out_time,
+                                         break_duration_minutes, total_hours_worked, worked_minutes, status,
+                                         version, created_at)
+                SELECT gen_random_uuid(), e.employee_id, CURRENT_DATE - d, TIME '08:00', TIME '17:00', 60, 8.00, 480,
+                       CASE WHEN (d + e.rn) % 20 = 0 THEN 'ABSENT' ELSE 'PRESENT' END, 0, now()
+                FROM generate_series(?, 0, -1) d
+                CROSS JOIN (SELECT employee_id, row_number() OVER (ORDER BY employee_code) AS rn
+                            FROM employees WHERE employee_code LIKE 'QP%') e
+                ORDER BY d DESC, e.rn
+                """, ATTENDANCE_DAYS - 1);
+        jdbcTemplate.update("""
+                INSERT INTO payslips (payslip_id, employee_id, pay_period_start, pay_period_end, base_salary,
+                                      tax_deduction, gross_salary, net_salary, status, version, created_at)
+                SELECT gen_random_uuid(), e.employee_id,
+                       date_trunc('month', now()) - make_interval(months => m),
+                       date_trunc('month', now()) - make_interval(months => m - 1) - interval '1 second',
+                       e.base_salary, e.base_salary * 0.1, e.base_salary, e.base_salary * 0.9,
+                       CASE WHEN m > 1 THEN 'PAID' ELSE 'GENERATED' END, 0,
+                       date_trunc('month', now()) - make_interval(months => m - 1)
+                FROM generate_series(?, 1, -1) m
+                CROSS JOIN (SELECT employee_id, employee_code, base_salary FROM employees
+                            WHERE employee_code LIKE 'QP%') e
+                ORDER BY m DESC, e.employee_code
+                """, PAYSLIP_MONTHS);
+        jdbcTemplate.update("""
+                INSERT INTO attendance_monthly_totals (employee_id, month, present_minutes, present_days, absent_days,
+                                                       late_days, half_days, sick_leave_days, vacation_days,
+                                                       holiday_days, updated_at)
+                SELECT employee_id, CAST(date_trunc('month', attendance_date) AS date),
+                       COALESCE(SUM(worked_minutes) FILTER (WHERE status = 'PRESENT'), 0),
+                       COUNT(*) FILTER (WHERE status = 'PRESENT'), COUNT(*) FILTER (WHERE status = 'ABSENT'),
+                       0, 0, 0, 0, 0, now()
+                FROM attendances WHERE employee_id IN (""" + SEEDED + """
+                )
+                GROUP BY employee_id, CAST(date_trunc('month', attendance_date) AS date)
+                ON CONFLICT (employee_id, month) DO NOTHING
+                """);
+        for (String table : LARGE_TABLES) {
+            jdbcTemplate.execute("ANALYZE " + table);
+        }
+        employeeId = jdbcTemplate.queryForObject(
+                "SELECT employee_id FROM employees WHERE employee_code = 'QP004321'", UUID.class);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        deleteSeeded();
+    }
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueriesUseIndexes() {
+        LocalDateTime periodStart = lastMonth.atDay(1).atStartOfDay();
+        LocalDateTime periodEnd = lastMonth.atEndOfMonth().atTime(23, 59, 59);
+        LocalDate weekAgo = today.minusDays(7);
+        AttendanceQueryBounds.DateRange defaults = attendanceQueryBounds.resolve(null, null);
+
+        return Stream.of(
+                // AttendanceRepository
+                plan("AttendanceRepository.findByEmployeeAndAttendanceDateBetween", () -> explainJpa(
+                        () -> attendanceRepository.findByEmployeeAndAttendanceDateBetween(employee(), weekAgo, today),
+                        employeeId, weekAgo, today)),
+                plan("AttendanceRepository.findByEmployeeAndAttendanceDate", () -> explainJpa(
+                        () -> attendanceRepository.findByEmployeeAndAttendanceDate(employee(), today),
+                        employeeId, today)),
+                plan("AttendanceRepository.findByAttendanceDateAndStatus", () -> explainJpa(
+                        () -> attendanceRepository.findByAttendanceDateAndStatus(today, AttendanceStatus.ABSENT),
+                        today, AttendanceStatus.ABSENT.name())),
+                plan("AttendanceRepository.getTotalHoursWorkedByEmployeeInPeriod", () -> explainJpa(
+                        () -> attendanceRepository.getTotalHoursWorkedByEmployeeInPeriod(
+                                employee(), lastMonth.atDay(1), lastMonth.atEndOfMonth()),
+                        employeeId, lastMonth.atDay(1), lastMonth.atEndOfMonth())),
+                plan("AttendanceRepository.sumPresentMinutes", () -> explainJpa(
+                        () -> attendanceRepository.sumPresentMinutes(employeeId, weekAgo, today),
+                        employeeId, weekAgo, today)),
+                plan("AttendanceMonthlyTotalRepository.sumPresentMinutes", () -> explainJpa(
+                        () -> monthlyTotalRepository.sumPresentMinutes(
+                                employeeId, lastMonth.minusMonths(1).atDay(1), lastMonth.atDay(1)),
+                        employeeId, lastMonth.minusMonths(1).atDay(1), lastMonth.atDay(1))),
+
+                // AttendanceQueryMapper.findAttendances, with the default bounds from AttendanceQueryBounds
+                plan("AttendanceQueryMapper.findAttendances (first page)", () -> explainMapper(
+                        AttendanceQueryMapper.class, "findAttendances",
+                        params("startDate", defaults.startDate(), "endDate", defaults.endDate(),
+                                "orderBy", AttendanceQueryMapper.DEFAULT_SORT, "limit", 21, "offset", 0L))),
+                plan("AttendanceQueryMapper.findAttendances (employee)", () -> explainMapper(
+                        AttendanceQueryMapper.class, "findAttendances",
+                        params("employeeId", employeeId, "startDate", defaults.startDate(), "endDate", defaults.endDate(),
+                                "orderBy", AttendanceQueryMapper.DEFAULT_SORT, "limit", 21, "offset", 0L))),
+                plan("AttendanceQueryMapper.findAttendances (today, status)", () -> explainMapper(
+                        AttendanceQueryMapper.class, "findAttendances",
+                        params("startDate", today, "endDate", today, "status", AttendanceStatus.ABSENT,
+                                "orderBy", AttendanceQueryMapper.DEFAULT_SORT, "limit", 21, "offset", 0L))),
+
+                // PayslipRepository
+                plan("PayslipRepository.findByEmployee", () -> explainJpa(
+                        () -> payslipRepository.findByEmployee(employee()),
+                        employeeId)),
+                plan("PayslipRepository.findByEmployeeAndPayPeriodStartAndPayPeriodEnd", () -> explainJpa(
+                        () -> payslipRepository.findByEmployeeAndPayPeriodStartAndPayPeriodEnd(
+                                employee(), periodStart, periodEnd),
+                        employeeId, periodStart, periodEnd)),
+                plan("PayslipRepository.findByStatus", () -> explainJpa(
+                        () -> payslipRepository.findByStatus(PayslipStatus.DRAFT),
+                        PayslipStatus.DRAFT.name())),
+                // A later export batch: every filter set and a keyset cursor
+                plan("PayslipRepository.findPayslipBatchWithFilters (department, period)", () -> explainJpa(
+                        () -> payslipRepository.findPayslipBatchWithFilters(periodStart, periodEnd, "Dept 42",
+                                PayslipStatus.GENERATED, new UUID(0, 0), Limit.of(200)),
+                        periodStart, periodStart, periodEnd, periodEnd, "Dept 42", "Dept 42",
+                        PayslipStatus.GENERATED.name(), PayslipStatus.GENERATED.name(),
+                        new UUID(0, 0), new UUID(0, 0), 200)),
+
+                // PayslipQueryMapper
+                plan("PayslipQueryMapper.findPayslips (first page)", () -> explainMapper(
+                        PayslipQueryMapper.class, "findPayslips",
+                        params("orderBy", PayslipQueryMapper.DEFAULT_SORT, "limit", 21, "offset", 0L))),
+                plan("PayslipQueryMapper.findPayslips (period)", () -> explainMapper(
+                        PayslipQueryMapper.class, "findPayslips",
+                        params("startDate", periodStart, "endDate", periodEnd,
+                                "orderBy", PayslipQueryMapper.DEFAULT_SORT, "limit", 21, "offset", 0L))),
+                plan("PayslipQueryMapper.findByEmployee", () -> explainMapper(
+                        PayslipQueryMapper.class, "findByEmployee",
+                        params("employeeId", employeeId))),
+                plan("PayslipQueryMapper.summarize (one month)", () -> explainMapper(
+                        PayslipQueryMapper.class, "summarize",
+                        params("startDate", periodStart, "endDate", periodEnd))),
+
+                // EmployeeRepository / EmployeeQueryMapper
+                plan("EmployeeRepository.findByStatus", () -> explainJpa(
+                        () -> employeeRepository.findByStatus(EmployeeStatus.TERMINATED),
+                        EmployeeStatus.TERMINATED.name())),
+                plan("EmployeeRepository.findByDepartment", () -> explainJpa(
+                        () -> employeeRepository.findByDepartment("Dept 42"),
+                        "Dept 42")),
+                plan("EmployeeQueryMapper.findEmployees (first page)", () -> explainMapper(
+                        EmployeeQueryMapper.class, "findEmployees",
+                        params("orderBy", EmployeeQueryMapper.DEFAULT_SORT, "limit", 21, "offset", 0L))),
+                plan("EmployeeQueryMapper.findEmployees (name search)", () -> explainMapper(
+                        EmployeeQueryMapper.class, "findEmployees",
+                        params("name", "last4321", "orderBy", EmployeeQueryMapper.DEFAULT_SORT, "limit", 21, "offset", 0L))),
+                plan("EmployeeQueryMapper.findEmployees (department search)", () -> explainMapper(
+                        EmployeeQueryMapper.class, "findEmployees",
+                        params("department", "dept 42", "orderBy", EmployeeQueryMapper.DEFAULT_SORT, "limit", 21, "offset", 0L)))
+        );
+    }
+
+    // attendances is partitioned by month; date-bounded queries must only touch those months
+    @TestFactory
+    Stream<DynamicTest> attendanceQueriesPrunePartitions() {
+        LocalDate monthStart = today.withDayOfMonth(1);
+        LocalDate weekAgo = today.minusDays(7);
+        return Stream.of(
+                pruned("/attendance/today", 1, () -> explainMapper(
+                        AttendanceQueryMapper.class, "findAttendances",
+                        params("startDate", today, "endDate", today,
+                                "orderBy", "a.created_at DESC", "limit", 21, "offset", 0L))),
+                pruned("AttendanceRepository.sumPresentMinutes (current period)", 1, () -> explainJpa(
+                        () -> attendanceRepository.sumPresentMinutes(employeeId, monthStart, today),
+                        employeeId, monthStart, today)),
+                pruned("PayrollSnapshotMapper.streamActiveEmployees (current period)", 1, () -> explainMapper(
+                        PayrollSnapshotMapper.class, "streamActiveEmployees",
+                        params("startDate", monthStart, "endDate", today))),
+                pruned("AttendanceRepository.findByEmployeeAndAttendanceDateBetween (week)", 2, () -> explainJpa(
+                        () -> attendanceRepository.findByEmployeeAndAttendanceDateBetween(employee(), weekAgo, today),
+                        employeeId, weekAgo, today))
+        );
+    }
+
+    // Renders the mapped statement as MyBatis would for these parameters and binds them
+    // with its own type handlers
+    private String explainMapper(Class<?> mapper, String method, Map<String, Object> params) {
+        MappedStatement statement = sqlSessionFactory.getConfiguration()
+                .getMappedStatement(mapper.getName() + "." + method);
+        BoundSql boundSql = statement.getBoundSql(params);
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + boundSql.getSql())) {
+                new DefaultParameterHandler(statement, params, boundSql).setParameters(ps);
+                try (ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                    return rs.getString(1);
+                }
+            }
+        });
+    }
+
+    // Runs the repository call, takes the first statement Hibernate prepared for it and
+    // explains that with the arguments in placeholder order
+    private String explainJpa(Runnable call, Object... args) {
+        List<String> recorded = new ArrayList<>();
+        RecordingInspector.RECORDED.set(recorded);
+        try {
+            call.run();
+        } finally {
+            RecordingInspector.RECORDED.remove();
+        }
+        assertFalse(recorded.isEmpty(), "the repository call prepared no statement");
+        String sql = recorded.getFirst();
+        long placeholders = sql.chars().filter(c -> c == '?').count();
+        assertEquals(args.length, placeholders, () -> "argument count does not match the placeholders of " + sql);
+        return jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class, args);
+    }
+
+    private Employee employee() {
+        return employeeRepository.getReferenceById(employeeId);
+    }
+
+    private static Map<String, Object> params(Object... keysAndValues) {
+        Map<String, Object> params = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            params.put((String) keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return params;
+    }
+
+    private DynamicTest pruned(String name, int maxPartitions, Supplier<String> explain) {
+        return DynamicTest.dynamicTest(name, () -> {
+            String json = explain.get();
+            Set<String> partitions = new TreeSet<>();
+            collectRelations(objectMapper.readTree(json).get(0).get("Plan"), "attendances_", partitions);
+            assertTrue(partitions.size() <= maxPartitions,
+                    () -> name + " touches " + partitions + ", expected at most " + maxPartitions + ":\n" + json);
+        });
+    }
+
+    private static void collectRelations(JsonNode node, String prefix, Set<String> relations) {
+        String relation = node.path("Relation Name").asText();
+        if (relation.startsWith(prefix)) {
+            relations.add(relation);
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectRelations(child, prefix, relations);
+        }
+    }
+
+    private DynamicTest plan(String name, Supplier<String> explain) {
+        return DynamicTest.dynamicTest(name, () -> {
+            String json = explain.get();
+            JsonNode plan = objectMapper.readTree(json).get(0).get("Plan");
+            List<String> seqScans = new ArrayList<>();
+            collectSeqScans(plan, seqScans);
+            // Empty partitions (months ahead, the default partition) cost nothing to scan
+            seqScans.removeIf(relation -> !Boolean.TRUE.equals(
+                    jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM " + relation + ")", Boolean.class)));
+            assertTrue(seqScans.isEmpty(), () -> name + " sequentially scans " + seqScans + ":\n" + json);
+        });
+    }
+
+    private static void collectSeqScans(JsonNode node, List<String> seqScans) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            String relation = node.path("Relation Name").asText();
+            // Partitions are named after their parent, e.g. attendances_2024_01
+            if (LARGE_TABLES.stream().anyMatch(table -> relation.equals(table) || relation.startsWith(table + "_"))) {
+                seqScans.add(relation);
+            }
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSeqScans(child, seqScans);
+        }
+    }
+
+    private void deleteSeeded() {
+        jdbcTemplate.update("DELETE FROM attendance_monthly_totals WHERE employee_id IN (" + SEEDED + ")");
+        jdbcTemplate.update("DELETE FROM attendances WHERE employee_id IN (" + SEEDED + ")");
+        jdbcTemplate.update("DELETE FROM payslips WHERE employee_id IN (" + SEEDED + ")");
+        jdbcTemplate.update("DELETE FROM employees WHERE employee_code LIKE 'QP%'");
+    }
+}
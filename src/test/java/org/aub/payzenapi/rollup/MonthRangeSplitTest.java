@@ -0,0 +1,57 @@
+package org.aub.payzenapi.rollup;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonthRangeSplitTest {
+
+    @Test
+    void rangeInsideOneMonthIsAllLeadingDays() {
+        MonthRangeSplit split = MonthRangeSplit.of(LocalDate.of(2025, 3, 5), LocalDate.of(2025, 3, 20));
+
+        assertFalse(split.hasWholeMonths());
+        assertEquals(LocalDate.of(2025, 3, 5), split.leadingStart());
+        assertEquals(LocalDate.of(2025, 3, 20), split.leadingEnd());
+        assertFalse(split.hasTrailing());
+    }
+
+    @Test
+    void exactMonthsHaveNoEdges() {
+        MonthRangeSplit split = MonthRangeSplit.of(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 31));
+
+        assertEquals(LocalDate.of(2025, 1, 1), split.firstMonth());
+        assertEquals(LocalDate.of(2025, 3, 1), split.lastMonth());
+        assertFalse(split.hasLeading());
+        assertFalse(split.hasTrailing());
+    }
+
+    @Test
+    void partialMonthsAtBothEnds() {
+        MonthRangeSplit split = MonthRangeSplit.of(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 4, 10));
+
+        assertEquals(LocalDate.of(2024, 1, 15), split.leadingStart());
+        assertEquals(LocalDate.of(2024, 1, 31), split.leadingEnd());
+        assertEquals(LocalDate.of(2024, 2, 1), split.firstMonth());
+        assertEquals(LocalDate.of(2024, 3, 1), split.lastMonth());
+        assertEquals(LocalDate.of(2024, 4, 1), split.trailingStart());
+        assertEquals(LocalDate.of(2024, 4, 10), split.trailingEnd());
+    }
+
+    @Test
+    void adjacentPartialMonthsWithoutWholeMonth() {
+        MonthRangeSplit split = MonthRangeSplit.of(LocalDate.of(2024, 2, 20), LocalDate.of(2024, 3, 10));
+
+        assertFalse(split.hasWholeMonths());
+        assertEquals(LocalDate.of(2024, 2, 20), split.leadingStart());
+        assertEquals(LocalDate.of(2024, 3, 10), split.leadingEnd());
+    }
+
+    @Test
+    void rejectsReversedRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> MonthRangeSplit.of(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 2, 1)));
+    }
+}
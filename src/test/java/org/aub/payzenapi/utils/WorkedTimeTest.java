@@ -0,0 +1,45 @@
+package org.aub.payzenapi.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class WorkedTimeTest {
+
+    @Test
+    void dayShiftLessBreak() {
+        assertEquals(480, WorkedTime.workedMinutes(LocalTime.of(8, 0), LocalTime.of(17, 0), 60));
+    }
+
+    @Test
+    void overnightShiftEndsNextDay() {
+        assertEquals(420, WorkedTime.workedMinutes(LocalTime.of(22, 0), LocalTime.of(6, 0), 60));
+    }
+
+    @Test
+    void secondsAreDroppedFromTheWholeShift() {
+        // 7h59m30s, so 479 whole minutes on both sides of midnight
+        assertEquals(479, WorkedTime.workedMinutes(LocalTime.of(22, 0, 30), LocalTime.of(6, 0), null));
+        assertEquals(479, WorkedTime.workedMinutes(LocalTime.of(8, 0, 30), LocalTime.of(16, 0), null));
+    }
+
+    @Test
+    void breakLongerThanShiftIsZero() {
+        assertEquals(0, WorkedTime.workedMinutes(LocalTime.of(9, 0), LocalTime.of(9, 30), 45));
+    }
+
+    @Test
+    void nullBreakCountsAsNone() {
+        assertEquals(200, WorkedTime.workedMinutes(LocalTime.of(9, 0), LocalTime.of(12, 20), null));
+    }
+
+    @Test
+    void hoursAreRoundedToTwoPlacesOnlyAtTheEnd() {
+        // Three 20-minute entries are exactly one hour; summing 0.33 three times would give 0.99
+        assertEquals(new BigDecimal("1.00"), WorkedTime.toHours(20 + 20 + 20));
+        assertEquals(new BigDecimal("0.33"), WorkedTime.toHours(20));
+    }
+}